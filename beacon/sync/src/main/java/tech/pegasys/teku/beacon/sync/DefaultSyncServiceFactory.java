@@ -173,7 +173,8 @@ public class DefaultSyncServiceFactory implements SyncServiceFactory {
         syncConfig.isReconstructHistoricStatesEnabled(),
         genesisStateResource,
         syncConfig.fetchAllHistoricBlocks(),
-        syncConfig.getHistoricalSyncBatchSize());
+        syncConfig.getHistoricalSyncBatchSize(),
+        syncConfig.getHistoricalSyncMaxConcurrentBatches());
   }
 
   protected SyncStateTracker createSyncStateTracker(final ForwardSync forwardSync) {
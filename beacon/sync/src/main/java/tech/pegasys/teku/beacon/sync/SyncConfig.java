@@ -25,6 +25,7 @@ public class SyncConfig {
   public static final boolean DEFAULT_FETCH_ALL_HISTORIC_BLOCKS = true;
 
   public static final int DEFAULT_HISTORICAL_SYNC_BATCH_SIZE = 50;
+  public static final int DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES = 1;
   public static final int DEFAULT_FORWARD_SYNC_BATCH_SIZE = 25;
   public static final int DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES = 5;
 
@@ -39,6 +40,7 @@ public class SyncConfig {
   private final boolean reconstructHistoricStatesEnabled;
   private final boolean fetchAllHistoricBlocks;
   private final int historicalSyncBatchSize;
+  private final int historicalSyncMaxConcurrentBatches;
   private final int forwardSyncBatchSize;
   private final int forwardSyncMaxPendingBatches;
   private final int forwardSyncMaxBlocksPerMinute;
@@ -51,6 +53,7 @@ public class SyncConfig {
       final boolean reconstructHistoricStatesEnabled,
       final boolean fetchAllHistoricBlocks,
       final int historicalSyncBatchSize,
+      final int historicalSyncMaxConcurrentBatches,
       final int forwardSyncBatchSize,
       final int forwardSyncMaxPendingBatches,
       final int forwardSyncMaxBlocksPerMinute,
@@ -61,6 +64,7 @@ public class SyncConfig {
     this.reconstructHistoricStatesEnabled = reconstructHistoricStatesEnabled;
     this.fetchAllHistoricBlocks = fetchAllHistoricBlocks;
     this.historicalSyncBatchSize = historicalSyncBatchSize;
+    this.historicalSyncMaxConcurrentBatches = historicalSyncMaxConcurrentBatches;
     this.forwardSyncBatchSize = forwardSyncBatchSize;
     this.forwardSyncMaxPendingBatches = forwardSyncMaxPendingBatches;
     this.forwardSyncMaxBlocksPerMinute = forwardSyncMaxBlocksPerMinute;
@@ -92,6 +96,10 @@ public class SyncConfig {
     return historicalSyncBatchSize;
   }
 
+  public int getHistoricalSyncMaxConcurrentBatches() {
+    return historicalSyncMaxConcurrentBatches;
+  }
+
   public int getForwardSyncBatchSize() {
     return forwardSyncBatchSize;
   }
@@ -118,6 +126,8 @@ public class SyncConfig {
     private Boolean reconstructHistoricStatesEnabled = DEFAULT_RECONSTRUCT_HISTORIC_STATES_ENABLED;
     private boolean fetchAllHistoricBlocks = DEFAULT_FETCH_ALL_HISTORIC_BLOCKS;
     private Integer historicalSyncBatchSize = DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
+    private Integer historicalSyncMaxConcurrentBatches =
+        DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES;
     private Integer forwardSyncBatchSize = DEFAULT_FORWARD_SYNC_BATCH_SIZE;
     private Integer forwardSyncMaxPendingBatches = DEFAULT_FORWARD_SYNC_MAX_PENDING_BATCHES;
     private Integer forwardSyncMaxBlocksPerMinute = DEFAULT_FORWARD_SYNC_MAX_BLOCKS_PER_MINUTE;
@@ -135,6 +145,7 @@ public class SyncConfig {
           reconstructHistoricStatesEnabled,
           fetchAllHistoricBlocks,
           historicalSyncBatchSize,
+          historicalSyncMaxConcurrentBatches,
           forwardSyncBatchSize,
           forwardSyncMaxPendingBatches,
           forwardSyncMaxBlocksPerMinute,
@@ -173,6 +184,13 @@ public class SyncConfig {
       return this;
     }
 
+    public Builder historicalSyncMaxConcurrentBatches(
+        final Integer historicalSyncMaxConcurrentBatches) {
+      checkNotNull(historicalSyncMaxConcurrentBatches);
+      this.historicalSyncMaxConcurrentBatches = historicalSyncMaxConcurrentBatches;
+      return this;
+    }
+
     public Builder forwardSyncBatchSize(final Integer forwardSyncBatchSize) {
       checkNotNull(forwardSyncBatchSize);
       this.forwardSyncBatchSize = forwardSyncBatchSize;
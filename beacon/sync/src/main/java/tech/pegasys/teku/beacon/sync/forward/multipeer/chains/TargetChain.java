@@ -13,12 +13,16 @@
 
 package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Set;
 import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
@@ -52,12 +56,41 @@ public class TargetChain {
     return chainHead;
   }
 
+  /**
+   * Selects a random peer, favouring peers which have delivered blocks faster. Peers which haven't
+   * been measured yet are weighted as an average peer so they still get a chance to be measured.
+   */
   public Optional<SyncSource> selectRandomPeer(final SyncSource... excluding) {
+    return selectRandomPeer(Math.random(), excluding);
+  }
+
+  @VisibleForTesting
+  Optional<SyncSource> selectRandomPeer(final double random, final SyncSource... excluding) {
     final Set<SyncSource> excludedPeers = Set.of(excluding);
-    return peers.stream()
-        .filter(peer -> !excludedPeers.contains(peer))
-        .skip((int) ((peers.size() - excludedPeers.size()) * Math.random()))
-        .findFirst();
+    final List<SyncSource> candidates =
+        peers.stream().filter(peer -> !excludedPeers.contains(peer)).toList();
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    final double defaultWeight =
+        candidates.stream()
+            .map(SyncSource::getAverageBlocksPerSecond)
+            .filter(OptionalDouble::isPresent)
+            .mapToDouble(OptionalDouble::getAsDouble)
+            .average()
+            .orElse(1);
+    final double[] weights =
+        candidates.stream()
+            .mapToDouble(peer -> peer.getAverageBlocksPerSecond().orElse(defaultWeight))
+            .toArray();
+    double remaining = random * Arrays.stream(weights).sum();
+    for (int i = 0; i < candidates.size(); i++) {
+      remaining -= weights[i];
+      if (remaining < 0) {
+        return Optional.of(candidates.get(i));
+      }
+    }
+    return Optional.of(candidates.getLast());
   }
 
   @Override
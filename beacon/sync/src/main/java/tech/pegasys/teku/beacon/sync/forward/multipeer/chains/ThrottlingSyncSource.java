@@ -17,6 +17,7 @@ import com.google.common.annotations.VisibleForTesting;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -161,6 +162,11 @@ public class ThrottlingSyncSource implements SyncSource {
     }
   }
 
+  @Override
+  public OptionalDouble getAverageBlocksPerSecond() {
+    return delegate.getAverageBlocksPerSecond();
+  }
+
   @Override
   public SafeFuture<Void> disconnectCleanly(final DisconnectReason reason) {
     return delegate.disconnectCleanly(reason);
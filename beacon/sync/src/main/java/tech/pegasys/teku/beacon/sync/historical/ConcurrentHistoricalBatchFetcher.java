@@ -0,0 +1,178 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
+import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.storage.api.StorageUpdateChannel;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Fetches several consecutive batches of blocks concurrently, each from a different peer, and
+ * stores them with a single write.
+ *
+ * <p>Only the newest batch is anchored by a known block root, so the responses are verified in a
+ * single pass from the newest block backwards, following parent roots across batch boundaries. Any
+ * block which doesn't continue the chain ends the pass and the blocks before it are dropped to be
+ * fetched again in the next round.
+ *
+ * <p>Blob sidecars are not fetched, so this must only be used for ranges where blob sidecars are
+ * not required.
+ */
+public class ConcurrentHistoricalBatchFetcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final StorageUpdateChannel storageUpdateChannel;
+  private final HistoricalBlockSignatureVerifier signatureVerifier;
+  private final List<Eth2Peer> peers;
+  private final UInt64 maxSlot;
+  private final Bytes32 lastBlockRoot;
+  private final UInt64 batchSize;
+
+  /**
+   * @param storageUpdateChannel The storage channel where finalized blocks will be imported
+   * @param peers The peers to request blocks from, one batch per peer starting from the newest
+   * @param maxSlot The maxSlot to pull
+   * @param lastBlockRoot The block root that defines the last block in the newest batch
+   * @param batchSize The number of slots to request from each peer
+   */
+  public ConcurrentHistoricalBatchFetcher(
+      final StorageUpdateChannel storageUpdateChannel,
+      final AsyncBLSSignatureVerifier signatureVerifier,
+      final CombinedChainDataClient chainDataClient,
+      final Spec spec,
+      final List<Eth2Peer> peers,
+      final UInt64 maxSlot,
+      final Bytes32 lastBlockRoot,
+      final UInt64 batchSize) {
+    this.storageUpdateChannel = storageUpdateChannel;
+    this.signatureVerifier =
+        new HistoricalBlockSignatureVerifier(spec, chainDataClient, signatureVerifier);
+    this.peers = peers;
+    this.maxSlot = maxSlot;
+    this.lastBlockRoot = lastBlockRoot;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Fetch the batches, save the blocks which form a chain with {@link #lastBlockRoot} to the
+   * database, and return the new value for the earliest block.
+   *
+   * @return A future that resolves with the earliest block pulled and saved, or empty if no block
+   *     could be verified.
+   */
+  public SafeFuture<Optional<BeaconBlockSummary>> run() {
+    final List<SafeFuture<Optional<List<SignedBeaconBlock>>>> batches = new ArrayList<>();
+    UInt64 batchEndSlot = maxSlot;
+    for (final Eth2Peer peer : peers) {
+      final UInt64 startSlot = batchEndSlot.plus(1).minusMinZero(batchSize);
+      batches.add(requestBatch(peer, startSlot, batchEndSlot.plus(1).minus(startSlot)));
+      if (startSlot.isZero()) {
+        break;
+      }
+      batchEndSlot = startSlot.minus(1);
+    }
+
+    return SafeFuture.collectAll(batches.stream())
+        .thenApply(this::collectVerifiedChain)
+        .thenCompose(
+            chain -> {
+              if (chain.isEmpty()) {
+                return SafeFuture.completedFuture(Optional.empty());
+              }
+              return signatureVerifier
+                  .verify(chain)
+                  .thenCompose(
+                      __ ->
+                          storageUpdateChannel.onFinalizedBlocks(
+                              chain, Map.of(), Optional.empty()))
+                  .thenApply(
+                      __ -> {
+                        final SignedBeaconBlock newEarliestBlock = chain.getFirst();
+                        LOG.trace(
+                            "Stored {} historical blocks, earliest block is now from slot {}",
+                            chain.size(),
+                            newEarliestBlock.getSlot());
+                        return Optional.of(newEarliestBlock);
+                      });
+            });
+  }
+
+  private SafeFuture<Optional<List<SignedBeaconBlock>>> requestBatch(
+      final Eth2Peer peer, final UInt64 startSlot, final UInt64 count) {
+    LOG.trace("Request {} blocks from {} starting at {}", count, peer, startSlot);
+    final List<SignedBeaconBlock> blocks = Collections.synchronizedList(new ArrayList<>());
+    return peer.requestBlocksByRange(startSlot, count, RpcResponseListener.from(blocks::add))
+        .thenApply(__ -> Optional.of(List.copyOf(blocks)))
+        .exceptionally(
+            error -> {
+              LOG.debug(
+                  "Failed to request historical blocks from {} starting at {}",
+                  peer,
+                  startSlot,
+                  error);
+              return Optional.empty();
+            });
+  }
+
+  /**
+   * @param batches the responses ordered from the newest batch to the oldest, each with blocks in
+   *     ascending slot order
+   * @return the blocks which form a chain ending at {@link #lastBlockRoot}, in ascending slot order
+   */
+  private List<SignedBeaconBlock> collectVerifiedChain(
+      final List<Optional<List<SignedBeaconBlock>>> batches) {
+    final List<SignedBeaconBlock> chain = new ArrayList<>();
+    Bytes32 expectedRoot = lastBlockRoot;
+    for (final Optional<List<SignedBeaconBlock>> batch : batches) {
+      if (batch.isEmpty()) {
+        // Failed request, we can't know whether the next batch continues the chain
+        break;
+      }
+      final List<SignedBeaconBlock> blocks = batch.get();
+      for (int i = blocks.size() - 1; i >= 0; i--) {
+        final SignedBeaconBlock block = blocks.get(i);
+        if (!block.getRoot().equals(expectedRoot)) {
+          LOG.debug(
+              "Historical block {} does not continue the chain, expected root {}",
+              block.toLogString(),
+              expectedRoot);
+          return ascending(chain);
+        }
+        chain.add(block);
+        expectedRoot = block.getParentRoot();
+      }
+    }
+    return ascending(chain);
+  }
+
+  private static List<SignedBeaconBlock> ascending(final List<SignedBeaconBlock> descendingChain) {
+    Collections.reverse(descendingChain);
+    return descendingChain;
+  }
+}
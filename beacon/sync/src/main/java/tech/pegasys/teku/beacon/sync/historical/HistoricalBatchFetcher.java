@@ -31,10 +31,7 @@ import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.bls.BLSPublicKey;
-import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -42,16 +39,11 @@ import tech.pegasys.teku.networking.eth2.peers.Eth2Peer;
 import tech.pegasys.teku.networking.eth2.rpc.core.InvalidResponseException;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
 import tech.pegasys.teku.spec.Spec;
-import tech.pegasys.teku.spec.config.SpecConfig;
-import tech.pegasys.teku.spec.constants.Domain;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
-import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BlobIdentifier;
-import tech.pegasys.teku.spec.datastructures.state.Fork;
-import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.availability.DataAndValidationResult;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
@@ -78,8 +70,7 @@ public class HistoricalBatchFetcher {
       new ConcurrentHashMap<>();
   private Optional<UInt64> maybeEarliestBlobSidecarSlot = Optional.empty();
   private final AtomicInteger requestCount = new AtomicInteger(0);
-  private final AsyncBLSSignatureVerifier signatureVerificationService;
-  private final CombinedChainDataClient chainDataClient;
+  private final HistoricalBlockSignatureVerifier signatureVerifier;
 
   /**
    * @param storageUpdateChannel The storage channel where finalized blocks will be imported
@@ -124,8 +115,8 @@ public class HistoricalBatchFetcher {
       final UInt64 batchSize,
       final int maxRequests) {
     this.storageUpdateChannel = storageUpdateChannel;
-    this.signatureVerificationService = signatureVerifier;
-    this.chainDataClient = chainDataClient;
+    this.signatureVerifier =
+        new HistoricalBlockSignatureVerifier(spec, chainDataClient, signatureVerifier);
     this.spec = spec;
     this.blobSidecarManager = blobSidecarManager;
     this.peer = peer;
@@ -342,53 +333,7 @@ public class HistoricalBatchFetcher {
 
   SafeFuture<Void> batchVerifyHistoricalBlockSignatures(
       final Collection<SignedBeaconBlock> blocks) {
-
-    return chainDataClient
-        .getBestState()
-        .orElseThrow()
-        .thenCompose(bestState -> batchVerifyHistoricalBlockSignature(blocks, bestState));
-  }
-
-  private SafeFuture<Void> batchVerifyHistoricalBlockSignature(
-      final Collection<SignedBeaconBlock> blocks, final BeaconState bestState) {
-    final List<BLSSignature> signatures = new ArrayList<>();
-    final List<Bytes> signingRoots = new ArrayList<>();
-    final List<List<BLSPublicKey>> proposerPublicKeys = new ArrayList<>();
-
-    final Bytes32 genesisValidatorsRoot = bestState.getForkInfo().getGenesisValidatorsRoot();
-
-    blocks.forEach(
-        signedBlock -> {
-          final BeaconBlock block = signedBlock.getMessage();
-          if (block.getSlot().isGreaterThan(SpecConfig.GENESIS_SLOT)) {
-            final UInt64 epoch = spec.computeEpochAtSlot(block.getSlot());
-            final Fork fork = spec.fork(epoch);
-            final Bytes32 domain =
-                spec.getDomain(Domain.BEACON_PROPOSER, epoch, fork, genesisValidatorsRoot);
-            signatures.add(signedBlock.getSignature());
-            signingRoots.add(spec.computeSigningRoot(block, domain));
-            final BLSPublicKey proposerPublicKey =
-                spec.getValidatorPubKey(bestState, block.getProposerIndex())
-                    .orElseThrow(
-                        () ->
-                            new IllegalStateException(
-                                "Proposer has to be in the state since state is more recent than the block proposed"));
-            proposerPublicKeys.add(List.of(proposerPublicKey));
-          }
-        });
-
-    if (signatures.isEmpty()) {
-      return SafeFuture.COMPLETE;
-    }
-
-    return signatureVerificationService
-        .verify(proposerPublicKeys, signingRoots, signatures)
-        .thenAccept(
-            signaturesValid -> {
-              if (!signaturesValid) {
-                throw new IllegalArgumentException("Batch signature verification failed");
-              }
-            });
+    return signatureVerifier.verify(blocks);
   }
 
   private void validateBlobSidecars(
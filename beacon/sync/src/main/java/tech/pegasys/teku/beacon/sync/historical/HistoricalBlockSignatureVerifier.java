@@ -0,0 +1,101 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.historical;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.constants.Domain;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.state.Fork;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Verifies the proposer signatures of historical blocks in a single batch, looking up proposer keys
+ * in the current best state as it is more recent than any historical block.
+ */
+class HistoricalBlockSignatureVerifier {
+  private final Spec spec;
+  private final CombinedChainDataClient chainDataClient;
+  private final AsyncBLSSignatureVerifier signatureVerifier;
+
+  HistoricalBlockSignatureVerifier(
+      final Spec spec,
+      final CombinedChainDataClient chainDataClient,
+      final AsyncBLSSignatureVerifier signatureVerifier) {
+    this.spec = spec;
+    this.chainDataClient = chainDataClient;
+    this.signatureVerifier = signatureVerifier;
+  }
+
+  SafeFuture<Void> verify(final Collection<SignedBeaconBlock> blocks) {
+    return chainDataClient
+        .getBestState()
+        .orElseThrow()
+        .thenCompose(bestState -> verify(blocks, bestState));
+  }
+
+  private SafeFuture<Void> verify(
+      final Collection<SignedBeaconBlock> blocks, final BeaconState bestState) {
+    final List<BLSSignature> signatures = new ArrayList<>();
+    final List<Bytes> signingRoots = new ArrayList<>();
+    final List<List<BLSPublicKey>> proposerPublicKeys = new ArrayList<>();
+
+    final Bytes32 genesisValidatorsRoot = bestState.getForkInfo().getGenesisValidatorsRoot();
+
+    blocks.forEach(
+        signedBlock -> {
+          final BeaconBlock block = signedBlock.getMessage();
+          if (block.getSlot().isGreaterThan(SpecConfig.GENESIS_SLOT)) {
+            final UInt64 epoch = spec.computeEpochAtSlot(block.getSlot());
+            final Fork fork = spec.fork(epoch);
+            final Bytes32 domain =
+                spec.getDomain(Domain.BEACON_PROPOSER, epoch, fork, genesisValidatorsRoot);
+            signatures.add(signedBlock.getSignature());
+            signingRoots.add(spec.computeSigningRoot(block, domain));
+            final BLSPublicKey proposerPublicKey =
+                spec.getValidatorPubKey(bestState, block.getProposerIndex())
+                    .orElseThrow(
+                        () ->
+                            new IllegalStateException(
+                                "Proposer has to be in the state since state is more recent than the block proposed"));
+            proposerPublicKeys.add(List.of(proposerPublicKey));
+          }
+        });
+
+    if (signatures.isEmpty()) {
+      return SafeFuture.COMPLETE;
+    }
+
+    return signatureVerifier
+        .verify(proposerPublicKeys, signingRoots, signatures)
+        .thenAccept(
+            signaturesValid -> {
+              if (!signaturesValid) {
+                throw new IllegalArgumentException("Batch signature verification failed");
+              }
+            });
+  }
+}
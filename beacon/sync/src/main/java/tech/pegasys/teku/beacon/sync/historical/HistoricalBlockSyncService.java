@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.CacheBuilder;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -66,6 +67,7 @@ public class HistoricalBlockSyncService extends Service {
   private final CombinedChainDataClient chainData;
   private final SyncStateProvider syncStateProvider;
   private final UInt64 batchSize;
+  private final int maxConcurrentBatches;
 
   private final AtomicLong syncStateSubscription = new AtomicLong(-1);
   private final AtomicBoolean requestInProgress = new AtomicBoolean(false);
@@ -90,7 +92,8 @@ public class HistoricalBlockSyncService extends Service {
       final AsyncBLSSignatureVerifier signatureVerifier,
       final UInt64 batchSize,
       final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService,
-      final boolean fetchAllHistoricBlocks) {
+      final boolean fetchAllHistoricBlocks,
+      final int maxConcurrentBatches) {
     this.spec = spec;
     this.blobSidecarManager = blobSidecarManager;
     this.storageUpdateChannel = storageUpdateChannel;
@@ -102,6 +105,7 @@ public class HistoricalBlockSyncService extends Service {
     this.signatureVerifier = signatureVerifier;
     this.reconstructHistoricalStatesService = reconstructHistoricalStatesService;
     this.fetchAllHistoricBlocks = fetchAllHistoricBlocks;
+    this.maxConcurrentBatches = maxConcurrentBatches;
 
     this.badPeerCache =
         Collections.newSetFromMap(
@@ -134,7 +138,8 @@ public class HistoricalBlockSyncService extends Service {
       final boolean reconstructHistoricStatesEnabled,
       final Optional<String> genesisStateResource,
       final boolean fetchAllHistoricBlocks,
-      final int batchSize) {
+      final int batchSize,
+      final int maxConcurrentBatches) {
     final Optional<ReconstructHistoricalStatesService> reconstructHistoricalStatesService =
         reconstructHistoricStatesEnabled
             ? Optional.of(
@@ -159,7 +164,8 @@ public class HistoricalBlockSyncService extends Service {
         signatureVerifier,
         UInt64.valueOf(batchSize),
         reconstructHistoricalStatesService,
-        fetchAllHistoricBlocks);
+        fetchAllHistoricBlocks,
+        maxConcurrentBatches);
   }
 
   @Override
@@ -240,11 +246,16 @@ public class HistoricalBlockSyncService extends Service {
   private SafeFuture<Boolean> findPeerAndRequestBlocks() {
     final Optional<MaxMissingBlockParams> blockParams = getMaxMissingBlockParams();
     if (blockParams.isPresent() && isActive() && requestInProgress.compareAndSet(false, true)) {
-      return findPeer()
-          .map(peer -> requestBlocks(peer, blockParams.get()))
-          .orElseGet(this::waitToRetry)
-          .alwaysRun(() -> requestInProgress.set(false))
-          .thenApply(__ -> true);
+      final List<Eth2Peer> peers = findPeers();
+      final SafeFuture<Void> request;
+      if (peers.isEmpty()) {
+        request = waitToRetry();
+      } else if (shouldRequestConcurrently(peers, blockParams.get())) {
+        request = requestBlocksConcurrently(peers, blockParams.get());
+      } else {
+        request = requestBlocks(peers.getFirst(), blockParams.get());
+      }
+      return request.alwaysRun(() -> requestInProgress.set(false)).thenApply(__ -> true);
     } else {
       return SafeFuture.completedFuture(false);
     }
@@ -270,19 +281,58 @@ public class HistoricalBlockSyncService extends Service {
               }
               return null;
             })
-        .thenAccept(
+        .thenAccept(newValue -> onBlocksStored(newValue, params));
+  }
+
+  private boolean shouldRequestConcurrently(
+      final List<Eth2Peer> peers, final MaxMissingBlockParams params) {
+    // Blob sidecars are only required for recent slots so if they aren't required for the newest
+    // slot in the range they aren't required for any of it
+    return peers.size() > 1
+        && !blobSidecarManager.isAvailabilityRequiredAtSlot(params.getMaxSlot());
+  }
+
+  private SafeFuture<Void> requestBlocksConcurrently(
+      final List<Eth2Peer> peers, final MaxMissingBlockParams params) {
+    return new ConcurrentHistoricalBatchFetcher(
+            storageUpdateChannel,
+            signatureVerifier,
+            chainData,
+            spec,
+            peers,
+            params.getMaxSlot(),
+            params.getBlockRoot(),
+            batchSize)
+        .run()
+        .exceptionally(
+            err -> {
+              LOG.debug("Encountered a problem requesting historical blocks concurrently", err);
+              return Optional.empty();
+            })
+        .thenCompose(
             newValue -> {
-              if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
-                LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
-                earliestBlock = newValue;
-                updateSyncMetrics();
-                if (isSyncDone()) {
-                  LOG.info("Historical block sync is complete");
-                }
+              if (newValue.isPresent()) {
+                onBlocksStored(newValue.get(), params);
+                return SafeFuture.COMPLETE;
               }
+              // Nothing could be verified, fall back to a single peer which can identify bad
+              // peers and handle empty ranges
+              return requestBlocks(peers.getFirst(), params);
             });
   }
 
+  private void onBlocksStored(
+      final BeaconBlockSummary newValue, final MaxMissingBlockParams params) {
+    if (newValue != null && newValue.getSlot().isLessThanOrEqualTo(params.getMaxSlot())) {
+      LOG.trace("Synced historical blocks to slot {}", newValue.getSlot());
+      earliestBlock = newValue;
+      updateSyncMetrics();
+      if (isSyncDone()) {
+        LOG.info("Historical block sync is complete");
+      }
+    }
+  }
+
   private HistoricalBatchFetcher createFetcher(
       final Eth2Peer peer, final MaxMissingBlockParams params) {
     return new HistoricalBatchFetcher(
@@ -326,7 +376,7 @@ public class HistoricalBlockSyncService extends Service {
     return asyncRunner.getDelayedFuture(RETRY_TIMEOUT);
   }
 
-  private Optional<Eth2Peer> findPeer() {
+  private List<Eth2Peer> findPeers() {
     return network
         .streamPeers()
         .filter(p -> !badPeerCache.contains(p.getId()))
@@ -336,7 +386,8 @@ public class HistoricalBlockSyncService extends Service {
                     .getFinalizedCheckpoint()
                     .getEpochStartSlot(spec)
                     .isGreaterThan(earliestBlock.getSlot()))
-        .findAny();
+        .limit(Math.max(1, maxConcurrentBatches))
+        .toList();
   }
 
   private void logBadPeerCacheSize(final boolean peerAdded) {
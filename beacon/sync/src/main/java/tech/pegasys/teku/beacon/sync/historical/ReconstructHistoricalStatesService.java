@@ -18,7 +18,10 @@ import static tech.pegasys.teku.spec.config.SpecConfig.GENESIS_SLOT;
 
 import com.google.common.base.Throwables;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
@@ -36,6 +39,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.ChainDataLoader;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
@@ -43,6 +47,9 @@ import tech.pegasys.teku.storage.server.ShuttingDownException;
 public class ReconstructHistoricalStatesService extends Service {
   private static final Logger LOG = LogManager.getLogger();
 
+  /** Number of slots worth of blocks loaded from the database at a time */
+  static final int SEGMENT_SIZE_IN_SLOTS = 64;
+
   private final Spec spec;
   private final CombinedChainDataClient chainDataClient;
   private final Optional<String> genesisStateResource;
@@ -132,7 +139,7 @@ public class ReconstructHistoricalStatesService extends Service {
                                     new Context(
                                         genesisState, GENESIS_SLOT.increment(), anchorSlot));
                       })
-                  .thenComposeChecked(this::applyNextBlock)
+                  .thenComposeChecked(this::applyBlocks)
                   .finish(
                       error -> {
                         final Throwable rootCause = Throwables.getRootCause(error);
@@ -147,34 +154,86 @@ public class ReconstructHistoricalStatesService extends Service {
             });
   }
 
-  private SafeFuture<Void> applyNextBlock(final Context context) {
-    if (context.checkStopApplyBlock()) {
-      statusLogger.reconstructHistoricalStatesServiceComplete();
-      stopped.complete(null);
-      return SafeFuture.COMPLETE;
-    }
+  private SafeFuture<Void> applyBlocks(final Context context) {
+    context.nextSegment = requestSegment(context);
+    return SafeFuture.asyncDoWhile(() -> applyNextBlock(context))
+        .thenCompose(__ -> context.pendingWrite)
+        .thenRun(
+            () -> {
+              if (!shutdown.get()) {
+                statusLogger.reconstructHistoricalStatesServiceComplete();
+              }
+              stopped.complete(null);
+            });
+  }
 
+  private SafeFuture<Boolean> applyNextBlock(final Context context)
+      throws StateTransitionException {
     if (shutdown.get()) {
-      stopped.complete(null);
-      return SafeFuture.COMPLETE;
+      return SafeFuture.completedFuture(false);
     }
 
-    return chainDataClient
-        .getBlockAtSlotExact(context.slot)
-        .thenComposeChecked(
-            maybeBlock -> {
-              if (maybeBlock.isEmpty()) {
-                return SafeFuture.COMPLETE;
-              }
+    final SignedBeaconBlock block = context.blocks.poll();
+    if (block == null) {
+      return startNextSegment(context);
+    }
+
+    progressLogger.update(block, context.anchorSlot);
+    final BeaconState state = spec.replayValidatedBlock(context.currentState, block);
+    if (context.blocks.isEmpty()) {
+      checkStateRoot(state, block);
+    }
+    context.currentState = state;
 
-              final SignedBeaconBlock block = maybeBlock.get();
-              progressLogger.update(block, context.anchorSlot);
-              context.currentState = spec.replayValidatedBlock(context.currentState, block);
-              return storageUpdateChannel.onReconstructedFinalizedState(
-                  context.currentState, block.getRoot());
-            })
-        .thenRun(context::incrementSlot)
-        .thenCompose(__ -> applyNextBlock(context));
+    // Only wait for the previous state to be stored, so the next block is replayed while this
+    // state is written and states are still stored in order
+    return context.pendingWrite.thenApply(
+        __ -> {
+          context.pendingWrite =
+              storageUpdateChannel.onReconstructedFinalizedState(state, block.getRoot());
+          return true;
+        });
+  }
+
+  private SafeFuture<Boolean> startNextSegment(final Context context) {
+    if (context.nextSegment.isEmpty()) {
+      return SafeFuture.completedFuture(false);
+    }
+    final SafeFuture<List<SignedBeaconBlock>> segment = context.nextSegment.get();
+    // Load the following segment while this one is replayed
+    context.nextSegment = requestSegment(context);
+    return segment.thenApply(
+        blocks -> {
+          context.blocks.addAll(blocks);
+          return true;
+        });
+  }
+
+  private Optional<SafeFuture<List<SignedBeaconBlock>>> requestSegment(final Context context) {
+    final UInt64 startSlot = context.nextSegmentStartSlot;
+    if (startSlot.isGreaterThanOrEqualTo(context.anchorSlot)) {
+      return Optional.empty();
+    }
+    final UInt64 endSlot =
+        startSlot.plus(SEGMENT_SIZE_IN_SLOTS - 1).min(context.anchorSlot.decrement());
+    context.nextSegmentStartSlot = endSlot.increment();
+    return Optional.of(
+        chainDataClient
+            .getSerializedFinalizedBlocks(startSlot, endSlot)
+            .thenApply(
+                blocks ->
+                    blocks.stream()
+                        .map(block -> spec.deserializeSignedBeaconBlock(block.sszBytes()))
+                        .toList()));
+  }
+
+  private void checkStateRoot(final BeaconState state, final SignedBeaconBlock block) {
+    if (!state.hashTreeRoot().equals(block.getStateRoot())) {
+      throw new IllegalStateException(
+          String.format(
+              "Reconstructed state root %s does not match state root %s of block %s",
+              state.hashTreeRoot(), block.getStateRoot(), block.toLogString()));
+    }
   }
 
   @Override
@@ -185,21 +244,16 @@ public class ReconstructHistoricalStatesService extends Service {
 
   private static class Context {
     private BeaconState currentState;
-    private UInt64 slot;
+    private UInt64 nextSegmentStartSlot;
     private final UInt64 anchorSlot;
+    private final Queue<SignedBeaconBlock> blocks = new ArrayDeque<>();
+    private Optional<SafeFuture<List<SignedBeaconBlock>>> nextSegment = Optional.empty();
+    private SafeFuture<Void> pendingWrite = SafeFuture.COMPLETE;
 
     Context(final BeaconState currentState, final UInt64 slot, final UInt64 anchorSlot) {
       this.currentState = currentState;
-      this.slot = slot;
+      this.nextSegmentStartSlot = slot;
       this.anchorSlot = anchorSlot;
     }
-
-    private boolean checkStopApplyBlock() {
-      return slot.isGreaterThanOrEqualTo(anchorSlot);
-    }
-
-    private void incrementSlot() {
-      slot = slot.increment();
-    }
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class TargetChainTest {
+  private static final int SELECTIONS = 1000;
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final TargetChain targetChain =
+      new TargetChain(dataStructureUtil.randomSlotAndBlockRoot());
+  private final SyncSource fastPeer = peerWithBlocksPerSecond(OptionalDouble.of(90));
+  private final SyncSource slowPeer = peerWithBlocksPerSecond(OptionalDouble.of(10));
+  private final SyncSource unmeasuredPeer = peerWithBlocksPerSecond(OptionalDouble.empty());
+
+  @Test
+  void selectRandomPeer_shouldReturnEmptyWhenNoPeers() {
+    assertThat(targetChain.selectRandomPeer()).isEmpty();
+  }
+
+  @Test
+  void selectRandomPeer_shouldReturnEmptyWhenAllPeersExcluded() {
+    targetChain.addPeer(fastPeer);
+    targetChain.addPeer(slowPeer);
+
+    assertThat(targetChain.selectRandomPeer(fastPeer, slowPeer)).isEmpty();
+  }
+
+  @Test
+  void selectRandomPeer_shouldNotSelectExcludedPeer() {
+    targetChain.addPeer(fastPeer);
+    targetChain.addPeer(slowPeer);
+
+    assertThat(countSelections(fastPeer)).containsOnlyKeys(slowPeer);
+  }
+
+  @Test
+  void selectRandomPeer_shouldFavourFasterPeers() {
+    targetChain.addPeer(fastPeer);
+    targetChain.addPeer(slowPeer);
+
+    final Map<SyncSource, Integer> selections = countSelections();
+    assertThat(selections.get(fastPeer)).isBetween(895, 905);
+    assertThat(selections.get(slowPeer)).isBetween(95, 105);
+  }
+
+  @Test
+  void selectRandomPeer_shouldTreatUnmeasuredPeersAsAverage() {
+    targetChain.addPeer(fastPeer);
+    targetChain.addPeer(slowPeer);
+    targetChain.addPeer(unmeasuredPeer);
+
+    // Unmeasured peer is weighted at 50 blocks per second, the average of the measured peers
+    final Map<SyncSource, Integer> selections = countSelections();
+    assertThat(selections.get(fastPeer)).isBetween(595, 605);
+    assertThat(selections.get(unmeasuredPeer)).isBetween(328, 338);
+    assertThat(selections.get(slowPeer)).isBetween(62, 72);
+  }
+
+  @Test
+  void selectRandomPeer_shouldSelectUniformlyWhenNoPeersMeasured() {
+    final SyncSource otherUnmeasuredPeer = peerWithBlocksPerSecond(OptionalDouble.empty());
+    targetChain.addPeer(unmeasuredPeer);
+    targetChain.addPeer(otherUnmeasuredPeer);
+
+    final Map<SyncSource, Integer> selections = countSelections();
+    assertThat(selections.get(unmeasuredPeer)).isBetween(495, 505);
+    assertThat(selections.get(otherUnmeasuredPeer)).isBetween(495, 505);
+  }
+
+  private Map<SyncSource, Integer> countSelections(final SyncSource... excluding) {
+    final Map<SyncSource, Integer> selections = new HashMap<>();
+    for (int i = 0; i < SELECTIONS; i++) {
+      final double random = (i + 0.5) / SELECTIONS;
+      targetChain
+          .selectRandomPeer(random, excluding)
+          .ifPresent(peer -> selections.merge(peer, 1, Integer::sum));
+    }
+    return selections;
+  }
+
+  private static SyncSource peerWithBlocksPerSecond(final OptionalDouble blocksPerSecond) {
+    final SyncSource peer = mock(SyncSource.class);
+    when(peer.getAverageBlocksPerSecond()).thenReturn(blocksPerSecond);
+    return peer;
+  }
+}
@@ -84,20 +84,7 @@ public class HistoricalBlockSyncServiceTest {
           storageUpdateChannel, chainData, spec, timeProvider, metricsSystem, genesisStateResource);
 
   private final UInt64 batchSize = UInt64.valueOf(5);
-  private final HistoricalBlockSyncService service =
-      new HistoricalBlockSyncService(
-          spec,
-          blobSidecarManager,
-          metricsSystem,
-          storageUpdateChannel,
-          asyncRunner,
-          network,
-          storageSystem.combinedChainDataClient(),
-          syncStateProvider,
-          signatureVerificationService,
-          batchSize,
-          Optional.of(reconstructHistoricalStatesService),
-          false);
+  private final HistoricalBlockSyncService service = createService(1);
   private final Subscribers<SyncStateProvider.SyncStateSubscriber> syncStateSubscribers =
       Subscribers.create(false);
 
@@ -328,6 +315,72 @@ public class HistoricalBlockSyncServiceTest {
     assertBlocksSaved(expectedBlocks);
   }
 
+  @Test
+  public void shouldRequestBatchesFromMultiplePeersConcurrently() {
+    currentSyncState.set(SyncState.IN_SYNC);
+
+    // Setup chain
+    final long epochHeight = 10;
+    storageSystem.chainBuilder().generateGenesis();
+    storageSystem.chainBuilder().generateBlocksUpToSlot(slotsPerEpoch * epochHeight + 3);
+    final AnchorPoint anchor =
+        initializeChainAtEpoch(storageSystem.chainBuilder().getLatestEpoch());
+    final List<SignedBeaconBlock> expectedBlocks =
+        storageSystem
+            .chainBuilder()
+            .streamBlocksAndStates(0, anchor.getBlockSlot().longValue())
+            .map(SignedBlockAndState::getBlock)
+            .collect(Collectors.toList());
+
+    // Set up peers to respond
+    final List<RespondingEth2Peer> peers =
+        Stream.generate(() -> RespondingEth2Peer.create(spec, storageSystem.chainBuilder()))
+            .limit(3)
+            .toList();
+    peers.forEach(
+        peer ->
+            peer.updateStatus(
+                new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO),
+                new Checkpoint(UInt64.valueOf(epochHeight * 2), Bytes32.ZERO)));
+    when(network.streamPeers()).thenAnswer(i -> peers.stream());
+
+    final HistoricalBlockSyncService concurrentService = createService(3);
+    assertThat(concurrentService.start()).isCompleted();
+
+    // Each peer should be asked for a different batch
+    peers.forEach(peer -> assertThat(peer.getOutstandingRequests()).isEqualTo(1));
+
+    final int maxRequests =
+        storageSystem.chainBuilder().getLatestSlot().dividedBy(batchSize).plus(1).intValue();
+    int requestCount = 0;
+    while (concurrentService.isRunning() && requestCount <= maxRequests) {
+      peers.forEach(RespondingEth2Peer::completePendingRequests);
+      requestCount++;
+    }
+
+    assertThat(concurrentService.isRunning()).isFalse();
+    // Batches from all peers are verified together so fewer rounds are needed than batches
+    assertThat(requestCount).isLessThan(maxRequests);
+    assertBlocksSaved(expectedBlocks);
+  }
+
+  private HistoricalBlockSyncService createService(final int maxConcurrentBatches) {
+    return new HistoricalBlockSyncService(
+        spec,
+        blobSidecarManager,
+        metricsSystem,
+        storageUpdateChannel,
+        asyncRunner,
+        network,
+        storageSystem.combinedChainDataClient(),
+        syncStateProvider,
+        signatureVerificationService,
+        batchSize,
+        Optional.of(reconstructHistoricalStatesService),
+        false,
+        maxConcurrentBatches);
+  }
+
   private void finishSyncing(
       final RespondingEth2Peer peer, final List<SignedBeaconBlock> expectedBlocks) {
     final int maxRequests =
@@ -44,6 +44,7 @@ import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.storage.api.SerializedFinalizedBlock;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
 import tech.pegasys.teku.storage.client.ChainUpdater;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -142,6 +143,28 @@ public class ReconstructHistoricalStatesServiceTest {
         .onReconstructedFinalizedState(any(), any());
   }
 
+  @Test
+  void shouldLoadBlocksInSegments(@TempDir final Path tempDir) throws IOException {
+    when(chainDataClient.getLatestAvailableFinalizedState(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+
+    final int segmentSize = ReconstructHistoricalStatesService.SEGMENT_SIZE_IN_SLOTS;
+    chainBuilder.generateBlocksUpToSlot(segmentSize + 10);
+    final Checkpoint initialAnchor = getInitialAnchor();
+    final UInt64 anchorSlot = initialAnchor.getEpochStartSlot(spec);
+    setUpService(tempDir, initialAnchor);
+
+    final SafeFuture<?> res = service.start();
+    assertThat(res).isCompleted();
+    verify(chainDataClient).getSerializedFinalizedBlocks(UInt64.ONE, UInt64.valueOf(segmentSize));
+    verify(chainDataClient)
+        .getSerializedFinalizedBlocks(UInt64.valueOf(segmentSize + 1), anchorSlot.decrement());
+    verify(chainDataClient, never()).getBlockAtSlotExact(any());
+    verify(storageUpdateChannel, times(anchorSlot.intValue()))
+        .onReconstructedFinalizedState(any(), any());
+    verify(statusLogger).reconstructHistoricalStatesServiceComplete();
+  }
+
   @Test
   void shouldLogFailServiceProcess(@TempDir final Path tempDir) throws IOException {
     when(storageUpdateChannel.onReconstructedFinalizedState(any(), any()))
@@ -208,12 +231,20 @@ public class ReconstructHistoricalStatesServiceTest {
     createService(createGenesisStateResource(tempDir));
     when(chainDataClient.getInitialAnchor())
         .thenReturn(SafeFuture.completedFuture(Optional.of(initialAnchor)));
-    when(chainDataClient.getBlockAtSlotExact(any()))
+    when(chainDataClient.getSerializedFinalizedBlocks(any(), any()))
         .thenAnswer(
             invocation -> {
-              final UInt64 slot = invocation.getArgument(0);
+              final UInt64 startSlot = invocation.getArgument(0);
+              final UInt64 endSlot = invocation.getArgument(1);
               return SafeFuture.completedFuture(
-                  Optional.ofNullable(chainBuilder.getBlockAtSlot(slot)));
+                  chainBuilder
+                      .streamBlocksAndStates(startSlot, endSlot)
+                      .map(
+                          blockAndState ->
+                              new SerializedFinalizedBlock(
+                                  blockAndState.getSlot(),
+                                  blockAndState.getBlock().sszSerialize()))
+                      .toList());
             });
   }
 
@@ -13,26 +13,68 @@
 
 package tech.pegasys.teku.validator.coordinator;
 
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes48;
+import tech.pegasys.teku.bls.BLSPublicKeyCache;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class ValidatorIndexCacheTracker implements FinalizedCheckpointChannel {
+  private static final Logger LOG = LogManager.getLogger();
 
   private final RecentChainData recentChainData;
+  private final AsyncRunner asyncRunner;
 
-  public ValidatorIndexCacheTracker(final RecentChainData recentChainData) {
+  public ValidatorIndexCacheTracker(
+      final RecentChainData recentChainData, final AsyncRunner asyncRunner) {
     this.recentChainData = recentChainData;
+    this.asyncRunner = asyncRunner;
+  }
+
+  /**
+   * Bulk loads the public keys of all validators in the finalized state the node started from.
+   * Decompressing the keys runs on the async runner so it doesn't hold up startup.
+   */
+  public void onStoreInitialized() {
+    updateFinalizedCaches();
   }
 
   @Override
   public void onNewFinalizedCheckpoint(
       final Checkpoint checkpoint, final boolean fromOptimisticBlock) {
+    updateFinalizedCaches();
+  }
+
+  private void updateFinalizedCaches() {
     final BeaconState finalizedState = recentChainData.getStore().getLatestFinalized().getState();
-    BeaconStateCache.getTransitionCaches(finalizedState)
-        .getValidatorIndexCache()
-        .updateLatestFinalizedIndex(finalizedState);
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(finalizedState);
+    transitionCaches.getValidatorIndexCache().updateLatestFinalizedIndex(finalizedState);
+    final BLSPublicKeyCache pubKeyCache = transitionCaches.getFinalizedValidatorPubKeys();
+    asyncRunner
+        .runAsync(() -> cacheNewPubKeys(finalizedState.getValidators(), pubKeyCache))
+        .finish(error -> LOG.warn("Failed to cache finalized validator public keys", error));
+  }
+
+  private void cacheNewPubKeys(
+      final SszList<Validator> validators, final BLSPublicKeyCache pubKeyCache) {
+    final int fromIndex = pubKeyCache.size();
+    if (fromIndex >= validators.size()) {
+      return;
+    }
+    final List<Bytes48> newPubKeys = new ArrayList<>(validators.size() - fromIndex);
+    for (int i = fromIndex; i < validators.size(); i++) {
+      newPubKeys.add(validators.get(i).getPubkeyBytes());
+    }
+    pubKeyCache.putAll(fromIndex, newPubKeys);
   }
 }
@@ -19,6 +19,8 @@ import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.BLSPublicKeyCache;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -33,6 +35,7 @@ import tech.pegasys.teku.storage.store.UpdatableStore;
 class ValidatorIndexCacheTrackerTest {
 
   private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
 
   private final Spec spec = TestSpecFactory.createDefault();
 
@@ -41,7 +44,7 @@ class ValidatorIndexCacheTrackerTest {
   private final AnchorPoint anchorPoint = dataStructureUtil.randomAnchorPoint(UInt64.ZERO);
 
   private final ValidatorIndexCacheTracker validatorIndexCacheTracker =
-      new ValidatorIndexCacheTracker(recentChainData);
+      new ValidatorIndexCacheTracker(recentChainData, asyncRunner);
 
   @BeforeEach
   public void setup() {
@@ -61,6 +64,22 @@ class ValidatorIndexCacheTrackerTest {
         .isEqualTo(anchorPoint.getState().getValidators().size() - 1);
   }
 
+  @Test
+  public void cachesFinalizedValidatorPubKeys() {
+    final BeaconState state = anchorPoint.getState();
+    final BLSPublicKeyCache pubKeyCache =
+        BeaconStateCache.getTransitionCaches(state).getFinalizedValidatorPubKeys();
+    assertThat(pubKeyCache.size()).isZero();
+
+    validatorIndexCacheTracker.onStoreInitialized();
+    assertThat(pubKeyCache.size()).isZero();
+
+    asyncRunner.executeQueuedActions();
+    assertThat(pubKeyCache.size()).isEqualTo(state.getValidators().size());
+    assertThat(pubKeyCache.get(0)).contains(state.getValidators().get(0).getPublicKey());
+    assertThat(spec.getValidatorPubKey(state, UInt64.ZERO)).isEqualTo(pubKeyCache.get(0));
+  }
+
   private int getCacheLatestFinalizedIndex(final BeaconState state) {
     return BeaconStateCache.getTransitionCaches(state)
         .getValidatorIndexCache()
@@ -19,6 +19,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORT
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
@@ -146,10 +147,18 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     restApi =
         create(
-            config, dataProvider, eth1DataProvider, eventChannels, asyncRunner, timeProvider, spec);
+            config,
+            dataProvider,
+            eth1DataProvider,
+            eventChannels,
+            asyncRunner,
+            timeProvider,
+            metricsSystem,
+            spec);
   }
 
   @Override
@@ -174,6 +183,7 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     final SchemaDefinitionCache schemaCache = new SchemaDefinitionCache(spec);
     RestApiBuilder builder =
@@ -270,7 +280,8 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
                     eventChannels,
                     asyncRunner,
                     timeProvider,
-                    config.getMaxPendingEvents()))
+                    config.getMaxPendingEvents(),
+                    metricsSystem))
             // Node Handlers
             .endpoint(new GetHealth(dataProvider))
             .endpoint(new GetIdentity(dataProvider, spec.getNetworkingConfig()))
@@ -26,6 +26,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.api.response.EventType;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -40,12 +42,15 @@ public class EventSubscriber {
   private final List<EventType> eventTypes;
   private final SseClient sseClient;
   private final Queue<QueuedEvent> queuedEvents;
+  // ConcurrentLinkedQueue.size() traverses the whole queue so the size is tracked separately
+  private final AtomicInteger queuedEventCount = new AtomicInteger(0);
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
   private final AtomicBoolean processingQueue;
   private final AsyncRunner asyncRunner;
   private final AtomicLong excessiveQueueingDisconnectionTime = new AtomicLong(Long.MAX_VALUE);
   private final AtomicInteger successiveFailureCounter = new AtomicInteger(0);
+  private final LabelledMetric<Counter> droppedEventsCounter;
 
   public EventSubscriber(
       final List<String> eventTypes,
@@ -53,7 +58,8 @@ public class EventSubscriber {
       final Runnable closeCallback,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final LabelledMetric<Counter> droppedEventsCounter) {
     this.eventTypes = EventType.getTopics(eventTypes);
     this.sseClient = sseClient;
     this.timeProvider = timeProvider;
@@ -61,6 +67,7 @@ public class EventSubscriber {
     this.queuedEvents = new ConcurrentLinkedQueue<>();
     this.processingQueue = new AtomicBoolean(false);
     this.asyncRunner = asyncRunner;
+    this.droppedEventsCounter = droppedEventsCounter;
     this.sseClient.onClose(
         () -> {
           stopped.set(true);
@@ -75,7 +82,11 @@ public class EventSubscriber {
     if (!eventTypes.contains(eventType)) {
       return;
     }
-    final boolean queueSizeBelowLimit = queuedEvents.size() < maxPendingEvents;
+    if (stopped.get()) {
+      // The stream is already closed, only events discarded by the disconnect count as dropped
+      return;
+    }
+    final boolean queueSizeBelowLimit = queuedEventCount.get() < maxPendingEvents;
     final long now = timeProvider.getTimeInMillis().longValue();
     final long queuingDisconnectTime = excessiveQueueingDisconnectionTime.get();
     if (queueSizeBelowLimit) {
@@ -85,6 +96,8 @@ public class EventSubscriber {
       // Had excessive queuing for too long, disconnect.
       if (stopped.compareAndSet(false, true)) {
         LOG.debug("Closing event connection due to exceeding the pending message limit");
+        droppedEventsCounter.labels(eventType.name()).inc();
+        dropQueuedEvents();
         terminateSseClient();
       }
     } else {
@@ -95,6 +108,22 @@ public class EventSubscriber {
     }
   }
 
+  private void dropQueuedEvents() {
+    QueuedEvent event = pollQueuedEvent();
+    while (event != null) {
+      droppedEventsCounter.labels(event.getEventType().name()).inc();
+      event = pollQueuedEvent();
+    }
+  }
+
+  private QueuedEvent pollQueuedEvent() {
+    final QueuedEvent event = queuedEvents.poll();
+    if (event != null) {
+      queuedEventCount.decrementAndGet();
+    }
+    return event;
+  }
+
   private void terminateSseClient() {
     sseClient.ctx().req().getAsyncContext().complete();
     sseClient.close();
@@ -103,6 +132,7 @@ public class EventSubscriber {
   private void addEventToQueue(final EventType eventType, final EventSource<?> message)
       throws JsonProcessingException {
     queuedEvents.add(QueuedEvent.of(eventType, message.get()));
+    queuedEventCount.incrementAndGet();
     processEventQueue();
   }
 
@@ -120,14 +150,14 @@ public class EventSubscriber {
             () -> {
               LOG.trace(
                   "Processing queue with {} elements for event client {}",
-                  queuedEvents.size(),
+                  queuedEventCount.get(),
                   sseClient.hashCode());
-              QueuedEvent event = queuedEvents.poll();
+              QueuedEvent event = pollQueuedEvent();
               while (event != null && !stopped.get()) {
                 sseClient.sendEvent(
                     event.getEventType().name(),
                     new ByteArrayInputStream(event.getMessageData().toArrayUnsafe()));
-                event = queuedEvents.poll();
+                event = pollQueuedEvent();
               }
               successiveFailureCounter.set(0);
             })
@@ -145,7 +175,7 @@ public class EventSubscriber {
                 LOG.warn(
                     "Failed to process event queue for client {}, terminating connection with {} queued events after {} failed attempts to send events.",
                     sseClient::hashCode,
-                    queuedEvents::size,
+                    queuedEventCount::get,
                     () -> counter);
                 terminateSseClient();
               } else {
@@ -26,6 +26,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
@@ -35,6 +39,7 @@ import tech.pegasys.teku.beacon.sync.events.SyncState;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.ListQueryParameterUtils;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -69,6 +74,8 @@ public class EventSubscriptionManager
   private final int maxPendingEvents;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
+  private final LabelledMetric<OperationTimer> fanOutTimer;
+  private final LabelledMetric<Counter> droppedEventsCounter;
 
   public EventSubscriptionManager(
       final Spec spec,
@@ -79,7 +86,8 @@ public class EventSubscriptionManager
       final AsyncRunner asyncRunner,
       final EventChannels eventChannels,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final MetricsSystem metricsSystem) {
     this.spec = spec;
     this.provider = chainDataProvider;
     this.asyncRunner = asyncRunner;
@@ -87,6 +95,18 @@ public class EventSubscriptionManager
     this.maxPendingEvents = maxPendingEvents;
     this.eventSubscribers = new ConcurrentLinkedQueue<>();
     this.configProvider = configProvider;
+    this.fanOutTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.BEACON,
+            "event_stream_fan_out_time",
+            "Time taken to serialize an event and queue it for every subscribed event stream",
+            "topic");
+    this.droppedEventsCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "event_stream_dropped_events_total",
+            "Number of events dropped because the event stream was closed for falling behind",
+            "topic");
     eventChannels.subscribe(ChainHeadChannel.class, this);
     eventChannels.subscribe(FinalizedCheckpointChannel.class, this);
     eventChannels.subscribe(ReceivedBlockEventsChannel.class, this);
@@ -115,7 +135,8 @@ public class EventSubscriptionManager
             },
             asyncRunner,
             timeProvider,
-            maxPendingEvents);
+            maxPendingEvents,
+            droppedEventsCounter);
     eventSubscribers.add(subscriber);
     subscriber.sendReadyComment();
   }
@@ -280,8 +301,9 @@ public class EventSubscriptionManager
   }
 
   private void notifySubscribersOfEvent(final EventType eventType, final Event<?> event) {
+    // the event is serialized at most once and the same bytes are queued for every subscriber
     final EventSource<?> eventSource = new EventSource<>(event);
-    try {
+    try (OperationTimer.TimingContext ignored = fanOutTimer.labels(eventType.name()).startTimer()) {
       for (EventSubscriber subscriber : eventSubscribers) {
         subscriber.onEvent(eventType, eventSource);
       }
@@ -19,6 +19,7 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EVENTS;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.DataProvider;
@@ -43,7 +44,8 @@ public class GetEvents extends RestApiEndpoint {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final MetricsSystem metricsSystem) {
     this(
         spec,
         dataProvider.getNodeDataProvider(),
@@ -53,7 +55,8 @@ public class GetEvents extends RestApiEndpoint {
         eventChannels,
         asyncRunner,
         timeProvider,
-        maxPendingEvents);
+        maxPendingEvents,
+        metricsSystem);
   }
 
   GetEvents(
@@ -65,7 +68,8 @@ public class GetEvents extends RestApiEndpoint {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final int maxPendingEvents,
+      final MetricsSystem metricsSystem) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getEvents")
@@ -91,7 +95,8 @@ public class GetEvents extends RestApiEndpoint {
             asyncRunner,
             eventChannels,
             timeProvider,
-            maxPendingEvents);
+            maxPendingEvents,
+            metricsSystem);
   }
 
   @Override
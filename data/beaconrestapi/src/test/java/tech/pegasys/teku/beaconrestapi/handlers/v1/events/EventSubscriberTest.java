@@ -32,6 +32,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -39,6 +41,8 @@ import org.junit.jupiter.params.provider.EnumSource;
 import tech.pegasys.teku.api.response.EventType;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 
 public class EventSubscriberTest {
@@ -52,6 +56,7 @@ public class EventSubscriberTest {
 
   private final Context context = new StubContext(req, res);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private final List<EventType> allEventTypes = Arrays.stream(EventType.values()).toList();
 
   private SseClient sseClient;
@@ -123,6 +128,37 @@ public class EventSubscriberTest {
     assertThat(outputStream.getWriteCounter()).isEqualTo(0);
   }
 
+  @Test
+  void shouldCountEventsDroppedWhenDisconnecting() throws Exception {
+    final EventSubscriber eventSubscriber = createSubscriber("head");
+
+    for (int i = 0; i < MAX_PENDING_EVENTS + 1; i++) {
+      eventSubscriber.onEvent(EventType.head, event("test"));
+    }
+    timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
+    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(EventType.head, event("test"));
+
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.BEACON, "event_stream_dropped_events_total", "head"))
+        .isEqualTo(MAX_PENDING_EVENTS + 2);
+  }
+
+  @Test
+  void shouldNotCountEventsReceivedAfterClientClosed() throws Exception {
+    final EventSubscriber eventSubscriber = createSubscriber("head");
+
+    sseClient.close();
+    eventSubscriber.onEvent(EventType.head, event("test"));
+
+    verify(onCloseCallback).run();
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.BEACON, "event_stream_dropped_events_total", "head"))
+        .isZero();
+  }
+
   @Test
   void shouldOnlyDisconnectOnce() throws Exception {
     final EventSubscriber eventSubscriber = createSubscriber("head");
@@ -160,7 +196,8 @@ public class EventSubscriberTest {
             onCloseCallback,
             asyncRunner,
             timeProvider,
-            MAX_PENDING_EVENTS);
+            MAX_PENDING_EVENTS,
+            droppedEventsCounter());
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
       eventSubscriber.onEvent(EventType.head, event("test"));
@@ -269,6 +306,12 @@ public class EventSubscriberTest {
         onCloseCallback,
         asyncRunner,
         timeProvider,
-        MAX_PENDING_EVENTS);
+        MAX_PENDING_EVENTS,
+        droppedEventsCounter());
+  }
+
+  private LabelledMetric<Counter> droppedEventsCounter() {
+    return metricsSystem.createLabelledCounter(
+        TekuMetricCategory.BEACON, "event_stream_dropped_events_total", "", "topic");
   }
 }
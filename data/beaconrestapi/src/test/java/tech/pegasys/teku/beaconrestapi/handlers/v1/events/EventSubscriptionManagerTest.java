@@ -41,6 +41,7 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -177,7 +178,8 @@ public class EventSubscriptionManagerTest {
             asyncRunner,
             channels,
             StubTimeProvider.withTimeInMillis(1000),
-            10);
+            10,
+            new StubMetricsSystem());
     client1 = new SseClient(ctx);
   }
 
@@ -26,6 +26,7 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
@@ -96,6 +97,7 @@ public class ChainDataProvider {
   private final CombinedChainDataClient combinedChainDataClient;
   private final RecentChainData recentChainData;
   private final RewardCalculator rewardCalculator;
+  private final ValidatorStatusCache validatorStatusCache = new ValidatorStatusCache();
 
   public ChainDataProvider(
       final Spec spec,
@@ -318,10 +320,9 @@ public class ChainDataProvider {
   @VisibleForTesting
   List<StateValidatorBalanceData> getValidatorBalancesFromState(
       final BeaconState state, final List<String> validators) {
-    return getValidatorSelector(state, validators)
-        .mapToObj(index -> StateValidatorBalanceData.fromState(state, index))
-        .flatMap(Optional::stream)
-        .toList();
+    return new ValidatorIndexedList<>(
+        getExistingValidatorIndices(state, validators, index -> true),
+        index -> StateValidatorBalanceData.fromState(state, index).orElseThrow());
   }
 
   public SafeFuture<Optional<ObjectAndMetaData<SszList<StateValidatorIdentity>>>>
@@ -409,11 +410,33 @@ public class ChainDataProvider {
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
+    // requests covering the whole registry share the statuses computed once per registry and epoch
+    final IntFunction<ValidatorStatus> statuses =
+        validators.isEmpty()
+            ? validatorStatusCache.getStatuses(state.getValidators(), epoch)
+            : index -> getValidatorStatus(state, index, epoch, FAR_FUTURE_EPOCH);
+    return new ValidatorIndexedList<>(
+        getExistingValidatorIndices(state, validators, getStatusPredicate(statuses, statusFilter)),
+        index ->
+            new StateValidatorData(
+                UInt64.valueOf(index),
+                state.getBalances().getElement(index),
+                statuses.apply(index),
+                state.getValidators().get(index)));
+  }
+
+  /**
+   * Resolves the requested validators to the indices present in the state. The response items are
+   * created lazily from these indices while the response is serialized, so the memory required
+   * for a request covering the whole registry stays small.
+   */
+  private int[] getExistingValidatorIndices(
+      final BeaconState state, final List<String> validators, final IntPredicate filter) {
+    final int validatorCount = state.getValidators().size();
     return getValidatorSelector(state, validators)
-        .filter(getStatusPredicate(state, statusFilter))
-        .mapToObj(index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
-        .flatMap(Optional::stream)
-        .toList();
+        .filter(index -> index < validatorCount)
+        .filter(filter)
+        .toArray();
   }
 
   public Optional<ObjectAndMetaData<StateValidatorData>> getStateValidator(
@@ -498,11 +521,8 @@ public class ChainDataProvider {
   }
 
   private IntPredicate getStatusPredicate(
-      final BeaconState state, final Set<ValidatorStatus> statusFilter) {
-    final UInt64 epoch = spec.getCurrentEpoch(state);
-    return statusFilter.isEmpty()
-        ? i -> true
-        : i -> statusFilter.contains(getValidatorStatus(state, i, epoch, FAR_FUTURE_EPOCH));
+      final IntFunction<ValidatorStatus> statuses, final Set<ValidatorStatus> statusFilter) {
+    return statusFilter.isEmpty() ? i -> true : i -> statusFilter.contains(statuses.apply(i));
   }
 
   private IntStream getValidatorSelector(final BeaconState state, final List<String> validators) {
@@ -0,0 +1,45 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * A read-only list of per-validator response items which are only created when they are accessed.
+ *
+ * <p>Only the selected validator indices are held, so serializing a response covering the whole
+ * validator registry creates one item at a time rather than keeping them all alive until the
+ * response has been written.
+ */
+class ValidatorIndexedList<T> extends AbstractList<T> implements RandomAccess {
+  private final int[] validatorIndices;
+  private final IntFunction<T> itemFactory;
+
+  ValidatorIndexedList(final int[] validatorIndices, final IntFunction<T> itemFactory) {
+    this.validatorIndices = validatorIndices;
+    this.itemFactory = itemFactory;
+  }
+
+  @Override
+  public T get(final int index) {
+    return itemFactory.apply(validatorIndices[index]);
+  }
+
+  @Override
+  public int size() {
+    return validatorIndices.length;
+  }
+}
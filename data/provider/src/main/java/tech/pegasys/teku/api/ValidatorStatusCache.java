@@ -0,0 +1,85 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.api.response.ValidatorStatus;
+import tech.pegasys.teku.api.response.ValidatorStatusUtil;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * Keeps the status of every validator for the most recently requested validator registry and
+ * epoch, stored as one byte per validator.
+ *
+ * <p>A validator's status only depends on the epoch and its validator record, so the cache is keyed
+ * by the epoch and the hash tree root of the registry. That root is already cached in the state
+ * tree and stays the same across blocks which don't modify any validator, so polling the head state
+ * usually only computes the statuses once per epoch.
+ */
+class ValidatorStatusCache {
+  private static final ValidatorStatus[] STATUSES = ValidatorStatus.values();
+
+  private final AtomicReference<ValidatorStatuses> latest = new AtomicReference<>();
+
+  IntFunction<ValidatorStatus> getStatuses(
+      final SszList<Validator> validators, final UInt64 epoch) {
+    final Bytes32 validatorsRoot = validators.hashTreeRoot();
+    final ValidatorStatuses cached = latest.get();
+    if (cached != null && cached.matches(epoch, validatorsRoot)) {
+      return cached::getStatus;
+    }
+    final ValidatorStatuses statuses = ValidatorStatuses.compute(validators, epoch, validatorsRoot);
+    latest.set(statuses);
+    return statuses::getStatus;
+  }
+
+  private static class ValidatorStatuses {
+    private final UInt64 epoch;
+    private final Bytes32 validatorsRoot;
+    private final byte[] statuses;
+
+    private ValidatorStatuses(
+        final UInt64 epoch, final Bytes32 validatorsRoot, final byte[] statuses) {
+      this.epoch = epoch;
+      this.validatorsRoot = validatorsRoot;
+      this.statuses = statuses;
+    }
+
+    static ValidatorStatuses compute(
+        final SszList<Validator> validators, final UInt64 epoch, final Bytes32 validatorsRoot) {
+      final byte[] statuses = new byte[validators.size()];
+      for (int i = 0; i < statuses.length; i++) {
+        statuses[i] =
+            (byte)
+                ValidatorStatusUtil.getValidatorStatus(epoch, validators.get(i), FAR_FUTURE_EPOCH)
+                    .ordinal();
+      }
+      return new ValidatorStatuses(epoch, validatorsRoot, statuses);
+    }
+
+    boolean matches(final UInt64 epoch, final Bytes32 validatorsRoot) {
+      return this.epoch.equals(epoch) && this.validatorsRoot.equals(validatorsRoot);
+    }
+
+    ValidatorStatus getStatus(final int validatorIndex) {
+      return STATUSES[statuses[validatorIndex]];
+    }
+  }
+}
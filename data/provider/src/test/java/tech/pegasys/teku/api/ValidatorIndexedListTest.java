@@ -0,0 +1,47 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ValidatorIndexedListTest {
+
+  private final List<Integer> createdItems = new ArrayList<>();
+
+  private final ValidatorIndexedList<String> list =
+      new ValidatorIndexedList<>(
+          new int[] {3, 5, 8},
+          index -> {
+            createdItems.add(index);
+            return "validator" + index;
+          });
+
+  @Test
+  void shouldNotCreateItemsUntilAccessed() {
+    assertThat(list).hasSize(3);
+    assertThat(createdItems).isEmpty();
+
+    assertThat(list.get(1)).isEqualTo("validator5");
+    assertThat(createdItems).containsExactly(5);
+  }
+
+  @Test
+  void shouldCreateItemsForSelectedIndicesInOrder() {
+    assertThat(list).containsExactly("validator3", "validator5", "validator8");
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.api.response.ValidatorStatus;
+import tech.pegasys.teku.api.response.ValidatorStatusUtil;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class ValidatorStatusCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SszList<Validator> registry =
+      dataStructureUtil.randomBeaconState(16).getValidators();
+
+  @SuppressWarnings("unchecked")
+  private final SszList<Validator> validators = mock(SszList.class);
+
+  private final ValidatorStatusCache cache = new ValidatorStatusCache();
+
+  @BeforeEach
+  void setUp() {
+    when(validators.size()).thenReturn(registry.size());
+    when(validators.hashTreeRoot()).thenReturn(registry.hashTreeRoot());
+    when(validators.get(anyInt()))
+        .thenAnswer(invocation -> registry.get(invocation.getArgument(0)));
+  }
+
+  @Test
+  void shouldComputeStatusOfEveryValidator() {
+    final UInt64 epoch = UInt64.valueOf(3);
+    final IntFunction<ValidatorStatus> statuses = cache.getStatuses(validators, epoch);
+
+    for (int i = 0; i < registry.size(); i++) {
+      final ValidatorStatus expected =
+          ValidatorStatusUtil.getValidatorStatus(epoch, registry.get(i), FAR_FUTURE_EPOCH);
+      assertThat(statuses.apply(i)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void shouldReuseStatusesForSameRegistryAndEpoch() {
+    cache.getStatuses(validators, UInt64.ONE);
+    reset(validators);
+    setUp();
+
+    cache.getStatuses(validators, UInt64.ONE);
+
+    verify(validators, never()).get(anyInt());
+  }
+
+  @Test
+  void shouldRecomputeStatusesWhenEpochChanges() {
+    cache.getStatuses(validators, UInt64.ONE);
+    reset(validators);
+    setUp();
+
+    cache.getStatuses(validators, UInt64.valueOf(2));
+
+    verify(validators, times(registry.size())).get(anyInt());
+  }
+}
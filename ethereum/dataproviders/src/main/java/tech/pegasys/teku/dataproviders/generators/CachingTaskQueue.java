@@ -44,7 +44,7 @@ public class CachingTaskQueue<K, V> {
   private final AtomicInteger activeTasks = new AtomicInteger(0);
   private final Queue<CacheableTask<K, V>> queuedTasks = new ConcurrentLinkedQueue<>();
 
-  private final Map<K, V> cache;
+  private final ResultCache<K, V> cache;
   private final AsyncRunner asyncRunner;
   private final MetricsSystem metricsSystem;
   private final String metricsPrefix;
@@ -56,11 +56,25 @@ public class CachingTaskQueue<K, V> {
       final String metricsPrefix,
       final IntSupplier activeTaskLimit,
       final int maxCacheSize) {
+    this(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        activeTaskLimit,
+        ResultCache.fromMap(LimitedMap.createSoft(maxCacheSize)));
+  }
+
+  CachingTaskQueue(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final IntSupplier activeTaskLimit,
+      final ResultCache<K, V> cache) {
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
     this.metricsPrefix = metricsPrefix;
     this.activeTaskLimit = activeTaskLimit;
-    this.cache = LimitedMap.createSoft(maxCacheSize);
+    this.cache = cache;
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -87,6 +101,19 @@ public class CachingTaskQueue<K, V> {
         maxCacheSize);
   }
 
+  public static <K, V> CachingTaskQueue<K, V> create(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final ResultCache<K, V> cache) {
+    return new CachingTaskQueue<>(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        () -> Math.max(2, Runtime.getRuntime().availableProcessors()),
+        cache);
+  }
+
   public void startMetrics() {
     final LabelledSuppliedMetric taskQueueMetrics =
         metricsSystem.createLabelledSuppliedGauge(
@@ -106,7 +133,7 @@ public class CachingTaskQueue<K, V> {
 
   public synchronized SafeFuture<Optional<V>> perform(final CacheableTask<K, V> task) {
     // Check if a completed result is available
-    final V cachedResult = cache.get(task.getKey());
+    final V cachedResult = cache.lookup(task.getKey());
     if (cachedResult != null) {
       cachedTaskCounter.inc();
       return SafeFuture.completedFuture(Optional.of(cachedResult));
@@ -122,6 +149,29 @@ public class CachingTaskQueue<K, V> {
     final SafeFuture<Optional<V>> generationResult = new SafeFuture<>();
     pendingTasks.put(task.getKey(), generationResult);
 
+    // Check if the cache holds the result in a form that has to be loaded before use
+    final Optional<SafeFuture<Optional<V>>> loadingResult = cache.load(task.getKey());
+    if (loadingResult.isPresent()) {
+      cachedTaskCounter.inc();
+      loadingResult
+          .get()
+          .thenAccept(
+              loadedValue -> {
+                if (loadedValue.isPresent()) {
+                  completePendingTask(task, loadedValue, null);
+                } else {
+                  scheduleTask(task);
+                }
+              })
+          .finish(error -> completePendingTask(task, Optional.empty(), error));
+      return generationResult;
+    }
+
+    scheduleTask(task);
+    return generationResult;
+  }
+
+  private synchronized void scheduleTask(final CacheableTask<K, V> task) {
     // Check if there's a better starting point (in cache or in progress)
     final Optional<SafeFuture<Optional<V>>> newBase =
         task.streamIntermediateSteps()
@@ -138,13 +188,12 @@ public class CachingTaskQueue<K, V> {
           .get()
           .thenAccept(ancestorResult -> queueTask(task.rebase(ancestorResult)))
           .finish(error -> completePendingTask(task, Optional.empty(), error));
-      return generationResult;
+      return;
     }
 
     // Schedule the task for execution
     newTaskCounter.inc();
     queueTask(task);
-    return generationResult;
   }
 
   public Optional<V> getIfAvailable(final K key) {
@@ -207,7 +256,7 @@ public class CachingTaskQueue<K, V> {
   }
 
   public void cacheAll(final Map<K, V> values) {
-    cache.putAll(values);
+    values.forEach(cache::put);
   }
 
   public void remove(final K key) {
@@ -215,13 +264,86 @@ public class CachingTaskQueue<K, V> {
   }
 
   public void removeIf(final Predicate<K> removalCondition) {
-    cache.keySet().removeIf(removalCondition);
+    cache.removeIf(removalCondition);
   }
 
   public void clear() {
     cache.clear();
   }
 
+  /**
+   * Storage for completed task results. Implementations must be thread safe and are free to drop
+   * entries at any time, in which case the value will be regenerated on the next request.
+   */
+  public interface ResultCache<K, V> {
+    /** Returns the value if it is immediately available, without blocking on any conversion. */
+    V get(K key);
+
+    /**
+     * Returns the value for a requested key if it is immediately available. Unlike {@link
+     * #get(Object)}, which is also used to probe for intermediate results, the result of this call
+     * is final for the request, so caches may record it in their metrics.
+     */
+    default V lookup(final K key) {
+      return get(key);
+    }
+
+    /**
+     * Starts loading a value which is cached but not immediately available, e.g. because it is
+     * held in a compressed form. Only called after {@link #get(Object)} has returned null.
+     *
+     * @return the pending value, or empty if the key is not cached at all. The future completes
+     *     with an empty optional if the value could not be loaded and has to be regenerated.
+     */
+    default Optional<SafeFuture<Optional<V>>> load(final K key) {
+      return Optional.empty();
+    }
+
+    void put(K key, V value);
+
+    void remove(K key);
+
+    void removeIf(Predicate<K> removalCondition);
+
+    void clear();
+
+    int size();
+
+    static <K, V> ResultCache<K, V> fromMap(final Map<K, V> map) {
+      return new ResultCache<>() {
+        @Override
+        public V get(final K key) {
+          return map.get(key);
+        }
+
+        @Override
+        public void put(final K key, final V value) {
+          map.put(key, value);
+        }
+
+        @Override
+        public void remove(final K key) {
+          map.remove(key);
+        }
+
+        @Override
+        public void removeIf(final Predicate<K> removalCondition) {
+          map.keySet().removeIf(removalCondition);
+        }
+
+        @Override
+        public void clear() {
+          map.clear();
+        }
+
+        @Override
+        public int size() {
+          return map.size();
+        }
+      };
+    }
+  }
+
   public interface CacheableTask<K, V> {
     /**
      * The key that uniquely identifies this task. Two tasks with equal keys should also have
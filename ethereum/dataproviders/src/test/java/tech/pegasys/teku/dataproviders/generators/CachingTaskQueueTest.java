@@ -17,13 +17,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
 
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.CacheableTask;
+import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.ResultCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -262,6 +265,44 @@ class CachingTaskQueueTest {
     assertThat(taskQueue.getIfAvailable(task.getKey())).isEqualTo(task.getExpectedValue());
   }
 
+  @Test
+  void shouldUseValueLoadedByCacheWithoutPerformingTask() {
+    final LoadingResultCache cache = new LoadingResultCache();
+    final CachingTaskQueue<Integer, String> queue = createQueue(cache);
+    final StubTask task = new StubTask(4);
+    final SafeFuture<Optional<String>> loadResult = new SafeFuture<>();
+    cache.loading.put(task.getKey(), loadResult);
+
+    final SafeFuture<Optional<String>> result = queue.perform(task);
+    assertThat(result).isNotDone();
+    task.assertNotPerformed();
+
+    loadResult.complete(task.getExpectedValue());
+    assertThat(result).isCompletedWithValue(task.getExpectedValue());
+    task.assertNotPerformed();
+  }
+
+  @Test
+  void shouldPerformTaskWhenCacheFailsToLoadValue() {
+    final LoadingResultCache cache = new LoadingResultCache();
+    final CachingTaskQueue<Integer, String> queue = createQueue(cache);
+    final StubTask task = new StubTask(4);
+    final SafeFuture<Optional<String>> loadResult = new SafeFuture<>();
+    cache.loading.put(task.getKey(), loadResult);
+
+    final SafeFuture<Optional<String>> result = queue.perform(task);
+    loadResult.complete(Optional.empty());
+    task.assertPerformedWithoutRebase();
+
+    task.completeTask();
+    assertThat(result).isCompletedWithValue(task.getExpectedValue());
+  }
+
+  private CachingTaskQueue<Integer, String> createQueue(final ResultCache<Integer, String> cache) {
+    return new CachingTaskQueue<>(
+        SYNC_RUNNER, metricsSystem, METRICS_PREFIX, () -> MAX_CONCURRENT_TASKS, cache);
+  }
+
   private void assertCacheSizeMetric(final int expectedSize) {
     final double value =
         metricsSystem
@@ -384,4 +425,44 @@ class CachingTaskQueueTest {
       assertThat(rebasedTo).describedAs("rebased starting point").isEmpty();
     }
   }
+
+  private static class LoadingResultCache implements ResultCache<Integer, String> {
+    private final Map<Integer, String> values = new HashMap<>();
+    private final Map<Integer, SafeFuture<Optional<String>>> loading = new HashMap<>();
+
+    @Override
+    public String get(final Integer key) {
+      return values.get(key);
+    }
+
+    @Override
+    public Optional<SafeFuture<Optional<String>>> load(final Integer key) {
+      return Optional.ofNullable(loading.remove(key));
+    }
+
+    @Override
+    public void put(final Integer key, final String value) {
+      values.put(key, value);
+    }
+
+    @Override
+    public void remove(final Integer key) {
+      values.remove(key);
+    }
+
+    @Override
+    public void removeIf(final Predicate<Integer> removalCondition) {
+      values.keySet().removeIf(removalCondition);
+    }
+
+    @Override
+    public void clear() {
+      values.clear();
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+  }
 }
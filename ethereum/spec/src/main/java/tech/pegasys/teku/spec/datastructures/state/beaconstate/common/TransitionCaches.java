@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSPublicKeyCache;
 import tech.pegasys.teku.infrastructure.collections.TekuPair;
 import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
@@ -52,11 +53,18 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           ValidatorIndexCache.NO_OP_INSTANCE,
+          BLSPublicKeyCache.NO_OP_INSTANCE,
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
-          ProgressiveTotalBalancesUpdates.NOOP) {
+          ProgressiveTotalBalancesUpdates.NOOP,
+          null) {
+
+        @Override
+        public void setValidatorRegistryView(final ValidatorRegistryView validatorRegistryView) {
+          // Don't retain views on the shared instance
+        }
 
         @Override
         public TransitionCaches copy() {
@@ -82,6 +90,7 @@ public class TransitionCaches {
   private final Cache<UInt64, UInt64> totalActiveBalance;
   private final Cache<UInt64, BLSPublicKey> validatorsPubKeys;
   private final ValidatorIndexCache validatorIndexCache;
+  private final BLSPublicKeyCache finalizedValidatorPubKeys;
   private final Cache<Bytes32, IntList> committeeShuffle;
   private final Cache<UInt64, List<UInt64>> effectiveBalances;
   private final Cache<UInt64, UInt64> baseRewardPerIncrement;
@@ -90,6 +99,7 @@ public class TransitionCaches {
 
   private volatile Optional<TotalBalances> latestTotalBalances = Optional.empty();
   private volatile ProgressiveTotalBalancesUpdates progressiveTotalBalances;
+  private volatile ValidatorRegistryView validatorRegistryView;
 
   private TransitionCaches() {
     activeValidators = LRUCache.create(MAX_ACTIVE_VALIDATORS_CACHE);
@@ -100,6 +110,7 @@ public class TransitionCaches {
     totalActiveBalance = LRUCache.create(MAX_TOTAL_ACTIVE_BALANCE_CACHE);
     validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
     validatorIndexCache = new ValidatorIndexCache();
+    finalizedValidatorPubKeys = BLSPublicKeyCache.create();
     committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
     effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
     syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
@@ -116,11 +127,13 @@ public class TransitionCaches {
       final Cache<UInt64, UInt64> totalActiveBalance,
       final Cache<UInt64, BLSPublicKey> validatorsPubKeys,
       final ValidatorIndexCache validatorIndexCache,
+      final BLSPublicKeyCache finalizedValidatorPubKeys,
       final Cache<Bytes32, IntList> committeeShuffle,
       final Cache<UInt64, List<UInt64>> effectiveBalances,
       final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       final Cache<UInt64, UInt64> baseRewardPerIncrement,
-      final ProgressiveTotalBalancesUpdates progressiveTotalBalances) {
+      final ProgressiveTotalBalancesUpdates progressiveTotalBalances,
+      final ValidatorRegistryView validatorRegistryView) {
     this.activeValidators = activeValidators;
     this.beaconProposerIndex = beaconProposerIndex;
     this.beaconCommittee = beaconCommittee;
@@ -129,11 +142,13 @@ public class TransitionCaches {
     this.totalActiveBalance = totalActiveBalance;
     this.validatorsPubKeys = validatorsPubKeys;
     this.validatorIndexCache = validatorIndexCache;
+    this.finalizedValidatorPubKeys = finalizedValidatorPubKeys;
     this.committeeShuffle = committeeShuffle;
     this.effectiveBalances = effectiveBalances;
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
     this.progressiveTotalBalances = progressiveTotalBalances;
+    this.validatorRegistryView = validatorRegistryView;
   }
 
   public void setLatestTotalBalances(final TotalBalances totalBalances) {
@@ -153,6 +168,18 @@ public class TransitionCaches {
     this.progressiveTotalBalances = progressiveTotalBalances;
   }
 
+  /**
+   * Columnar view of the validator registry. May be built from an ancestor state so callers should
+   * use {@link ValidatorRegistryView#getOrCreate} which checks it matches the current validators.
+   */
+  public ValidatorRegistryView getValidatorRegistryView() {
+    return validatorRegistryView;
+  }
+
+  public void setValidatorRegistryView(final ValidatorRegistryView validatorRegistryView) {
+    this.validatorRegistryView = validatorRegistryView;
+  }
+
   /** (epoch) -> (active validators) cache */
   public Cache<UInt64, IntList> getActiveValidators() {
     return activeValidators;
@@ -200,6 +227,14 @@ public class TransitionCaches {
     return validatorIndexCache;
   }
 
+  /**
+   * Decompressed public keys of the validators in the latest finalized state, by validator index.
+   * Shared by all copies and only extended from finalized states, so entries never change.
+   */
+  public BLSPublicKeyCache getFinalizedValidatorPubKeys() {
+    return finalizedValidatorPubKeys;
+  }
+
   /** (epoch committee seed) -> (validators shuffle for epoch) cache */
   public Cache<Bytes32, IntList> getCommitteeShuffle() {
     return committeeShuffle;
@@ -238,10 +273,12 @@ public class TransitionCaches {
         totalActiveBalance.copy(),
         validatorsPubKeys,
         validatorIndexCache,
+        finalizedValidatorPubKeys,
         committeeShuffle.copy(),
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
-        progressiveTotalBalances.copy());
+        progressiveTotalBalances.copy(),
+        validatorRegistryView);
   }
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+
+/**
+ * Read-only columnar projection of the frequently scanned {@link Validator} fields of a state.
+ *
+ * <p>Values are kept as raw uint64 bits in fixed size chunks of primitive arrays. The view is
+ * carried along the state lineage in {@link TransitionCaches}, and a child state derives its view
+ * from the one inherited from its parent: the two backing trees are compared and only the
+ * validators from differing subtrees are re-read, while all untouched chunks are shared. The most
+ * recent views are also shared by validators root, so separately loaded states with the same
+ * registry don't each build their own.
+ */
+public class ValidatorRegistryView {
+
+  private static final int CHUNK_BITS = 12;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  private static final int MAX_CACHED_VIEWS = 2;
+
+  private static final Cache<Bytes32, ValidatorRegistryView> VIEWS_BY_ROOT =
+      LRUCache.create(MAX_CACHED_VIEWS);
+
+  private final TreeNode validatorsNode;
+  private final int size;
+  private final long[][] effectiveBalances;
+  private final long[][] activationEligibilityEpochs;
+  private final long[][] activationEpochs;
+  private final long[][] exitEpochs;
+  private final long[][] withdrawableEpochs;
+  private final boolean[][] slashed;
+
+  private ValidatorRegistryView(
+      final TreeNode validatorsNode,
+      final int size,
+      final long[][] effectiveBalances,
+      final long[][] activationEligibilityEpochs,
+      final long[][] activationEpochs,
+      final long[][] exitEpochs,
+      final long[][] withdrawableEpochs,
+      final boolean[][] slashed) {
+    this.validatorsNode = validatorsNode;
+    this.size = size;
+    this.effectiveBalances = effectiveBalances;
+    this.activationEligibilityEpochs = activationEligibilityEpochs;
+    this.activationEpochs = activationEpochs;
+    this.exitEpochs = exitEpochs;
+    this.withdrawableEpochs = withdrawableEpochs;
+    this.slashed = slashed;
+  }
+
+  /**
+   * Returns the view matching the current validators of the state, reusing a view with the same
+   * validators root when there is one and otherwise incrementally updating the view inherited from
+   * the parent state.
+   */
+  public static ValidatorRegistryView getOrCreate(final BeaconState state) {
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(state);
+    final SszList<Validator> validators = state.getValidators();
+    final TreeNode validatorsNode = validators.getBackingNode();
+    final ValidatorRegistryView lineageView = transitionCaches.getValidatorRegistryView();
+    if (lineageView != null && lineageView.validatorsNode == validatorsNode) {
+      return lineageView;
+    }
+
+    final Bytes32 validatorsRoot = validators.hashTreeRoot();
+    final Optional<ValidatorRegistryView> sharedView = VIEWS_BY_ROOT.getCached(validatorsRoot);
+    if (sharedView.isPresent()) {
+      // Only keep views built from this backing tree so descendants diff against their own lineage
+      if (sharedView.get().validatorsNode == validatorsNode) {
+        transitionCaches.setValidatorRegistryView(sharedView.get());
+      }
+      return sharedView.get();
+    }
+
+    // Built outside the cache lock as a full build can take a while on a large registry
+    final ValidatorRegistryView view =
+        lineageView == null || lineageView.size > validators.size()
+            ? create(validators, validatorsNode)
+            : lineageView.update(validators, validatorsNode);
+    VIEWS_BY_ROOT.invalidateWithNewValue(validatorsRoot, view);
+    transitionCaches.setValidatorRegistryView(view);
+    return view;
+  }
+
+  static ValidatorRegistryView create(
+      final SszList<Validator> validators, final TreeNode validatorsNode) {
+    final Builder builder = new Builder(null, validators.size());
+    for (int i = 0; i < validators.size(); i++) {
+      builder.set(i, validators.get(i));
+    }
+    return builder.build(validatorsNode);
+  }
+
+  ValidatorRegistryView update(
+      final SszList<Validator> validators, final TreeNode newValidatorsNode) {
+    final int newSize = validators.size();
+    final Builder builder = new Builder(this, newSize);
+    final long firstElementGIndex = validators.getSchema().getChildGeneralizedIndex(0);
+    collectChangedIndices(
+        validatorsNode,
+        newValidatorsNode,
+        GIndexUtil.SELF_G_INDEX,
+        GIndexUtil.gIdxGetDepth(firstElementGIndex),
+        firstElementGIndex,
+        newSize,
+        index -> builder.set(index, validators.get(index)));
+    return builder.build(newValidatorsNode);
+  }
+
+  private static void collectChangedIndices(
+      final TreeNode oldNode,
+      final TreeNode newNode,
+      final long gIndex,
+      final int elementDepth,
+      final long firstElementGIndex,
+      final int size,
+      final IntConsumer changedIndexConsumer) {
+    if (oldNode == newNode) {
+      return;
+    }
+    final int depth = GIndexUtil.gIdxGetDepth(gIndex);
+    if (depth < elementDepth
+        && oldNode instanceof BranchNode oldBranch
+        && newNode instanceof BranchNode newBranch) {
+      collectChangedIndices(
+          oldBranch.left(),
+          newBranch.left(),
+          GIndexUtil.gIdxLeftGIndex(gIndex),
+          elementDepth,
+          firstElementGIndex,
+          size,
+          changedIndexConsumer);
+      collectChangedIndices(
+          oldBranch.right(),
+          newBranch.right(),
+          GIndexUtil.gIdxRightGIndex(gIndex),
+          elementDepth,
+          firstElementGIndex,
+          size,
+          changedIndexConsumer);
+      return;
+    }
+    // Either reached a single validator or the tree shapes differ: re-read the whole subtree range
+    final int shift = elementDepth - depth;
+    final long firstIndex = (gIndex << shift) - firstElementGIndex;
+    final long endIndex = firstIndex + (1L << shift);
+    for (long index = Math.max(firstIndex, 0); index < Math.min(endIndex, size); index++) {
+      changedIndexConsumer.accept((int) index);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public UInt64 getEffectiveBalance(final int index) {
+    return UInt64.fromLongBits(getEffectiveBalanceBits(index));
+  }
+
+  /** Returns the effective balance as raw uint64 bits without boxing */
+  public long getEffectiveBalanceBits(final int index) {
+    return get(effectiveBalances, index);
+  }
+
+  public UInt64 getActivationEligibilityEpoch(final int index) {
+    return UInt64.fromLongBits(get(activationEligibilityEpochs, index));
+  }
+
+  public UInt64 getActivationEpoch(final int index) {
+    return UInt64.fromLongBits(get(activationEpochs, index));
+  }
+
+  public UInt64 getExitEpoch(final int index) {
+    return UInt64.fromLongBits(get(exitEpochs, index));
+  }
+
+  public UInt64 getWithdrawableEpoch(final int index) {
+    return UInt64.fromLongBits(get(withdrawableEpochs, index));
+  }
+
+  public boolean isSlashed(final int index) {
+    checkIndex(index);
+    return slashed[index >>> CHUNK_BITS][index & CHUNK_MASK];
+  }
+
+  /** Unboxed equivalent of {@code Predicates.isActiveValidator(validator, epoch)} */
+  public boolean isActiveValidator(final int index, final UInt64 epoch) {
+    final long epochBits = epoch.longValue();
+    return Long.compareUnsigned(get(activationEpochs, index), epochBits) <= 0
+        && Long.compareUnsigned(epochBits, get(exitEpochs, index)) < 0;
+  }
+
+  private long get(final long[][] column, final int index) {
+    checkIndex(index);
+    return column[index >>> CHUNK_BITS][index & CHUNK_MASK];
+  }
+
+  private void checkIndex(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Invalid validator index " + index + ", size " + size);
+    }
+  }
+
+  private static class Builder {
+    private final int size;
+    private final long[][] effectiveBalances;
+    private final long[][] activationEligibilityEpochs;
+    private final long[][] activationEpochs;
+    private final long[][] exitEpochs;
+    private final long[][] withdrawableEpochs;
+    private final boolean[][] slashed;
+    private final boolean[] ownedChunks;
+
+    private Builder(final ValidatorRegistryView parent, final int size) {
+      final int chunksCount = (size + CHUNK_SIZE - 1) >>> CHUNK_BITS;
+      this.size = size;
+      this.ownedChunks = new boolean[chunksCount];
+      if (parent == null) {
+        effectiveBalances = new long[chunksCount][];
+        activationEligibilityEpochs = new long[chunksCount][];
+        activationEpochs = new long[chunksCount][];
+        exitEpochs = new long[chunksCount][];
+        withdrawableEpochs = new long[chunksCount][];
+        slashed = new boolean[chunksCount][];
+      } else {
+        // Chunks are shared with the parent until first written
+        effectiveBalances = Arrays.copyOf(parent.effectiveBalances, chunksCount);
+        activationEligibilityEpochs =
+            Arrays.copyOf(parent.activationEligibilityEpochs, chunksCount);
+        activationEpochs = Arrays.copyOf(parent.activationEpochs, chunksCount);
+        exitEpochs = Arrays.copyOf(parent.exitEpochs, chunksCount);
+        withdrawableEpochs = Arrays.copyOf(parent.withdrawableEpochs, chunksCount);
+        slashed = Arrays.copyOf(parent.slashed, chunksCount);
+      }
+    }
+
+    private void set(final int index, final Validator validator) {
+      final int chunk = index >>> CHUNK_BITS;
+      final int offset = index & CHUNK_MASK;
+      if (!ownedChunks[chunk]) {
+        effectiveBalances[chunk] = copyChunk(effectiveBalances[chunk]);
+        activationEligibilityEpochs[chunk] = copyChunk(activationEligibilityEpochs[chunk]);
+        activationEpochs[chunk] = copyChunk(activationEpochs[chunk]);
+        exitEpochs[chunk] = copyChunk(exitEpochs[chunk]);
+        withdrawableEpochs[chunk] = copyChunk(withdrawableEpochs[chunk]);
+        slashed[chunk] = slashed[chunk] == null ? new boolean[CHUNK_SIZE] : slashed[chunk].clone();
+        ownedChunks[chunk] = true;
+      }
+      effectiveBalances[chunk][offset] = validator.getEffectiveBalance().longValue();
+      activationEligibilityEpochs[chunk][offset] =
+          validator.getActivationEligibilityEpoch().longValue();
+      activationEpochs[chunk][offset] = validator.getActivationEpoch().longValue();
+      exitEpochs[chunk][offset] = validator.getExitEpoch().longValue();
+      withdrawableEpochs[chunk][offset] = validator.getWithdrawableEpoch().longValue();
+      slashed[chunk][offset] = validator.isSlashed();
+    }
+
+    private static long[] copyChunk(final long[] chunk) {
+      return chunk == null ? new long[CHUNK_SIZE] : chunk.clone();
+    }
+
+    private ValidatorRegistryView build(final TreeNode validatorsNode) {
+      return new ValidatorRegistryView(
+          validatorsNode,
+          size,
+          effectiveBalances,
+          activationEligibilityEpochs,
+          activationEpochs,
+          exitEpochs,
+          withdrawableEpochs,
+          slashed);
+    }
+  }
+}
@@ -38,6 +38,8 @@ import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistryView;
 
 public abstract class BeaconStateAccessors {
   protected final SpecConfig config;
@@ -81,8 +83,14 @@ public abstract class BeaconStateAccessors {
         || validatorIndex.longValue() < 0) {
       return Optional.empty();
     }
+    final TransitionCaches transitionCaches = BeaconStateCache.getTransitionCaches(state);
+    final Optional<BLSPublicKey> finalizedPubKey =
+        transitionCaches.getFinalizedValidatorPubKeys().get(validatorIndex.intValue());
+    if (finalizedPubKey.isPresent()) {
+      return finalizedPubKey;
+    }
     return Optional.of(
-        BeaconStateCache.getTransitionCaches(state)
+        transitionCaches
             .getValidatorsPubKeys()
             .get(
                 validatorIndex,
@@ -90,7 +98,7 @@ public abstract class BeaconStateAccessors {
                   BLSPublicKey pubKey = state.getValidators().get(i.intValue()).getPublicKey();
 
                   // eagerly pre-cache pubKey => validatorIndex mapping
-                  BeaconStateCache.getTransitionCaches(state)
+                  transitionCaches
                       .getValidatorIndexCache()
                       .invalidateWithNewValue(pubKey, i.intValue());
                   return pubKey;
@@ -117,10 +125,10 @@ public abstract class BeaconStateAccessors {
         .get(
             epoch,
             e -> {
-              SszList<Validator> validators = state.getValidators();
+              final ValidatorRegistryView registry = ValidatorRegistryView.getOrCreate(state);
               return IntList.of(
-                  IntStream.range(0, validators.size())
-                      .filter(index -> predicates.isActiveValidator(validators.get(index), epoch))
+                  IntStream.range(0, registry.size())
+                      .filter(index -> registry.isActiveValidator(index, epoch))
                       .toArray());
             });
   }
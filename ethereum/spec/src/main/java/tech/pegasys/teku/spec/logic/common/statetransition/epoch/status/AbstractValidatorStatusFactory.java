@@ -16,15 +16,16 @@ package tech.pegasys.teku.spec.logic.common.statetransition.epoch.status;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.MAX_VALUE;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes32;
-import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.TransitionCaches;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.ValidatorRegistryView;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
@@ -58,13 +59,13 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
 
   @Override
   public ValidatorStatuses createValidatorStatuses(final BeaconState state) {
-    final SszList<Validator> validators = state.getValidators();
+    final ValidatorRegistryView registry = ValidatorRegistryView.getOrCreate(state);
 
     final UInt64 currentEpoch = beaconStateAccessors.getCurrentEpoch(state);
     final UInt64 previousEpoch = beaconStateAccessors.getPreviousEpoch(state);
 
     final List<ValidatorStatus> statuses =
-        createInitialValidatorStatuses(validators, currentEpoch, previousEpoch);
+        createInitialValidatorStatuses(registry, currentEpoch, previousEpoch);
 
     processParticipation(statuses, state, previousEpoch, currentEpoch);
 
@@ -93,17 +94,33 @@ public abstract class AbstractValidatorStatusFactory implements ValidatorStatusF
   }
 
   private List<ValidatorStatus> createInitialValidatorStatuses(
-      final SszList<Validator> validators, final UInt64 currentEpoch, final UInt64 previousEpoch) {
-    // Note: parallel() here is being used with great care. The iteration of the list is done by a
-    // single thread and then the conversion of individual Validator to ValidatorStatus is done by
-    // worker pools. Thus, each Validator instance is still only accessed by a single thread at a
-    // time. By the time we get the list back we're back to single threaded mode.
-    return validators.stream()
+      final ValidatorRegistryView registry,
+      final UInt64 currentEpoch,
+      final UInt64 previousEpoch) {
+    // The registry view is immutable and backed by primitive arrays so it can be read from worker
+    // threads without touching the state tree.
+    return IntStream.range(0, registry.size())
         .parallel()
-        .map(validator -> createValidatorStatus(validator, previousEpoch, currentEpoch))
+        .mapToObj(index -> createValidatorStatus(registry, index, previousEpoch, currentEpoch))
         .toList();
   }
 
+  private ValidatorStatus createValidatorStatus(
+      final ValidatorRegistryView registry,
+      final int index,
+      final UInt64 previousEpoch,
+      final UInt64 currentEpoch) {
+    final UInt64 withdrawableEpoch = registry.getWithdrawableEpoch(index);
+    return new ValidatorStatus(
+        registry.isSlashed(index),
+        withdrawableEpoch.isLessThanOrEqualTo(currentEpoch),
+        registry.getEffectiveBalance(index),
+        withdrawableEpoch,
+        registry.isActiveValidator(index, currentEpoch),
+        registry.isActiveValidator(index, previousEpoch),
+        registry.isActiveValidator(index, currentEpoch.plus(1)));
+  }
+
   @Override
   public ValidatorStatus createValidatorStatus(
       final Validator validator, final UInt64 previousEpoch, final UInt64 currentEpoch) {
@@ -0,0 +1,125 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state.beaconstate.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class ValidatorRegistryViewTest {
+
+  private static final int NUMBER_OF_VALIDATORS = 5000;
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(NUMBER_OF_VALIDATORS);
+
+  @Test
+  public void shouldMatchValidatorsInState() {
+    final ValidatorRegistryView view = ValidatorRegistryView.getOrCreate(state);
+
+    assertMatchesValidators(view, state.getValidators());
+  }
+
+  @Test
+  public void shouldReuseViewForSameValidators() {
+    final ValidatorRegistryView view = ValidatorRegistryView.getOrCreate(state);
+    final BeaconState updatedState =
+        state.updated(mutableState -> mutableState.setSlot(UInt64.ONE));
+
+    assertThat(ValidatorRegistryView.getOrCreate(updatedState)).isSameAs(view);
+  }
+
+  @Test
+  public void shouldShareViewBetweenStatesWithSameValidatorsRoot() {
+    final ValidatorRegistryView view = ValidatorRegistryView.getOrCreate(state);
+    // Loading the state again builds separate backing trees with the same validators root
+    final BeaconState loadedState = spec.deserializeBeaconState(state.sszSerialize());
+
+    assertThat(ValidatorRegistryView.getOrCreate(loadedState)).isSameAs(view);
+  }
+
+  @Test
+  public void shouldIncrementallyUpdateViewOfChildState() {
+    final ValidatorRegistryView parentView = ValidatorRegistryView.getOrCreate(state);
+    final Validator newValidator = dataStructureUtil.randomValidator();
+    final BeaconState updatedState =
+        state.updated(
+            mutableState -> {
+              mutableState
+                  .getValidators()
+                  .update(
+                      17,
+                      validator ->
+                          validator.withEffectiveBalance(UInt64.valueOf(1)).withSlashed(true));
+              mutableState
+                  .getValidators()
+                  .update(4500, validator -> validator.withExitEpoch(UInt64.valueOf(5)));
+              mutableState.getValidators().append(newValidator);
+            });
+
+    final ValidatorRegistryView childView = ValidatorRegistryView.getOrCreate(updatedState);
+
+    assertMatchesValidators(childView, updatedState.getValidators());
+    assertThat(childView.size()).isEqualTo(NUMBER_OF_VALIDATORS + 1);
+    assertThat(childView.getEffectiveBalance(17)).isEqualTo(UInt64.valueOf(1));
+    assertThat(childView.isSlashed(17)).isTrue();
+    assertThat(childView.getExitEpoch(4500)).isEqualTo(UInt64.valueOf(5));
+    // The parent view must not be affected by the child update
+    assertMatchesValidators(parentView, state.getValidators());
+  }
+
+  @Test
+  public void shouldDeriveChildViewFromParentLineage() {
+    ValidatorRegistryView.getOrCreate(state);
+    // An unrelated state, such as a historical one, must not become the base for the child
+    final BeaconState otherState = dataStructureUtil.randomBeaconState(NUMBER_OF_VALIDATORS);
+    ValidatorRegistryView.getOrCreate(otherState);
+    final BeaconState updatedState =
+        state.updated(
+            mutableState ->
+                mutableState
+                    .getValidators()
+                    .update(42, validator -> validator.withExitEpoch(UInt64.valueOf(7))));
+
+    final ValidatorRegistryView childView = ValidatorRegistryView.getOrCreate(updatedState);
+
+    assertMatchesValidators(childView, updatedState.getValidators());
+    assertThat(BeaconStateCache.getTransitionCaches(updatedState).getValidatorRegistryView())
+        .isSameAs(childView);
+  }
+
+  private void assertMatchesValidators(
+      final ValidatorRegistryView view, final SszList<Validator> validators) {
+    assertThat(view.size()).isEqualTo(validators.size());
+    for (int i = 0; i < validators.size(); i++) {
+      final Validator validator = validators.get(i);
+      assertThat(view.getEffectiveBalance(i)).isEqualTo(validator.getEffectiveBalance());
+      assertThat(view.getActivationEligibilityEpoch(i))
+          .isEqualTo(validator.getActivationEligibilityEpoch());
+      assertThat(view.getActivationEpoch(i)).isEqualTo(validator.getActivationEpoch());
+      assertThat(view.getExitEpoch(i)).isEqualTo(validator.getExitEpoch());
+      assertThat(view.getWithdrawableEpoch(i)).isEqualTo(validator.getWithdrawableEpoch());
+      assertThat(view.isSlashed(i)).isEqualTo(validator.isSlashed());
+    }
+  }
+}
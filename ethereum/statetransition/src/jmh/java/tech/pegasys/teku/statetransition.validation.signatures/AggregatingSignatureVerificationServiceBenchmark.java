@@ -67,6 +67,7 @@ public class AggregatingSignatureVerificationServiceBenchmark {
           2,
           15_000,
           250,
+          0,
           false);
 
   private final int signaturesToVerify = 10_000;
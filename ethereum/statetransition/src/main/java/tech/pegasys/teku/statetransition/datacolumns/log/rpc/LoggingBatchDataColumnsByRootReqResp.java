@@ -14,6 +14,7 @@
 package tech.pegasys.teku.statetransition.datacolumns.log.rpc;
 
 import java.util.List;
+import java.util.OptionalDouble;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.stream.AsyncStream;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
@@ -46,4 +47,9 @@ public class LoggingBatchDataColumnsByRootReqResp implements BatchDataColumnsByR
   public int getCurrentRequestLimit(final UInt256 nodeId) {
     return delegate.getCurrentRequestLimit(nodeId);
   }
+
+  @Override
+  public OptionalDouble getAverageResponseRate(final UInt256 nodeId) {
+    return delegate.getAverageResponseRate(nodeId);
+  }
 }
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.statetransition.datacolumns.retriever;
 
 import java.util.List;
+import java.util.OptionalDouble;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.stream.AsyncStream;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
@@ -25,4 +26,12 @@ public interface BatchDataColumnsByRootReqResp {
       UInt256 nodeId, List<DataColumnsByRootIdentifier> byRootIdentifiers);
 
   int getCurrentRequestLimit(UInt256 nodeId);
+
+  /**
+   * @return the average rate at which the peer delivered data column sidecars, or empty if not
+   *     measured yet
+   */
+  default OptionalDouble getAverageResponseRate(final UInt256 nodeId) {
+    return OptionalDouble.empty();
+  }
 }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition.datacolumns.retriever;
 
+import java.util.OptionalDouble;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
@@ -27,6 +28,14 @@ public interface DataColumnReqResp {
 
   int getCurrentRequestLimit(UInt256 nodeId);
 
+  /**
+   * @return the average rate at which the peer delivered data column sidecars, or empty if not
+   *     measured yet
+   */
+  default OptionalDouble getAverageResponseRate(final UInt256 nodeId) {
+    return OptionalDouble.empty();
+  }
+
   class DataColumnReqRespException extends RuntimeException {}
 
   class DasColumnNotAvailableException extends DataColumnReqRespException {}
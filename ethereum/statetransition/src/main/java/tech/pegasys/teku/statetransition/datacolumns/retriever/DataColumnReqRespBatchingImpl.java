@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -129,4 +130,9 @@ public class DataColumnReqRespBatchingImpl implements DataColumnReqResp {
   public int getCurrentRequestLimit(final UInt256 nodeId) {
     return batchRpc.getCurrentRequestLimit(nodeId);
   }
+
+  @Override
+  public OptionalDouble getAverageResponseRate(final UInt256 nodeId) {
+    return batchRpc.getAverageResponseRate(nodeId);
+  }
 }
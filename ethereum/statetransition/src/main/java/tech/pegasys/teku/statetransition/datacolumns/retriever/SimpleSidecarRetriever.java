@@ -152,10 +152,14 @@ public class SimpleSidecarRetriever
     final Collection<ConnectedPeer> matchingPeers =
         findMatchingPeers(request, ongoingRequestsTracker);
 
-    // taking first the peers which were not requested yet, then peers which are less busy
+    // taking first the peers which were not requested yet, then peers which delivered data faster,
+    // then peers which are less busy. Peers which haven't been measured yet are tried first.
     final Comparator<ConnectedPeer> comparator =
         Comparator.comparing((ConnectedPeer peer) -> request.getPeerRequestCount(peer.nodeId))
             .reversed()
+            .thenComparing(
+                (ConnectedPeer peer) ->
+                    reqResp.getAverageResponseRate(peer.nodeId).orElse(Double.POSITIVE_INFINITY))
             .thenComparing(
                 (ConnectedPeer peer) ->
                     ongoingRequestsTracker.getAvailableRequestCount(peer.nodeId));
@@ -18,15 +18,23 @@ import static java.util.Collections.singletonList;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
 import tech.pegasys.teku.bls.BLS;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -36,48 +44,103 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.MetricsQuantileHistogram;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
+import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
+/**
+ * Verifies signatures in batches on a fixed number of threads.
+ *
+ * <p>Tasks are queued in {@link SignatureVerificationLane}s and batches are filled in lane order.
+ * The batch size adapts to the observed queue wait: while tasks wait longer than {@link
+ * #TARGET_QUEUE_WAIT_MILLIS} batches grow towards the configured maximum to increase throughput,
+ * otherwise they shrink so each batch completes quickly and newly queued priority work is picked up
+ * sooner.
+ */
 public class AggregatingSignatureVerificationService extends SignatureVerificationService {
   private static final Logger LOG = LogManager.getLogger();
 
   static final int DEFAULT_MIN_BATCH_SIZE_TO_SPLIT = 25;
+  static final int MIN_ADAPTIVE_BATCH_SIZE = 16;
+  static final long TARGET_QUEUE_WAIT_MILLIS = 50;
 
   private final AsyncRunner completionRunner;
+  private final TimeProvider timeProvider;
   private final int numThreads;
+  private final int queueCapacity;
   private final int maxBatchSize;
+  private final int minAdaptiveBatchSize;
   private final int minBatchSizeToSplit;
+  private final long staleAttestationDeadlineMillis;
   private final boolean strictThreadLimitEnabled;
 
-  @VisibleForTesting final BlockingQueue<SignatureTask> batchSignatureTasks;
+  @VisibleForTesting final PriorityBlockingQueue<SignatureTask> batchSignatureTasks;
+  private final Map<SignatureVerificationLane, AtomicInteger> laneQueueSizes =
+      new EnumMap<>(SignatureVerificationLane.class);
+  private final Map<SignatureVerificationLane, Counter> droppedTaskCounters =
+      new EnumMap<>(SignatureVerificationLane.class);
+  private final AtomicLong taskSequence = new AtomicLong();
+  private final AtomicInteger currentBatchSize;
   private final AsyncRunner asyncRunner;
   private final Counter batchCounter;
   private final Counter taskCounter;
   private final MetricsQuantileHistogram batchSizeHistogram;
+  private final MetricsQuantileHistogram queueWaitHistogram;
+  private final MetricsQuantileHistogram verifyTimeHistogram;
 
   @VisibleForTesting
   AggregatingSignatureVerificationService(
       final MetricsSystem metricsSystem,
       final AsyncRunnerFactory asyncRunnerFactory,
       final AsyncRunner completionRunner,
+      final TimeProvider timeProvider,
       final int numThreads,
       final int queueCapacity,
       final int maxBatchSize,
       final int minBatchSizeToSplit,
+      final long staleAttestationDeadlineMillis,
       final boolean strictThreadLimitEnabled) {
     this.numThreads = Math.min(numThreads, Runtime.getRuntime().availableProcessors());
     this.asyncRunner = asyncRunnerFactory.create(this.getClass().getSimpleName(), this.numThreads);
     this.completionRunner = completionRunner;
+    this.timeProvider = timeProvider;
+    this.queueCapacity = queueCapacity;
     this.maxBatchSize = maxBatchSize;
+    this.minAdaptiveBatchSize = Math.max(1, Math.min(maxBatchSize, MIN_ADAPTIVE_BATCH_SIZE));
+    this.currentBatchSize = new AtomicInteger(maxBatchSize);
 
-    this.batchSignatureTasks = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSignatureTasks =
+        new PriorityBlockingQueue<>(
+            queueCapacity,
+            Comparator.<SignatureTask>comparingInt(task -> task.lane.ordinal())
+                .thenComparingLong(task -> task.sequence));
     this.minBatchSizeToSplit = minBatchSizeToSplit;
+    this.staleAttestationDeadlineMillis = staleAttestationDeadlineMillis;
     this.strictThreadLimitEnabled = strictThreadLimitEnabled;
     metricsSystem.createGauge(
         TekuMetricCategory.EXECUTOR,
         "signature_verifications_queue_size",
         "Tracks number of signatures waiting to be batch verified",
         this::getQueueSize);
+    final LabelledSuppliedMetric laneQueueSizeGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_lane_queue_size",
+            "Tracks number of signatures waiting to be batch verified in each lane",
+            "lane");
+    final LabelledMetric<Counter> droppedTaskCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.EXECUTOR,
+            "signature_verifications_dropped_total",
+            "Reports the number of verification tasks dropped because they became stale",
+            "lane");
+    for (SignatureVerificationLane lane : SignatureVerificationLane.values()) {
+      final AtomicInteger laneQueueSize = new AtomicInteger();
+      laneQueueSizes.put(lane, laneQueueSize);
+      laneQueueSizeGauge.labels(laneQueueSize::get, lane.getMetricLabel());
+      droppedTaskCounters.put(lane, droppedTaskCounter.labels(lane.getMetricLabel()));
+    }
     batchCounter =
         metricsSystem.createCounter(
             TekuMetricCategory.EXECUTOR,
@@ -96,6 +159,22 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
             "Histogram of signature verification batch sizes",
             3,
             List.of());
+    queueWaitHistogram =
+        MetricsQuantileHistogram.create(
+            TekuMetricCategory.EXECUTOR,
+            metricsSystem,
+            "signature_verifications_queue_wait_ms",
+            "Histogram of the time verification tasks spend queued in each lane",
+            3,
+            List.of("lane"));
+    verifyTimeHistogram =
+        MetricsQuantileHistogram.create(
+            TekuMetricCategory.EXECUTOR,
+            metricsSystem,
+            "signature_verifications_verify_time_ms",
+            "Histogram of the time taken to verify the batches containing tasks from each lane",
+            3,
+            List.of("lane"));
   }
 
   public AggregatingSignatureVerificationService(
@@ -105,15 +184,18 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final int maxThreads,
       final int queueCapacity,
       final int maxBatchSize,
+      final long staleAttestationDeadlineMillis,
       final boolean strictThreadLimitEnabled) {
     this(
         metricsSystem,
         asyncRunnerFactory,
         completionRunner,
+        new SystemTimeProvider(),
         maxThreads,
         queueCapacity,
         maxBatchSize,
         DEFAULT_MIN_BATCH_SIZE_TO_SPLIT,
+        staleAttestationDeadlineMillis,
         strictThreadLimitEnabled);
   }
 
@@ -139,7 +221,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   @Override
   public SafeFuture<Boolean> verify(
       final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
-    return verify(singletonList(publicKeys), singletonList(message), singletonList(signature));
+    return verify(
+        SignatureVerificationLane.DEFAULT,
+        singletonList(publicKeys),
+        singletonList(message),
+        singletonList(signature));
   }
 
   @Override
@@ -147,14 +233,54 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
       final List<List<BLSPublicKey>> publicKeys,
       final List<Bytes> messages,
       final List<BLSSignature> signatures) {
+    return verify(SignatureVerificationLane.DEFAULT, publicKeys, messages, signatures);
+  }
+
+  @Override
+  public AsyncBLSSignatureVerifier forLane(final SignatureVerificationLane lane) {
+    return new AsyncBLSSignatureVerifier() {
+      @Override
+      public SafeFuture<Boolean> verify(
+          final List<BLSPublicKey> publicKeys, final Bytes message, final BLSSignature signature) {
+        return AggregatingSignatureVerificationService.this.verify(
+            lane, singletonList(publicKeys), singletonList(message), singletonList(signature));
+      }
+
+      @Override
+      public SafeFuture<Boolean> verify(
+          final List<List<BLSPublicKey>> publicKeys,
+          final List<Bytes> messages,
+          final List<BLSSignature> signatures) {
+        return AggregatingSignatureVerificationService.this.verify(
+            lane, publicKeys, messages, signatures);
+      }
+    };
+  }
+
+  private SafeFuture<Boolean> verify(
+      final SignatureVerificationLane lane,
+      final List<List<BLSPublicKey>> publicKeys,
+      final List<Bytes> messages,
+      final List<BLSSignature> signatures) {
     assertIsRunning("verify");
     final SignatureTask task =
-        new SignatureTask(completionRunner, publicKeys, messages, signatures);
-    if (!batchSignatureTasks.offer(task)) {
+        new SignatureTask(
+            completionRunner,
+            lane,
+            taskSequence.getAndIncrement(),
+            timeProvider.getTimeInMillis().longValue(),
+            publicKeys,
+            messages,
+            signatures);
+    final AtomicInteger laneQueueSize = laneQueueSizes.get(lane);
+    if (laneQueueSize.incrementAndGet() > queueCapacity) {
       // Queue is full
+      laneQueueSize.decrementAndGet();
       final Throwable error =
           new ServiceCapacityExceededException("Failed to process signature, queue is full.");
       task.result.completeExceptionally(error);
+    } else {
+      batchSignatureTasks.add(task);
     }
     return task.result;
   }
@@ -163,7 +289,13 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     while (isRunning()) {
       final List<SignatureTask> tasks = waitForBatch();
       if (!tasks.isEmpty()) {
+        final long startTime = timeProvider.getTimeInMillis().longValue();
         batchVerifySignatures(tasks);
+        final long verifyTime = timeProvider.getTimeInMillis().longValue() - startTime;
+        final Set<SignatureVerificationLane> lanes =
+            EnumSet.noneOf(SignatureVerificationLane.class);
+        tasks.forEach(task -> lanes.add(task.lane));
+        lanes.forEach(lane -> verifyTimeHistogram.recordValue(verifyTime, lane.getMetricLabel()));
       }
     }
   }
@@ -171,19 +303,67 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   private List<SignatureTask> waitForBatch() {
     final List<SignatureTask> tasks = new ArrayList<>();
     try {
-      int batchSize = maxBatchSize;
       final SignatureTask firstTask = batchSignatureTasks.poll(30, TimeUnit.SECONDS);
       if (firstTask != null) {
-        tasks.add(firstTask);
-        batchSize -= 1;
+        final long maxQueueWait = takeTasks(firstTask, tasks, currentBatchSize.get());
+        adaptBatchSize(maxQueueWait);
       }
-      batchSignatureTasks.drainTo(tasks, batchSize);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
     return tasks;
   }
 
+  /**
+   * Adds the first task and then as many queued tasks as fit in the batch, in lane order. Stale
+   * tasks are completed exceptionally rather than being added.
+   *
+   * @return the longest time any of the taken tasks waited in the queue
+   */
+  @VisibleForTesting
+  long takeTasks(
+      final SignatureTask firstTask, final List<SignatureTask> tasks, final int batchSize) {
+    final long now = timeProvider.getTimeInMillis().longValue();
+    long maxQueueWait = 0;
+    SignatureTask task = firstTask;
+    while (task != null) {
+      laneQueueSizes.get(task.lane).decrementAndGet();
+      final long queueWait = now - task.queuedAtMillis;
+      maxQueueWait = Math.max(maxQueueWait, queueWait);
+      queueWaitHistogram.recordValue(queueWait, task.lane.getMetricLabel());
+      if (isStale(task, queueWait)) {
+        droppedTaskCounters.get(task.lane).inc();
+        task.completeExceptionallyAsync(
+            new ServiceCapacityExceededException(
+                "Signature verification dropped after waiting " + queueWait + "ms in queue."));
+      } else {
+        tasks.add(task);
+      }
+      task = tasks.size() < batchSize ? batchSignatureTasks.poll() : null;
+    }
+    return maxQueueWait;
+  }
+
+  private boolean isStale(final SignatureTask task, final long queueWait) {
+    return task.lane.dropsStaleTasks()
+        && staleAttestationDeadlineMillis > 0
+        && queueWait > staleAttestationDeadlineMillis;
+  }
+
+  private void adaptBatchSize(final long maxQueueWait) {
+    if (maxQueueWait > TARGET_QUEUE_WAIT_MILLIS) {
+      currentBatchSize.updateAndGet(size -> Math.min(maxBatchSize, size * 2));
+    } else if (maxQueueWait < TARGET_QUEUE_WAIT_MILLIS / 2) {
+      currentBatchSize.updateAndGet(
+          size -> Math.max(minAdaptiveBatchSize, size - Math.max(1, size / 4)));
+    }
+  }
+
+  @VisibleForTesting
+  int getCurrentBatchSize() {
+    return currentBatchSize.get();
+  }
+
   @VisibleForTesting
   void batchVerifySignatures(final List<SignatureTask> tasks) {
     batchCounter.inc();
@@ -240,16 +420,25 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
   static class SignatureTask {
     final SafeFuture<Boolean> result = new SafeFuture<>();
     private final AsyncRunner asyncRunner;
+    final SignatureVerificationLane lane;
+    final long sequence;
+    final long queuedAtMillis;
     final List<List<BLSPublicKey>> publicKeys;
     final List<Bytes> messages;
     final List<BLSSignature> signatures;
 
     private SignatureTask(
         final AsyncRunner asyncRunner,
+        final SignatureVerificationLane lane,
+        final long sequence,
+        final long queuedAtMillis,
         final List<List<BLSPublicKey>> publicKeys,
         final List<Bytes> messages,
         final List<BLSSignature> signatures) {
       this.asyncRunner = asyncRunner;
+      this.lane = lane;
+      this.sequence = sequence;
+      this.queuedAtMillis = queuedAtMillis;
       this.publicKeys = publicKeys;
       this.messages = messages;
       this.signatures = signatures;
@@ -258,5 +447,11 @@ public class AggregatingSignatureVerificationService extends SignatureVerificati
     public void completeAsync(final boolean isValid) {
       asyncRunner.runAsync(() -> result.complete(isValid)).finish(result::completeExceptionally);
     }
+
+    public void completeExceptionallyAsync(final Throwable error) {
+      asyncRunner
+          .runAsync(() -> result.completeExceptionally(error))
+          .finish(result::completeExceptionally);
+    }
   }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.validation.signatures;
+
+import java.util.Locale;
+
+/**
+ * Queues used by the {@link SignatureVerificationService}. Queued tasks are batched in lane order,
+ * so a burst of work in a later lane can't delay the verifications in an earlier one.
+ */
+public enum SignatureVerificationLane {
+  /** Verifications which gate block import or aggregate propagation. */
+  PRIORITY(false),
+  /** Verifications without a more specific lane. */
+  DEFAULT(false),
+  /** Unaggregated gossip attestations, which may be dropped once stale. */
+  ATTESTATION(true);
+
+  private final boolean dropsStaleTasks;
+  private final String metricLabel;
+
+  SignatureVerificationLane(final boolean dropsStaleTasks) {
+    this.dropsStaleTasks = dropsStaleTasks;
+    this.metricLabel = name().toLowerCase(Locale.ROOT);
+  }
+
+  public boolean dropsStaleTasks() {
+    return dropsStaleTasks;
+  }
+
+  public String getMetricLabel() {
+    return metricLabel;
+  }
+}
@@ -17,4 +17,13 @@ import tech.pegasys.teku.service.serviceutils.Service;
 import tech.pegasys.teku.spec.logic.common.util.AsyncBLSSignatureVerifier;
 
 public abstract class SignatureVerificationService extends Service
-    implements AsyncBLSSignatureVerifier {}
+    implements AsyncBLSSignatureVerifier {
+
+  /**
+   * Returns a verifier which queues its verifications in the given lane. Implementations without
+   * prioritisation may return themselves.
+   */
+  public AsyncBLSSignatureVerifier forLane(final SignatureVerificationLane lane) {
+    return this;
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.teku.statetransition.validation.signatures;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.EXECUTOR;
 
 import it.unimi.dsi.fastutil.booleans.BooleanArrayList;
 import it.unimi.dsi.fastutil.booleans.BooleanList;
@@ -40,6 +41,7 @@ import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.Waiter;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.service.serviceutils.ServiceCapacityExceededException;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService.SignatureTask;
 
@@ -50,19 +52,24 @@ public class AggregatingSignatureVerificationServiceTest {
   private final int batchSize = 25;
   private final int minBatchSizeToSplit = 5;
   private final int numThreads = 2;
+  private final long staleAttestationDeadlineMillis = 1000;
   private final boolean strictThreadLimitEnabled = true;
   private final StubAsyncRunner completionRunner = new StubAsyncRunner();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(10_000);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
   private AggregatingSignatureVerificationService service =
       new AggregatingSignatureVerificationService(
-          new StubMetricsSystem(),
+          metricsSystem,
           asyncRunnerFactory,
           completionRunner,
+          timeProvider,
           numThreads,
           queueCapacity,
           batchSize,
           minBatchSizeToSplit,
+          staleAttestationDeadlineMillis,
           strictThreadLimitEnabled);
 
   @Test
@@ -99,6 +106,67 @@ public class AggregatingSignatureVerificationServiceTest {
     assertThatThrownBy(future::get).hasCauseInstanceOf(ServiceCapacityExceededException.class);
   }
 
+  @Test
+  public void verify_withFullLaneShouldNotRejectOtherLanes() {
+    startService();
+
+    fillQueue();
+    final SafeFuture<Boolean> future =
+        executeVerify(SignatureVerificationLane.PRIORITY, 0, 0, true);
+
+    assertThat(future).isNotDone();
+    runPendingTasks();
+    assertThat(future).isCompletedWithValue(true);
+  }
+
+  @Test
+  public void takeTasks_shouldOrderTasksByLane() {
+    startService();
+    final SafeFuture<Boolean> attestation =
+        executeVerify(SignatureVerificationLane.ATTESTATION, 0, 0, true);
+    final SafeFuture<Boolean> defaultTask = executeValidVerify(0, 1);
+    final SafeFuture<Boolean> priority =
+        executeVerify(SignatureVerificationLane.PRIORITY, 0, 2, true);
+
+    final List<SignatureTask> tasks = getPendingTasks();
+    assertThat(tasks)
+        .extracting(task -> task.result)
+        .containsExactly(priority, defaultTask, attestation);
+  }
+
+  @Test
+  public void takeTasks_shouldDropStaleAttestations() {
+    startService();
+    final SafeFuture<Boolean> attestation =
+        executeVerify(SignatureVerificationLane.ATTESTATION, 0, 0, true);
+    final SafeFuture<Boolean> defaultTask = executeValidVerify(0, 1);
+    timeProvider.advanceTimeByMillis(staleAttestationDeadlineMillis + 1);
+
+    final List<SignatureTask> tasks = getPendingTasks();
+    assertThat(tasks).extracting(task -> task.result).containsExactly(defaultTask);
+
+    completionRunner.executeQueuedActions();
+    assertThatThrownBy(attestation::get)
+        .hasCauseInstanceOf(ServiceCapacityExceededException.class);
+    assertThat(
+            metricsSystem.getCounterValue(
+                EXECUTOR, "signature_verifications_dropped_total", "attestation"))
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void takeTasks_shouldRespectBatchSize() {
+    startService();
+    for (int i = 0; i < 5; i++) {
+      executeValidVerify(0, i);
+    }
+
+    final List<SignatureTask> tasks = new ArrayList<>();
+    service.takeTasks(service.batchSignatureTasks.poll(), tasks, 3);
+    assertThat(tasks).hasSize(3);
+    assertThat(service.batchSignatureTasks).hasSize(2);
+  }
+
   @Test
   public void verify_singleValidSignature() {
     startService();
@@ -248,10 +316,12 @@ public class AggregatingSignatureVerificationServiceTest {
             metrics,
             realRunnerFactory,
             realRunnerFactory.create("completion", 1),
+            timeProvider,
             1,
             queueCapacity,
             batchSize,
             minBatchSizeToSplit,
+            staleAttestationDeadlineMillis,
             strictThreadLimitEnabled);
     startService();
 
@@ -366,11 +436,19 @@ public class AggregatingSignatureVerificationServiceTest {
 
   private SafeFuture<Boolean> executeVerify(
       final int keypairIndex, final int data, final boolean useValidSignature) {
+    return executeVerify(SignatureVerificationLane.DEFAULT, keypairIndex, data, useValidSignature);
+  }
+
+  private SafeFuture<Boolean> executeVerify(
+      final SignatureVerificationLane lane,
+      final int keypairIndex,
+      final int data,
+      final boolean useValidSignature) {
     final BLSKeyPair keypair = KEYS.get(keypairIndex);
     final Bytes message = Bytes.of(data);
     final BLSSignature signature =
         useValidSignature ? BLS.sign(keypair.getSecretKey(), message) : BLSSignature.empty();
-    return service.verify(keypair.getPublicKey(), message, signature);
+    return service.forLane(lane).verify(keypair.getPublicKey(), message, signature);
   }
 
   private SafeFuture<Boolean> executeListVerify(
@@ -398,7 +476,10 @@ public class AggregatingSignatureVerificationServiceTest {
 
   private List<SignatureTask> getPendingTasks() {
     final List<SignatureTask> pendingTasks = new ArrayList<>();
-    service.batchSignatureTasks.drainTo(pendingTasks);
+    final SignatureTask firstTask = service.batchSignatureTasks.poll();
+    if (firstTask != null) {
+      service.takeTasks(firstTask, pendingTasks, Integer.MAX_VALUE);
+    }
     return pendingTasks;
   }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.bls;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes48;
+
+/**
+ * Append-only, index-addressed store of decompressed public keys.
+ *
+ * <p>Keys are decompressed and group checked in parallel as they are added, so lookups return keys
+ * whose points are ready for aggregation. Reads are lock-free; writes are serialised.
+ */
+public final class BLSPublicKeyCache {
+
+  public static final BLSPublicKeyCache NO_OP_INSTANCE = new BLSPublicKeyCache(false);
+
+  private static final int CHUNK_BITS = 12;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private final boolean enabled;
+  private volatile BLSPublicKey[][] chunks = new BLSPublicKey[0][];
+  private volatile int size = 0;
+
+  private BLSPublicKeyCache(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public static BLSPublicKeyCache create() {
+    return new BLSPublicKeyCache(true);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public Optional<BLSPublicKey> get(final int index) {
+    if (index < 0 || index >= size) {
+      return Optional.empty();
+    }
+    return Optional.of(chunks[index >>> CHUNK_BITS][index & CHUNK_MASK]);
+  }
+
+  /**
+   * Adds the keys for the indices starting at {@code fromIndex}. Keys for indices which are already
+   * cached are skipped, so callers may race to add overlapping ranges.
+   *
+   * @param fromIndex the index of the first key in {@code compressedKeys}
+   * @param compressedKeys the compressed keys to add
+   */
+  public synchronized void putAll(final int fromIndex, final List<Bytes48> compressedKeys) {
+    checkArgument(fromIndex >= 0, "Invalid index %s", fromIndex);
+    final int currentSize = size;
+    checkArgument(
+        fromIndex <= currentSize,
+        "Cannot add keys from index %s when only %s keys are cached",
+        fromIndex,
+        currentSize);
+    final int skip = currentSize - fromIndex;
+    if (!enabled || skip >= compressedKeys.size()) {
+      return;
+    }
+    final BLSPublicKey[] decompressed =
+        IntStream.range(skip, compressedKeys.size())
+            .parallel()
+            .mapToObj(i -> decompress(compressedKeys.get(i)))
+            .toArray(BLSPublicKey[]::new);
+
+    final int newSize = currentSize + decompressed.length;
+    final BLSPublicKey[][] newChunks = ensureCapacity(newSize);
+    for (int i = 0; i < decompressed.length; i++) {
+      final int index = currentSize + i;
+      newChunks[index >>> CHUNK_BITS][index & CHUNK_MASK] = decompressed[i];
+    }
+    chunks = newChunks;
+    size = newSize;
+  }
+
+  private BLSPublicKey[][] ensureCapacity(final int requiredSize) {
+    final BLSPublicKey[][] current = chunks;
+    final int requiredChunks = (requiredSize + CHUNK_MASK) >>> CHUNK_BITS;
+    if (requiredChunks <= current.length) {
+      return current;
+    }
+    final BLSPublicKey[][] grown = Arrays.copyOf(current, requiredChunks);
+    for (int i = current.length; i < requiredChunks; i++) {
+      grown[i] = new BLSPublicKey[CHUNK_SIZE];
+    }
+    return grown;
+  }
+
+  private static BLSPublicKey decompress(final Bytes48 compressedKey) {
+    final BLSPublicKey publicKey = BLSPublicKey.fromBytesCompressed(compressedKey);
+    try {
+      // Decompress and group check now so both results are memoized before first use
+      publicKey.isValid();
+    } catch (final IllegalArgumentException e) {
+      // Undecodable keys are cached as is and fail when used, as they would without the cache
+    }
+    return publicKey;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.bls;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+
+class BLSPublicKeyCacheTest {
+
+  private static final List<BLSPublicKey> KEYS =
+      BLSKeyGenerator.generateKeyPairs(10).stream().map(BLSKeyPair::getPublicKey).toList();
+
+  private final BLSPublicKeyCache cache = BLSPublicKeyCache.create();
+
+  @Test
+  void putAll_shouldMakeKeysAvailableByIndex() {
+    cache.putAll(0, compressed(0, 10));
+
+    assertThat(cache.size()).isEqualTo(10);
+    for (int i = 0; i < 10; i++) {
+      assertThat(cache.get(i)).contains(KEYS.get(i));
+    }
+    assertThat(cache.get(10)).isEmpty();
+    assertThat(cache.get(-1)).isEmpty();
+  }
+
+  @Test
+  void putAll_shouldSkipAlreadyCachedIndices() {
+    cache.putAll(0, compressed(0, 4));
+    final BLSPublicKey cachedKey = cache.get(3).orElseThrow();
+
+    cache.putAll(2, compressed(2, 10));
+
+    assertThat(cache.size()).isEqualTo(10);
+    assertThat(cache.get(3)).containsSame(cachedKey);
+    assertThat(cache.get(9)).contains(KEYS.get(9));
+  }
+
+  @Test
+  void putAll_shouldRejectGaps() {
+    cache.putAll(0, compressed(0, 2));
+
+    assertThatThrownBy(() -> cache.putAll(3, compressed(3, 5)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void putAll_shouldCacheInvalidKeysWithoutFailing() {
+    cache.putAll(0, List.of(Bytes48.ZERO));
+
+    assertThat(cache.get(0)).contains(BLSPublicKey.empty());
+  }
+
+  @Test
+  void noOpInstance_shouldNotCacheKeys() {
+    BLSPublicKeyCache.NO_OP_INSTANCE.putAll(0, compressed(0, 2));
+
+    assertThat(BLSPublicKeyCache.NO_OP_INSTANCE.size()).isZero();
+  }
+
+  private static List<Bytes48> compressed(final int fromIndex, final int toIndex) {
+    return KEYS.subList(fromIndex, toIndex).stream().map(BLSPublicKey::toBytesCompressed).toList();
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static tech.pegasys.teku.infrastructure.ssz.schema.SszType.SSZ_LENGTH_SIZE;
+
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.SszContainer;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszType;
+
+/**
+ * Read-only view over the SSZ serialization of a container which reads individual (possibly
+ * nested) fields by their offsets without building the backing tree. The full container is only
+ * deserialized when {@link #get()} is called.
+ *
+ * <p>Field reads only validate the offsets they need, so a value which can be read here may still
+ * fail full deserialization.
+ *
+ * @param <C> the type of the container
+ */
+public class SszLazyContainerView<C extends SszContainer> {
+
+  private final SszContainerSchema<C> schema;
+  private final Bytes ssz;
+  private final Supplier<C> value;
+
+  private SszLazyContainerView(final SszContainerSchema<C> schema, final Bytes ssz) {
+    this.schema = schema;
+    this.ssz = ssz;
+    this.value = Suppliers.memoize(() -> schema.sszDeserialize(ssz));
+  }
+
+  public static <C extends SszContainer> SszLazyContainerView<C> wrap(
+      final SszContainerSchema<C> schema, final Bytes ssz) {
+    return new SszLazyContainerView<>(schema, ssz);
+  }
+
+  public SszContainerSchema<C> getSchema() {
+    return schema;
+  }
+
+  public Bytes getSsz() {
+    return ssz;
+  }
+
+  /**
+   * Returns the serialized bytes of a field without copying them.
+   *
+   * @param fieldPath the field index in this container, followed by the field indices in each
+   *     nested container
+   * @throws SszDeserializeException if the offsets on the path are invalid
+   */
+  public Bytes getFieldBytes(final int... fieldPath) {
+    return locateField(fieldPath).ssz();
+  }
+
+  /**
+   * Deserializes a single field.
+   *
+   * @param fieldPath the field index in this container, followed by the field indices in each
+   *     nested container
+   * @throws SszDeserializeException if the offsets on the path or the field itself are invalid
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends SszData> T getField(final int... fieldPath) {
+    final FieldLocation location = locateField(fieldPath);
+    return (T) location.schema().sszDeserialize(location.ssz());
+  }
+
+  /** Deserializes the full container. The result is cached. */
+  public C get() {
+    return value.get();
+  }
+
+  private FieldLocation locateField(final int... fieldPath) {
+    checkArgument(fieldPath.length > 0, "Field path must not be empty");
+    SszContainerSchema<?> containerSchema = schema;
+    Bytes containerSsz = ssz;
+    for (int depth = 0; ; depth++) {
+      final int fieldIndex = fieldPath[depth];
+      final SszSchema<?> fieldSchema = containerSchema.getChildSchema(fieldIndex);
+      final Bytes fieldSsz = sliceField(containerSchema, containerSsz, fieldIndex);
+      if (depth == fieldPath.length - 1) {
+        return new FieldLocation(fieldSchema, fieldSsz);
+      }
+      if (!(fieldSchema instanceof SszContainerSchema<?> nestedSchema)) {
+        throw new IllegalArgumentException(
+            "Field " + fieldIndex + " of " + containerSchema + " is not a container");
+      }
+      containerSchema = nestedSchema;
+      containerSsz = fieldSsz;
+    }
+  }
+
+  private static Bytes sliceField(
+      final SszContainerSchema<?> schema, final Bytes containerSsz, final int fieldIndex) {
+    checkElementIndex(fieldIndex, schema.getFieldsCount());
+    int position = 0;
+    for (int i = 0; i < fieldIndex; i++) {
+      position += getFixedPartSize(schema.getChildSchema(i));
+    }
+    final SszSchema<?> fieldSchema = schema.getChildSchema(fieldIndex);
+    if (fieldSchema.isFixedSize()) {
+      return slice(containerSsz, position, fieldSchema.getSszFixedPartSize());
+    }
+
+    final int start = readOffset(containerSsz, position);
+    int end = containerSsz.size();
+    position += SSZ_LENGTH_SIZE;
+    for (int i = fieldIndex + 1; i < schema.getFieldsCount(); i++) {
+      final SszSchema<?> nextSchema = schema.getChildSchema(i);
+      if (!nextSchema.isFixedSize()) {
+        end = readOffset(containerSsz, position);
+        break;
+      }
+      position += nextSchema.getSszFixedPartSize();
+    }
+    if (start > end) {
+      throw new SszDeserializeException("Invalid SSZ: wrong child offsets");
+    }
+    return slice(containerSsz, start, end - start);
+  }
+
+  private static int getFixedPartSize(final SszSchema<?> schema) {
+    return schema.isFixedSize() ? schema.getSszFixedPartSize() : SSZ_LENGTH_SIZE;
+  }
+
+  private static int readOffset(final Bytes containerSsz, final int position) {
+    return SszType.sszBytesToLength(slice(containerSsz, position, SSZ_LENGTH_SIZE));
+  }
+
+  private static Bytes slice(final Bytes bytes, final int offset, final int length) {
+    if (offset < 0 || length < 0 || (long) offset + length > bytes.size()) {
+      throw new SszDeserializeException(
+          String.format(
+              "Invalid SSZ: field at offset %d with length %d is out of bounds (%d bytes)",
+              offset, length, bytes.size()));
+    }
+    return bytes.slice(offset, length);
+  }
+
+  private record FieldLocation(SszSchema<?> schema, Bytes ssz) {}
+}
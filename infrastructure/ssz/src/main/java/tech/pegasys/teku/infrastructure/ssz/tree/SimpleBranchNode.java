@@ -76,6 +76,14 @@ class SimpleBranchNode implements BranchNode, TreeNode {
     return cachedHash;
   }
 
+  boolean isHashCached() {
+    return cachedHash != null;
+  }
+
+  void cacheHash(final Bytes32 hash) {
+    this.cachedHash = hash;
+  }
+
   @Override
   @SuppressWarnings("ReferenceComparison")
   public String toString() {
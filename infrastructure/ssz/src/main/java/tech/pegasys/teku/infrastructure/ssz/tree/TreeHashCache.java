@@ -0,0 +1,151 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+
+/**
+ * Captures the already computed hashes of the upper part of a tree so they can be stored next to
+ * the tree's SSZ serialization and restored onto a freshly deserialized copy, which then doesn't
+ * need to be merkleized from scratch.
+ *
+ * <p>Hashes are recorded by generalized index rather than by node so they can be applied to any
+ * tree representing the same value, regardless of how the nodes are laid out in memory. Only nodes
+ * down to {@code maxDepth} are recorded which bounds the cache size, while the subtrees below that
+ * depth are small enough to be rehashed cheaply when first needed.
+ *
+ * <p>Callers are responsible for only restoring a cache onto the same value it was captured from.
+ * Restoring it onto a different tree results in incorrect hash tree roots.
+ */
+public class TreeHashCache {
+  private static final int ENTRY_SIZE = Long.BYTES + Bytes32.SIZE;
+
+  private TreeHashCache() {}
+
+  /**
+   * Records the cached hashes of the branch nodes of the tree down to the specified depth. No new
+   * hashes are computed and lazily loaded subtrees are not descended.
+   *
+   * @param root the root of the tree
+   * @param maxDepth the depth of the deepest nodes to record, where the root is at depth 0
+   */
+  public static Bytes capture(final TreeNode root, final int maxDepth) {
+    checkArgument(
+        maxDepth >= 0 && maxDepth < GIndexUtil.MAX_DEPTH,
+        "Max depth must be between 0 and %s",
+        GIndexUtil.MAX_DEPTH - 1);
+    final LongList generalizedIndices = new LongArrayList();
+    final List<Bytes32> hashes = new ArrayList<>();
+    capture(root, GIndexUtil.SELF_G_INDEX, 0, maxDepth, generalizedIndices, hashes);
+
+    final MutableBytes result = MutableBytes.create(hashes.size() * ENTRY_SIZE);
+    for (int i = 0; i < hashes.size(); i++) {
+      final int offset = i * ENTRY_SIZE;
+      result.set(
+          offset,
+          Bytes.ofUnsignedLong(generalizedIndices.getLong(i), ByteOrder.LITTLE_ENDIAN));
+      result.set(offset + Long.BYTES, hashes.get(i));
+    }
+    return result;
+  }
+
+  private static void capture(
+      final TreeNode node,
+      final long generalizedIndex,
+      final int depth,
+      final int maxDepth,
+      final LongList generalizedIndices,
+      final List<Bytes32> hashes) {
+    if (!(node instanceof BranchNode branchNode) || node instanceof TreeUtil.ZeroBranchNode) {
+      return;
+    }
+    if (node instanceof LazyBranchNode) {
+      // Lazy nodes always know their hash (or their children's) but loading them is expensive
+      generalizedIndices.add(generalizedIndex);
+      hashes.add(node.hashTreeRoot());
+      return;
+    }
+    // Branches directly above leaves are skipped, recomputing them only costs a single hash
+    if (node instanceof SimpleBranchNode simpleBranchNode
+        && simpleBranchNode.isHashCached()
+        && (branchNode.left() instanceof BranchNode || branchNode.right() instanceof BranchNode)) {
+      generalizedIndices.add(generalizedIndex);
+      hashes.add(node.hashTreeRoot());
+    }
+    if (depth < maxDepth) {
+      capture(
+          branchNode.left(),
+          GIndexUtil.gIdxLeftGIndex(generalizedIndex),
+          depth + 1,
+          maxDepth,
+          generalizedIndices,
+          hashes);
+      capture(
+          branchNode.right(),
+          GIndexUtil.gIdxRightGIndex(generalizedIndex),
+          depth + 1,
+          maxDepth,
+          generalizedIndices,
+          hashes);
+    }
+  }
+
+  /**
+   * Applies hashes previously recorded with {@link #capture(TreeNode, int)} to the branch nodes of
+   * the tree that don't have a cached hash yet. Entries which don't point to such a node are
+   * ignored.
+   *
+   * @return the number of restored hashes
+   */
+  public static int restore(final TreeNode root, final Bytes cache) {
+    checkArgument(
+        cache.size() % ENTRY_SIZE == 0, "Invalid tree hash cache size: %s", cache.size());
+    int restored = 0;
+    for (int offset = 0; offset < cache.size(); offset += ENTRY_SIZE) {
+      final long generalizedIndex = cache.getLong(offset, ByteOrder.LITTLE_ENDIAN);
+      final TreeNode node = findBranchNode(root, generalizedIndex);
+      // Zero trees are shared globally so are never updated from an external source
+      if (node instanceof SimpleBranchNode simpleBranchNode
+          && !(node instanceof TreeUtil.ZeroBranchNode)
+          && !simpleBranchNode.isHashCached()) {
+        simpleBranchNode.cacheHash(Bytes32.wrap(cache.slice(offset + Long.BYTES, Bytes32.SIZE)));
+        restored++;
+      }
+    }
+    return restored;
+  }
+
+  private static TreeNode findBranchNode(final TreeNode root, final long generalizedIndex) {
+    if (generalizedIndex < GIndexUtil.SELF_G_INDEX) {
+      return null;
+    }
+    TreeNode node = root;
+    for (int bit = GIndexUtil.gIdxGetDepth(generalizedIndex) - 1; bit >= 0; bit--) {
+      if (!(node instanceof BranchNode branchNode) || node instanceof LazyBranchNode) {
+        return null;
+      }
+      node = ((generalizedIndex >>> bit) & 1) == 0 ? branchNode.left() : branchNode.right();
+    }
+    return node;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.sos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteOrder;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.ContainerReadImpl;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableMutableContainer;
+import tech.pegasys.teku.infrastructure.ssz.TestContainers.WritableMutableSubContainer;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+public class SszLazyContainerViewTest {
+
+  private final WritableContainer container = createContainer();
+  private final Bytes ssz = container.sszSerialize();
+  private final SszLazyContainerView<ContainerReadImpl> view =
+      SszLazyContainerView.wrap(WritableContainer.SSZ_SCHEMA, ssz);
+
+  @Test
+  void getField_shouldReadFixedSizeFields() {
+    assertThat(view.<SszUInt64>getField(0).get()).isEqualTo(UInt64.valueOf(0x111));
+    assertThat(view.<SszUInt64>getField(1).get()).isEqualTo(UInt64.valueOf(0x222));
+  }
+
+  @Test
+  void getField_shouldReadNestedFields() {
+    assertThat(view.<SszUInt64>getField(2, 1).get()).isEqualTo(UInt64.valueOf(0x444));
+    assertThat(view.getFieldBytes(2)).isEqualTo(container.getSub1().sszSerialize());
+  }
+
+  @Test
+  void getField_shouldReadVariableSizeFields() {
+    final SszList<SszUInt64> list1 = view.getField(3);
+    assertThat(list1).isEqualTo(container.getList1());
+    assertThat(view.getFieldBytes(4)).isEqualTo(container.getList2().sszSerialize());
+    assertThat(view.getFieldBytes(5)).isEqualTo(container.getVector1().sszSerialize());
+  }
+
+  @Test
+  void getFieldBytes_shouldNotCopy() {
+    assertThat(view.getFieldBytes(0)).isEqualTo(ssz.slice(0, 8));
+  }
+
+  @Test
+  void getField_shouldRejectTruncatedData() {
+    final SszLazyContainerView<ContainerReadImpl> truncated =
+        SszLazyContainerView.wrap(WritableContainer.SSZ_SCHEMA, ssz.slice(0, 20));
+
+    assertThat(truncated.<SszUInt64>getField(1).get()).isEqualTo(UInt64.valueOf(0x222));
+    assertThatThrownBy(() -> truncated.getField(3)).isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void getField_shouldRejectInvalidOffsets() {
+    // first variable size field offset is past the end of the data
+    final int list1OffsetPosition = 8 + 8 + 16;
+    final Bytes corrupted =
+        Bytes.wrap(
+            ssz.slice(0, list1OffsetPosition),
+            Bytes.ofUnsignedInt(ssz.size() + 1, ByteOrder.LITTLE_ENDIAN),
+            ssz.slice(list1OffsetPosition + 4));
+
+    assertThatThrownBy(
+            () -> SszLazyContainerView.wrap(WritableContainer.SSZ_SCHEMA, corrupted).getField(3))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  void get_shouldDeserializeFullContainer() {
+    assertThat(view.get()).isEqualTo(container);
+    assertThat(view.get()).isSameAs(view.get());
+  }
+
+  private static WritableContainer createContainer() {
+    final WritableMutableContainer mutable = WritableContainer.createDefault().createWritableCopy();
+    mutable.setLong1(UInt64.valueOf(0x111));
+    mutable.setLong2(UInt64.valueOf(0x222));
+    mutable.getSub1().setLong1(UInt64.valueOf(0x333));
+    mutable.getSub1().setLong2(UInt64.valueOf(0x444));
+    mutable.getList1().append(SszUInt64.of(UInt64.valueOf(0x555)));
+    mutable.getList1().append(SszUInt64.of(UInt64.valueOf(0x666)));
+    final WritableMutableSubContainer element = mutable.getList2().append();
+    element.setLong1(UInt64.valueOf(0x777));
+    return mutable.commitChanges();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUpdates.Update;
+
+public class TreeHashCacheTest {
+
+  private static TreeNode createTestTree(final int leafCount, final int firstLeaf) {
+    return TreeUtil.createTree(
+        IntStream.range(firstLeaf, firstLeaf + leafCount)
+            .mapToObj(TreeTest::newTestLeaf)
+            .collect(Collectors.toList()),
+        12);
+  }
+
+  @Test
+  public void shouldRestoreHashesOntoEquivalentTree() {
+    final TreeNode original = createTestTree(1000, 0);
+    original.hashTreeRoot();
+    final Bytes cache = TreeHashCache.capture(original, 20);
+
+    final TreeNode copy = createTestTree(1000, 0);
+    assertThat(TreeHashCache.restore(copy, cache)).isPositive();
+    assertThat(((SimpleBranchNode) copy).isHashCached()).isTrue();
+    assertThat(copy.hashTreeRoot()).isEqualTo(original.hashTreeRoot());
+  }
+
+  @Test
+  public void shouldUseRestoredHashesWithoutRehashing() {
+    final TreeNode original = createTestTree(1000, 0);
+    original.hashTreeRoot();
+    final Bytes cache = TreeHashCache.capture(original, 20);
+
+    // Restoring onto a different value is a caller error, but demonstrates the hashes are reused
+    final TreeNode other = createTestTree(1000, 5000);
+    TreeHashCache.restore(other, cache);
+    assertThat(other.hashTreeRoot()).isEqualTo(original.hashTreeRoot());
+  }
+
+  @Test
+  public void shouldOnlyCaptureNodesUpToMaxDepth() {
+    final TreeNode original = createTestTree(4096, 0);
+    original.hashTreeRoot();
+
+    final Bytes cache = TreeHashCache.capture(original, 3);
+
+    // 1 + 2 + 4 + 8 branch nodes
+    assertThat(cache.size()).isEqualTo(15 * (Long.BYTES + 32));
+  }
+
+  @Test
+  public void shouldNotCaptureUncomputedHashes() {
+    final TreeNode tree = createTestTree(1000, 0);
+
+    assertThat(TreeHashCache.capture(tree, 20).isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldRecomputeSubtreesBelowMaxDepth() {
+    final TreeNode original = createTestTree(1000, 0);
+    original.hashTreeRoot();
+    final Bytes cache = TreeHashCache.capture(original, 4);
+
+    final TreeNode copy = createTestTree(1000, 0);
+    TreeHashCache.restore(copy, cache);
+    final TreeUpdates updates =
+        new TreeUpdates(List.of(new Update((1L << 12) + 3, TreeTest.newTestLeaf(333))));
+
+    assertThat(copy.updated(updates).hashTreeRoot())
+        .isEqualTo(createTestTree(1000, 0).updated(updates).hashTreeRoot());
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
@@ -50,6 +51,7 @@ import tech.pegasys.teku.networking.eth2.gossip.subnets.SyncCommitteeSubnetTopic
 import tech.pegasys.teku.networking.eth2.gossip.topics.Eth2GossipTopicFilter;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.eth2.gossip.topics.ProcessedAttestationSubscriptionProvider;
+import tech.pegasys.teku.networking.eth2.gossip.topics.TopicFamilyGossipMessageScheduler;
 import tech.pegasys.teku.networking.eth2.peers.DiscoveryNodeIdExtractor;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerManager;
 import tech.pegasys.teku.networking.eth2.peers.Eth2PeerSelectionStrategy;
@@ -62,6 +64,7 @@ import tech.pegasys.teku.networking.p2p.connection.TargetPeerRange;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryConfig;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetworkBuilder;
+import tech.pegasys.teku.networking.p2p.gossip.GossipMessageScheduler;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.p2p.libp2p.LibP2PNetworkBuilder;
 import tech.pegasys.teku.networking.p2p.libp2p.LibP2PPrivateKeyLoader;
@@ -94,6 +97,7 @@ import tech.pegasys.teku.statetransition.datacolumns.DataColumnSidecarByRootCust
 import tech.pegasys.teku.statetransition.datacolumns.log.gossip.DasGossipLogger;
 import tech.pegasys.teku.statetransition.datacolumns.log.rpc.DasReqRespLogger;
 import tech.pegasys.teku.statetransition.util.DebugDataDumper;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 import tech.pegasys.teku.storage.store.KeyValueStore;
 
@@ -128,6 +132,7 @@ public class Eth2P2PNetworkBuilder {
   protected final List<PeerHandler> peerHandlers = new ArrayList<>();
   protected TimeProvider timeProvider;
   protected AsyncRunner asyncRunner;
+  protected AsyncRunnerFactory asyncRunnerFactory;
   protected KeyValueStore<String, Bytes> keyValueStore;
   protected Duration eth2RpcPingInterval = DEFAULT_ETH2_RPC_PING_INTERVAL;
   protected int eth2RpcOutstandingPingThreshold = DEFAULT_ETH2_RPC_OUTSTANDING_PING_THRESHOLD;
@@ -203,6 +208,9 @@ public class Eth2P2PNetworkBuilder {
         eth2PeerManager.getBeaconChainMethods().all();
     rpcMethods.addAll(eth2RpcMethods);
     peerHandlers.add(eth2PeerManager);
+    eventChannels.subscribe(
+        FinalizedCheckpointChannel.class,
+        eth2PeerManager.getBeaconChainMethods().getPayloadCache());
 
     final GossipEncoding gossipEncoding = config.getGossipEncoding();
     // Build core network and inject eth2 handlers
@@ -417,6 +425,7 @@ public class Eth2P2PNetworkBuilder {
             .gossipTopicFilter(gossipTopicsFilter)
             .timeProvider(timeProvider)
             .recordMessageArrival(recordMessageArrival)
+            .gossipMessageScheduler(createGossipMessageScheduler())
             .build();
 
     final AttestationSubnetTopicProvider attestationSubnetTopicProvider =
@@ -478,6 +487,20 @@ public class Eth2P2PNetworkBuilder {
         .build();
   }
 
+  private GossipMessageScheduler createGossipMessageScheduler() {
+    if (asyncRunnerFactory == null || !config.isGossipTopicWorkersEnabled()) {
+      return GossipMessageScheduler.DIRECT;
+    }
+    return new TopicFamilyGossipMessageScheduler(
+        asyncRunnerFactory,
+        metricsSystem,
+        timeProvider,
+        config.getGossipTopicWorkerThreads(),
+        config.getGossipTopicWorkerQueueSize(),
+        config.getGossipBlockWorkerThreads(),
+        config.getGossipBlockWorkerThreadPriority());
+  }
+
   protected DiscoveryNetworkBuilder createDiscoveryNetworkBuilder() {
     return DiscoveryNetworkBuilder.create();
   }
@@ -676,6 +699,12 @@ public class Eth2P2PNetworkBuilder {
     return this;
   }
 
+  public Eth2P2PNetworkBuilder asyncRunnerFactory(final AsyncRunnerFactory asyncRunnerFactory) {
+    checkNotNull(asyncRunnerFactory);
+    this.asyncRunnerFactory = asyncRunnerFactory;
+    return this;
+  }
+
   public Eth2P2PNetworkBuilder eth2RpcPingInterval(final Duration eth2RpcPingInterval) {
     checkNotNull(eth2RpcPingInterval);
     this.eth2RpcPingInterval = eth2RpcPingInterval;
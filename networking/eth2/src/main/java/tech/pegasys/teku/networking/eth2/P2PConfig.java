@@ -50,7 +50,13 @@ public class P2PConfig {
   public static final int DEFAULT_BATCH_VERIFY_QUEUE_CAPACITY = 30_000;
   public static final int DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE = 250;
   public static final boolean DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED = false;
+  public static final int DEFAULT_BATCH_VERIFY_STALE_ATTESTATION_DEADLINE_MILLIS = 0;
   public static final int DEFAULT_DAS_EXTRA_CUSTODY_GROUP_COUNT = 0;
+  public static final boolean DEFAULT_GOSSIP_TOPIC_WORKERS_ENABLED = false;
+  public static final int DEFAULT_GOSSIP_TOPIC_WORKER_THREADS = 2;
+  public static final int DEFAULT_GOSSIP_TOPIC_WORKER_QUEUE_SIZE = 5_000;
+  public static final int DEFAULT_GOSSIP_BLOCK_WORKER_THREADS = 2;
+  public static final int DEFAULT_GOSSIP_BLOCK_WORKER_THREAD_PRIORITY = Thread.MAX_PRIORITY;
 
   private final Spec spec;
   private final NetworkConfig networkConfig;
@@ -69,6 +75,12 @@ public class P2PConfig {
   private final int batchVerifyQueueCapacity;
   private final int batchVerifyMaxBatchSize;
   private final boolean batchVerifyStrictThreadLimitEnabled;
+  private final int batchVerifyStaleAttestationDeadlineMillis;
+  private final boolean gossipTopicWorkersEnabled;
+  private final int gossipTopicWorkerThreads;
+  private final int gossipTopicWorkerQueueSize;
+  private final int gossipBlockWorkerThreads;
+  private final int gossipBlockWorkerThreadPriority;
   private final boolean isGossipBlobsAfterBlockEnabled;
   private final boolean allTopicsFilterEnabled;
 
@@ -88,6 +100,12 @@ public class P2PConfig {
       final int batchVerifyQueueCapacity,
       final int batchVerifyMaxBatchSize,
       final boolean batchVerifyStrictThreadLimitEnabled,
+      final int batchVerifyStaleAttestationDeadlineMillis,
+      final boolean gossipTopicWorkersEnabled,
+      final int gossipTopicWorkerThreads,
+      final int gossipTopicWorkerQueueSize,
+      final int gossipBlockWorkerThreads,
+      final int gossipBlockWorkerThreadPriority,
       final boolean allTopicsFilterEnabled,
       final boolean isGossipBlobsAfterBlockEnabled) {
     this.spec = spec;
@@ -105,6 +123,12 @@ public class P2PConfig {
     this.batchVerifyQueueCapacity = batchVerifyQueueCapacity;
     this.batchVerifyMaxBatchSize = batchVerifyMaxBatchSize;
     this.batchVerifyStrictThreadLimitEnabled = batchVerifyStrictThreadLimitEnabled;
+    this.batchVerifyStaleAttestationDeadlineMillis = batchVerifyStaleAttestationDeadlineMillis;
+    this.gossipTopicWorkersEnabled = gossipTopicWorkersEnabled;
+    this.gossipTopicWorkerThreads = gossipTopicWorkerThreads;
+    this.gossipTopicWorkerQueueSize = gossipTopicWorkerQueueSize;
+    this.gossipBlockWorkerThreads = gossipBlockWorkerThreads;
+    this.gossipBlockWorkerThreadPriority = gossipBlockWorkerThreadPriority;
     this.networkingSpecConfig = spec.getNetworkingConfig();
     this.allTopicsFilterEnabled = allTopicsFilterEnabled;
     this.isGossipBlobsAfterBlockEnabled = isGossipBlobsAfterBlockEnabled;
@@ -179,6 +203,30 @@ public class P2PConfig {
     return batchVerifyStrictThreadLimitEnabled;
   }
 
+  public int getBatchVerifyStaleAttestationDeadlineMillis() {
+    return batchVerifyStaleAttestationDeadlineMillis;
+  }
+
+  public boolean isGossipTopicWorkersEnabled() {
+    return gossipTopicWorkersEnabled;
+  }
+
+  public int getGossipTopicWorkerThreads() {
+    return gossipTopicWorkerThreads;
+  }
+
+  public int getGossipTopicWorkerQueueSize() {
+    return gossipTopicWorkerQueueSize;
+  }
+
+  public int getGossipBlockWorkerThreads() {
+    return gossipBlockWorkerThreads;
+  }
+
+  public int getGossipBlockWorkerThreadPriority() {
+    return gossipBlockWorkerThreadPriority;
+  }
+
   public NetworkingSpecConfig getNetworkingSpecConfig() {
     return networkingSpecConfig;
   }
@@ -210,6 +258,13 @@ public class P2PConfig {
     private int batchVerifyMaxBatchSize = DEFAULT_BATCH_VERIFY_MAX_BATCH_SIZE;
     private boolean batchVerifyStrictThreadLimitEnabled =
         DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
+    private int batchVerifyStaleAttestationDeadlineMillis =
+        DEFAULT_BATCH_VERIFY_STALE_ATTESTATION_DEADLINE_MILLIS;
+    private boolean gossipTopicWorkersEnabled = DEFAULT_GOSSIP_TOPIC_WORKERS_ENABLED;
+    private int gossipTopicWorkerThreads = DEFAULT_GOSSIP_TOPIC_WORKER_THREADS;
+    private int gossipTopicWorkerQueueSize = DEFAULT_GOSSIP_TOPIC_WORKER_QUEUE_SIZE;
+    private int gossipBlockWorkerThreads = DEFAULT_GOSSIP_BLOCK_WORKER_THREADS;
+    private int gossipBlockWorkerThreadPriority = DEFAULT_GOSSIP_BLOCK_WORKER_THREAD_PRIORITY;
     private boolean allTopicsFilterEnabled = DEFAULT_PEER_ALL_TOPIC_FILTER_ENABLED;
     private int floodPublishMaxMessageSizeThreshold =
         DEFAULT_FLOOD_PUBLISH_MAX_MESSAGE_SIZE_THRESHOLD;
@@ -266,6 +321,12 @@ public class P2PConfig {
           batchVerifyQueueCapacity.orElse(DEFAULT_BATCH_VERIFY_QUEUE_CAPACITY),
           batchVerifyMaxBatchSize,
           batchVerifyStrictThreadLimitEnabled,
+          batchVerifyStaleAttestationDeadlineMillis,
+          gossipTopicWorkersEnabled,
+          gossipTopicWorkerThreads,
+          gossipTopicWorkerQueueSize,
+          gossipBlockWorkerThreads,
+          gossipBlockWorkerThreadPriority,
           allTopicsFilterEnabled,
           gossipBlobsAfterBlockEnabled);
     }
@@ -405,6 +466,62 @@ public class P2PConfig {
       return this;
     }
 
+    public Builder batchVerifyStaleAttestationDeadlineMillis(
+        final int batchVerifyStaleAttestationDeadlineMillis) {
+      if (batchVerifyStaleAttestationDeadlineMillis < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid batchVerifyStaleAttestationDeadlineMillis: %d",
+                batchVerifyStaleAttestationDeadlineMillis));
+      }
+      this.batchVerifyStaleAttestationDeadlineMillis = batchVerifyStaleAttestationDeadlineMillis;
+      return this;
+    }
+
+    public Builder gossipTopicWorkersEnabled(final boolean gossipTopicWorkersEnabled) {
+      this.gossipTopicWorkersEnabled = gossipTopicWorkersEnabled;
+      return this;
+    }
+
+    public Builder gossipTopicWorkerThreads(final int gossipTopicWorkerThreads) {
+      if (gossipTopicWorkerThreads < 1) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid gossipTopicWorkerThreads: %d", gossipTopicWorkerThreads));
+      }
+      this.gossipTopicWorkerThreads = gossipTopicWorkerThreads;
+      return this;
+    }
+
+    public Builder gossipTopicWorkerQueueSize(final int gossipTopicWorkerQueueSize) {
+      if (gossipTopicWorkerQueueSize < 1) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid gossipTopicWorkerQueueSize: %d", gossipTopicWorkerQueueSize));
+      }
+      this.gossipTopicWorkerQueueSize = gossipTopicWorkerQueueSize;
+      return this;
+    }
+
+    public Builder gossipBlockWorkerThreads(final int gossipBlockWorkerThreads) {
+      if (gossipBlockWorkerThreads < 1) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid gossipBlockWorkerThreads: %d", gossipBlockWorkerThreads));
+      }
+      this.gossipBlockWorkerThreads = gossipBlockWorkerThreads;
+      return this;
+    }
+
+    public Builder gossipBlockWorkerThreadPriority(final int gossipBlockWorkerThreadPriority) {
+      if (gossipBlockWorkerThreadPriority < Thread.MIN_PRIORITY
+          || gossipBlockWorkerThreadPriority > Thread.MAX_PRIORITY) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid gossipBlockWorkerThreadPriority: %d (must be between %d and %d)",
+                gossipBlockWorkerThreadPriority, Thread.MIN_PRIORITY, Thread.MAX_PRIORITY));
+      }
+      this.gossipBlockWorkerThreadPriority = gossipBlockWorkerThreadPriority;
+      return this;
+    }
+
     public Builder allTopicsFilterEnabled(final boolean allTopicsFilterEnabled) {
       this.allTopicsFilterEnabled = allTopicsFilterEnabled;
       return this;
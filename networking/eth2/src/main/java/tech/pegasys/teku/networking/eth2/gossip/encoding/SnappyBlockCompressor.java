@@ -28,7 +28,8 @@ public class SnappyBlockCompressor {
       final Bytes compressedData, final SszLengthBounds lengthBounds, final long maxBytesLength)
       throws DecodingException {
     try {
-      final int uncompressedLength = Snappy.uncompressedLength(compressedData.toArrayUnsafe());
+      final byte[] compressed = compressedData.toArrayUnsafe();
+      final int uncompressedLength = Snappy.uncompressedLength(compressed);
 
       if (uncompressedLength > maxBytesLength) {
         throw new DecodingException(
@@ -43,7 +44,18 @@ public class SnappyBlockCompressor {
                 "Uncompressed length %d is not within expected bounds %s",
                 uncompressedLength, lengthBounds));
       }
-      return Bytes.wrap(Snappy.uncompress(compressedData.toArrayUnsafe()));
+      // Length is validated above, so decompress straight into an exactly sized array rather than
+      // letting Snappy parse the length again and allocate its own
+      final byte[] uncompressed = new byte[uncompressedLength];
+      final int actualLength =
+          Snappy.rawUncompress(compressed, 0, compressed.length, uncompressed, 0);
+      if (actualLength != uncompressedLength) {
+        throw new DecodingException(
+            String.format(
+                "Uncompressed length %d does not match declared length %d",
+                actualLength, uncompressedLength));
+      }
+      return Bytes.wrap(uncompressed);
     } catch (IOException e) {
       throw new DecodingException("Failed to uncompress", e);
     }
@@ -20,6 +20,7 @@ import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationMilestoneValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.StaleSlotGossipMessagePrefilter;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.spec.Spec;
@@ -86,6 +87,8 @@ public class SyncCommitteeSubnetSubscriptions extends CommitteeSubnetSubscriptio
             message -> spec.computeEpochAtSlot(message.getSlot())),
         schemaDefinitions.getSyncCommitteeMessageSchema(),
         spec.getNetworkingConfig(),
-        debugDataDumper);
+        debugDataDumper,
+        StaleSlotGossipMessagePrefilter.forSyncCommitteeMessages(
+            spec, recentChainData, schemaDefinitions.getSyncCommitteeMessageSchema()));
   }
 }
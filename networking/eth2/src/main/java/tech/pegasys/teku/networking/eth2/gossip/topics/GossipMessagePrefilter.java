@@ -0,0 +1,36 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+
+/**
+ * Cheap check applied to the uncompressed SSZ bytes of a gossip message before it is fully
+ * deserialized.
+ */
+@FunctionalInterface
+public interface GossipMessagePrefilter {
+
+  GossipMessagePrefilter NOOP = __ -> Optional.empty();
+
+  /**
+   * @param message the uncompressed SSZ bytes of the message
+   * @return the validation result if the message can be discarded without deserializing it,
+   *     otherwise empty. Implementations must return empty rather than throw for malformed
+   *     messages, so the decoding error is reported by the full deserialization.
+   */
+  Optional<InternalValidationResult> check(Bytes message);
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.networking.eth2.gossip.topics;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
@@ -29,6 +30,7 @@ import tech.pegasys.teku.spec.constants.NetworkConstants;
  */
 public class GossipTopics {
   private static final String DOMAIN_PREFIX = "eth2";
+  private static final Pattern SUBNET_ID_SUFFIX = Pattern.compile("_[0-9]+$");
 
   public static String getTopic(
       final Bytes4 forkDigest,
@@ -129,6 +131,22 @@ public class GossipTopics {
     return Bytes4.fromHexString(forkDigest);
   }
 
+  /**
+   * @param topic The topic string
+   * @return The topic name with any subnet id suffix removed, so all subnets of a topic share the
+   *     same family (e.g. {@code beacon_attestation})
+   * @throws IllegalArgumentException Throws if the topic string is not formatted as expected
+   */
+  public static String extractTopicFamily(final String topic) throws IllegalArgumentException {
+    // Topic name starts after the fork digest and its slash separator
+    final int beginIndex = topic.indexOf("/", DOMAIN_PREFIX.length() + 2) + 1;
+    final int endIndex = beginIndex > 0 ? topic.indexOf("/", beginIndex) : -1;
+    if (endIndex < 0) {
+      throw new IllegalArgumentException("Unexpected gossip topic format: " + topic);
+    }
+    return SUBNET_ID_SUFFIX.matcher(topic.substring(beginIndex, endIndex)).replaceFirst("");
+  }
+
   private static void addBlobSidecarSubnetTopics(
       final int blobSidecarSubnetCount,
       final Set<String> topics,
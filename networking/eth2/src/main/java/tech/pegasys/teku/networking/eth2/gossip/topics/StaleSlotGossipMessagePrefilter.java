@@ -0,0 +1,132 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszLazyContainerView;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Ignores gossip messages whose slot is too old to pass validation, reading only the slot from the
+ * serialized message. The bound is deliberately lenient so anything it lets through is still
+ * checked precisely by the validators, and messages from the future are never filtered here as
+ * they may need to be saved for later processing.
+ */
+public class StaleSlotGossipMessagePrefilter implements GossipMessagePrefilter {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final RecentChainData recentChainData;
+  private final SszContainerSchema<?> schema;
+  private final int[] slotFieldPath;
+  private final EarliestSlotCalculator earliestSlotCalculator;
+
+  StaleSlotGossipMessagePrefilter(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final SszContainerSchema<?> schema,
+      final int[] slotFieldPath,
+      final EarliestSlotCalculator earliestSlotCalculator) {
+    this.spec = spec;
+    this.recentChainData = recentChainData;
+    this.schema = schema;
+    this.slotFieldPath = slotFieldPath;
+    this.earliestSlotCalculator = earliestSlotCalculator;
+  }
+
+  /**
+   * Attestations are accepted until the end of the previous epoch (Deneb onwards) or for
+   * ATTESTATION_PROPAGATION_SLOT_RANGE slots (before Deneb), both with a clock disparity allowance.
+   * The earlier of the two start slots, less the disparity and one extra slot, is never later than
+   * either rule.
+   */
+  public static GossipMessagePrefilter forAttestations(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final AttestationSchema<?> attestationSchema) {
+    return new StaleSlotGossipMessagePrefilter(
+        spec,
+        recentChainData,
+        attestationSchema,
+        new int[] {attestationSchema.getFieldIndex("data"), 0},
+        (currentSlot, disparitySlots) -> {
+          final UInt64 previousEpoch = spec.computeEpochAtSlot(currentSlot).minusMinZero(1);
+          final UInt64 propagationRangeStart =
+              currentSlot.minusMinZero(
+                  spec.getNetworkingConfig().getAttestationPropagationSlotRange());
+          return spec.computeStartSlotAtEpoch(previousEpoch)
+              .min(propagationRangeStart)
+              .minusMinZero(disparitySlots + 1);
+        });
+  }
+
+  /**
+   * Sync committee messages are only accepted for the current slot, with a clock disparity
+   * allowance.
+   */
+  public static GossipMessagePrefilter forSyncCommitteeMessages(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final SszContainerSchema<?> syncCommitteeMessageSchema) {
+    return new StaleSlotGossipMessagePrefilter(
+        spec,
+        recentChainData,
+        syncCommitteeMessageSchema,
+        new int[] {0},
+        (currentSlot, disparitySlots) -> currentSlot.minusMinZero(disparitySlots + 1));
+  }
+
+  @Override
+  public Optional<InternalValidationResult> check(final Bytes message) {
+    final Optional<UInt64> maybeCurrentSlot = recentChainData.getCurrentSlot();
+    if (maybeCurrentSlot.isEmpty()) {
+      return Optional.empty();
+    }
+    final UInt64 slot;
+    try {
+      slot = SszLazyContainerView.wrap(schema, message).<SszUInt64>getField(slotFieldPath).get();
+    } catch (final IllegalArgumentException e) {
+      LOG.trace("Unable to read slot from gossip message, deferring to full decoding", e);
+      return Optional.empty();
+    }
+
+    final UInt64 currentSlot = maybeCurrentSlot.get();
+    final int disparitySlots =
+        spec.getNetworkingConfig().getMaximumGossipClockDisparity()
+                / spec.getMillisPerSlot(currentSlot).intValue()
+            + 1;
+    final UInt64 earliestSlot = earliestSlotCalculator.getEarliestSlot(currentSlot, disparitySlots);
+    if (slot.isLessThan(earliestSlot)) {
+      return Optional.of(
+          InternalValidationResult.ignore(
+              "Message slot %s is earlier than the earliest acceptable slot %s",
+              slot, earliestSlot));
+    }
+    return Optional.empty();
+  }
+
+  @FunctionalInterface
+  interface EarliestSlotCalculator {
+    UInt64 getEarliestSlot(UInt64 currentSlot, int disparitySlots);
+  }
+}
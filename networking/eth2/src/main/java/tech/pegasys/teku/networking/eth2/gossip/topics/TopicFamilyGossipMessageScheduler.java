@@ -0,0 +1,209 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import com.google.common.base.Throwables;
+import io.libp2p.core.pubsub.ValidationResult;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.p2p.gossip.GossipMessageScheduler;
+
+/**
+ * Handles gossip messages on a dedicated bounded worker pool per topic family, so that a slow topic
+ * (e.g. data column sidecars waiting on KZG verification) can't starve the others. All subnets of a
+ * topic share one family. Block topics get their own thread count and thread priority.
+ *
+ * <p>A message counts against its family's limit from when it is scheduled until its validation
+ * completes, including any validation steps that continue on other executors. When the limit is
+ * reached, further messages on that family are ignored rather than queued.
+ */
+public class TopicFamilyGossipMessageScheduler implements GossipMessageScheduler {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String UNKNOWN_TOPIC_FAMILY = "unknown";
+  private static final double[] LATENCY_BUCKETS =
+      new double[] {0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0};
+
+  private final Map<String, TopicFamilyWorkerPool> workerPools = new ConcurrentHashMap<>();
+  private final AsyncRunnerFactory asyncRunnerFactory;
+  private final TimeProvider timeProvider;
+  private final int workerThreads;
+  private final int workerQueueSize;
+  private final int blockWorkerThreads;
+  private final int blockWorkerThreadPriority;
+
+  private final LabelledSuppliedMetric queueSizeGauge;
+  private final LabelledSuppliedMetric inFlightGauge;
+  private final LabelledMetric<Counter> droppedMessagesCounter;
+  private final LabelledMetric<Histogram> queueWaitHistogram;
+  private final LabelledMetric<Histogram> processingTimeHistogram;
+
+  public TopicFamilyGossipMessageScheduler(
+      final AsyncRunnerFactory asyncRunnerFactory,
+      final MetricsSystem metricsSystem,
+      final TimeProvider timeProvider,
+      final int workerThreads,
+      final int workerQueueSize,
+      final int blockWorkerThreads,
+      final int blockWorkerThreadPriority) {
+    this.asyncRunnerFactory = asyncRunnerFactory;
+    this.timeProvider = timeProvider;
+    this.workerThreads = workerThreads;
+    this.workerQueueSize = workerQueueSize;
+    this.blockWorkerThreads = blockWorkerThreads;
+    this.blockWorkerThreadPriority = blockWorkerThreadPriority;
+    this.queueSizeGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.NETWORK,
+            "gossip_topic_queue_size",
+            "Number of gossip messages waiting to be processed per topic family",
+            "topic_family");
+    this.inFlightGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.NETWORK,
+            "gossip_topic_in_flight_messages",
+            "Number of gossip messages queued or being validated per topic family",
+            "topic_family");
+    this.droppedMessagesCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "gossip_topic_dropped_messages_total",
+            "Number of gossip messages ignored because the topic family had too many in flight",
+            "topic_family");
+    this.queueWaitHistogram =
+        metricsSystem.createLabelledHistogram(
+            TekuMetricCategory.NETWORK,
+            "gossip_topic_queue_wait_seconds",
+            "Time gossip messages spent queued before processing started per topic family",
+            LATENCY_BUCKETS,
+            "topic_family");
+    this.processingTimeHistogram =
+        metricsSystem.createLabelledHistogram(
+            TekuMetricCategory.NETWORK,
+            "gossip_topic_processing_time_seconds",
+            "Time taken to decode and validate gossip messages per topic family",
+            LATENCY_BUCKETS,
+            "topic_family");
+  }
+
+  @Override
+  public SafeFuture<ValidationResult> schedule(
+      final String topic, final Supplier<SafeFuture<ValidationResult>> messageHandler) {
+    return workerPools
+        .computeIfAbsent(getTopicFamily(topic), this::createWorkerPool)
+        .schedule(messageHandler);
+  }
+
+  static String getTopicFamily(final String topic) {
+    try {
+      return GossipTopics.extractTopicFamily(topic);
+    } catch (final IllegalArgumentException e) {
+      return UNKNOWN_TOPIC_FAMILY;
+    }
+  }
+
+  private TopicFamilyWorkerPool createWorkerPool(final String topicFamily) {
+    final boolean isBlockTopic = topicFamily.equals(GossipTopicName.BEACON_BLOCK.toString());
+    final AsyncRunner asyncRunner =
+        asyncRunnerFactory.create(
+            "gossip_" + topicFamily,
+            isBlockTopic ? blockWorkerThreads : workerThreads,
+            workerQueueSize,
+            isBlockTopic ? blockWorkerThreadPriority : AsyncRunnerFactory.DEFAULT_THREAD_PRIORITY);
+    final TopicFamilyWorkerPool workerPool = new TopicFamilyWorkerPool(topicFamily, asyncRunner);
+    queueSizeGauge.labels(workerPool.queuedMessages::get, topicFamily);
+    inFlightGauge.labels(workerPool.inFlightMessages::get, topicFamily);
+    return workerPool;
+  }
+
+  private class TopicFamilyWorkerPool {
+    private final String topicFamily;
+    private final AsyncRunner asyncRunner;
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+    private final AtomicInteger inFlightMessages = new AtomicInteger();
+    private final Counter droppedMessages;
+    private final Histogram queueWait;
+    private final Histogram processingTime;
+
+    private TopicFamilyWorkerPool(final String topicFamily, final AsyncRunner asyncRunner) {
+      this.topicFamily = topicFamily;
+      this.asyncRunner = asyncRunner;
+      this.droppedMessages = droppedMessagesCounter.labels(topicFamily);
+      this.queueWait = queueWaitHistogram.labels(topicFamily);
+      this.processingTime = processingTimeHistogram.labels(topicFamily);
+    }
+
+    SafeFuture<ValidationResult> schedule(
+        final Supplier<SafeFuture<ValidationResult>> messageHandler) {
+      if (inFlightMessages.incrementAndGet() > workerQueueSize) {
+        inFlightMessages.decrementAndGet();
+        return ignore();
+      }
+      final UInt64 queuedAt = timeProvider.getTimeInMillis();
+      final AtomicBoolean started = new AtomicBoolean(false);
+      queuedMessages.incrementAndGet();
+      return asyncRunner
+          .runAsync(
+              () -> {
+                started.set(true);
+                queuedMessages.decrementAndGet();
+                final UInt64 startedAt = timeProvider.getTimeInMillis();
+                queueWait.observe(secondsBetween(queuedAt, startedAt));
+                return messageHandler
+                    .get()
+                    .alwaysRun(
+                        () ->
+                            processingTime.observe(
+                                secondsBetween(startedAt, timeProvider.getTimeInMillis())));
+              })
+          .exceptionallyCompose(
+              error -> {
+                if (started.get()
+                    || !(Throwables.getRootCause(error) instanceof RejectedExecutionException)) {
+                  return SafeFuture.failedFuture(error);
+                }
+                queuedMessages.decrementAndGet();
+                return ignore();
+              })
+          .alwaysRun(inFlightMessages::decrementAndGet);
+    }
+
+    private SafeFuture<ValidationResult> ignore() {
+      droppedMessages.inc();
+      LOG.trace("Ignoring gossip message because {} has too many in flight", topicFamily);
+      return SafeFuture.completedFuture(ValidationResult.Ignore);
+    }
+
+    private double secondsBetween(final UInt64 from, final UInt64 to) {
+      return to.minusMinZero(from).doubleValue() / 1000;
+    }
+  }
+}
@@ -33,6 +33,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.DecodingException;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.Eth2PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
+import tech.pegasys.teku.networking.eth2.gossip.topics.GossipMessagePrefilter;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipSubValidationUtil;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
@@ -57,6 +58,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
   private final OperationValidator<MessageT> forkValidator;
   private final NetworkingSpecConfig networkingConfig;
   private final DebugDataDumper debugDataDumper;
+  private final GossipMessagePrefilter prefilter;
   private final String topic;
   final TimeProvider timeProvider;
 
@@ -74,6 +76,32 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
       final SszSchema<MessageT> messageType,
       final NetworkingSpecConfig networkingConfig,
       final DebugDataDumper debugDataDumper) {
+    this(
+        recentChainData,
+        asyncRunner,
+        processor,
+        gossipEncoding,
+        forkDigest,
+        topicName,
+        forkValidator,
+        messageType,
+        networkingConfig,
+        debugDataDumper,
+        GossipMessagePrefilter.NOOP);
+  }
+
+  public Eth2TopicHandler(
+      final RecentChainData recentChainData,
+      final AsyncRunner asyncRunner,
+      final OperationProcessor<MessageT> processor,
+      final GossipEncoding gossipEncoding,
+      final Bytes4 forkDigest,
+      final String topicName,
+      final OperationValidator<MessageT> forkValidator,
+      final SszSchema<MessageT> messageType,
+      final NetworkingSpecConfig networkingConfig,
+      final DebugDataDumper debugDataDumper,
+      final GossipMessagePrefilter prefilter) {
     this.asyncRunner = asyncRunner;
     this.processor = processor;
     this.gossipEncoding = gossipEncoding;
@@ -85,6 +113,7 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
         gossipEncoding.createPreparedGossipMessageFactory(
             recentChainData::getMilestoneByForkDigest);
     this.debugDataDumper = debugDataDumper;
+    this.prefilter = prefilter;
     this.timeProvider = recentChainData.getStore();
     this.topic = GossipTopics.getTopic(forkDigest, topicName, gossipEncoding);
   }
@@ -115,6 +144,13 @@ public class Eth2TopicHandler<MessageT extends SszData> implements TopicHandler
 
   @Override
   public SafeFuture<ValidationResult> handleMessage(final PreparedGossipMessage message) {
+    final Optional<InternalValidationResult> prefilterResult =
+        message.getDecodedMessage().getDecodedMessage().flatMap(prefilter::check);
+    if (prefilterResult.isPresent()) {
+      processMessage(prefilterResult.get(), message);
+      return SafeFuture.completedFuture(
+          GossipSubValidationUtil.fromInternalValidationResult(prefilterResult.get()));
+    }
     return SafeFuture.of(() -> deserialize(message))
         .thenCompose(
             deserialized -> {
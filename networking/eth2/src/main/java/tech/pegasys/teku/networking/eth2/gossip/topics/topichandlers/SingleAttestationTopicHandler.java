@@ -17,6 +17,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationMilestoneValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.StaleSlotGossipMessagePrefilter;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
@@ -57,6 +58,7 @@ public class SingleAttestationTopicHandler {
             message -> spec.computeEpochAtSlot(message.getData().getSlot())),
         attestationSchema.castTypeToAttestationSchema(),
         spec.getNetworkingConfig(),
-        debugDataDumper);
+        debugDataDumper,
+        StaleSlotGossipMessagePrefilter.forAttestations(spec, recentChainData, attestationSchema));
   }
 }
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -104,6 +105,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
   private final KZG kzg;
   private final MetricsSystem metricsSystem;
   private final TimeProvider timeProvider;
+  private final PeerRpcStatistics rpcStatistics;
   private final Supplier<UInt64> firstSlotSupportingBlobSidecarsByRange;
   private final Supplier<UInt64> firstSlotSupportingDataColumnSidecarsByRange;
   private final Supplier<BlobSidecarsByRootRequestMessageSchema>
@@ -128,6 +130,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
       final RateTracker requestTracker,
       final KZG kzg,
       final MetricsSystem metricsSystem,
+      final PeerRpcStatistics.Histograms rpcHistograms,
       final TimeProvider timeProvider) {
     super(peer);
     this.spec = spec;
@@ -143,6 +146,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
     this.kzg = kzg;
     this.metricsSystem = metricsSystem;
     this.timeProvider = timeProvider;
+    this.rpcStatistics = new PeerRpcStatistics(rpcHistograms, timeProvider);
     this.firstSlotSupportingBlobSidecarsByRange =
         Suppliers.memoize(
             () -> {
@@ -318,18 +322,23 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
         .dataColumnSidecarsByRoot()
         .map(
             method ->
-                requestStream(
-                    method,
-                    new DataColumnSidecarsByRootRequestMessage(
-                        dataColumnSidecarsByRootRequestMessageSchema.get(), dataColumnIdentifiers),
-                    new DataColumnSidecarsByRootListenerValidatingProxy(
-                        this,
-                        spec,
-                        listener,
-                        kzg,
-                        metricsSystem,
-                        timeProvider,
-                        dataColumnIdentifiers)))
+                rpcStatistics.track(
+                    PeerRpcStatistics.Method.DATA_COLUMN_SIDECARS_BY_ROOT,
+                    listener,
+                    trackedListener ->
+                        requestStream(
+                            method,
+                            new DataColumnSidecarsByRootRequestMessage(
+                                dataColumnSidecarsByRootRequestMessageSchema.get(),
+                                dataColumnIdentifiers),
+                            new DataColumnSidecarsByRootListenerValidatingProxy(
+                                this,
+                                spec,
+                                trackedListener,
+                                kzg,
+                                metricsSystem,
+                                timeProvider,
+                                dataColumnIdentifiers))))
         .orElse(failWithUnsupportedMethodException("DataColumnSidecarsByRoot"));
   }
 
@@ -386,10 +395,14 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
       final RpcResponseListener<SignedBeaconBlock> listener) {
     final Eth2RpcMethod<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> blocksByRange =
         rpcMethods.beaconBlocksByRange();
-    return requestStream(
-        blocksByRange,
-        new BeaconBlocksByRangeRequestMessage(startSlot, count, ONE),
-        new BlocksByRangeListenerWrapper(this, listener, startSlot, count));
+    return rpcStatistics.track(
+        PeerRpcStatistics.Method.BLOCKS_BY_RANGE,
+        listener,
+        trackedListener ->
+            requestStream(
+                blocksByRange,
+                new BeaconBlocksByRangeRequestMessage(startSlot, count, ONE),
+                new BlocksByRangeListenerWrapper(this, trackedListener, startSlot, count)));
   }
 
   @Override
@@ -419,17 +432,21 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
               } else {
                 request = new BlobSidecarsByRangeRequestMessage(startSlot, count, maxBlobsPerBlock);
               }
-              return requestStream(
-                  method,
-                  request,
-                  new BlobSidecarsByRangeListenerValidatingProxy(
-                      spec,
-                      this,
-                      listener,
-                      maxBlobsPerBlock,
-                      kzg,
-                      request.getStartSlot(),
-                      request.getCount()));
+              return rpcStatistics.track(
+                  PeerRpcStatistics.Method.BLOB_SIDECARS_BY_RANGE,
+                  listener,
+                  trackedListener ->
+                      requestStream(
+                          method,
+                          request,
+                          new BlobSidecarsByRangeListenerValidatingProxy(
+                              spec,
+                              this,
+                              trackedListener,
+                              maxBlobsPerBlock,
+                              kzg,
+                              request.getStartSlot(),
+                              request.getCount())));
             })
         .orElse(failWithUnsupportedMethodException("BlobSidecarsByRange"));
   }
@@ -471,19 +488,23 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
                         .get()
                         .create(startSlot, count, columns);
               }
-              return requestStream(
-                  method,
-                  request,
-                  new DataColumnSidecarsByRangeListenerValidatingProxy(
-                      spec,
-                      this,
-                      listener,
-                      kzg,
-                      metricsSystem,
-                      timeProvider,
-                      request.getStartSlot(),
-                      request.getCount(),
-                      request.getColumns()));
+              return rpcStatistics.track(
+                  PeerRpcStatistics.Method.DATA_COLUMN_SIDECARS_BY_RANGE,
+                  listener,
+                  trackedListener ->
+                      requestStream(
+                          method,
+                          request,
+                          new DataColumnSidecarsByRangeListenerValidatingProxy(
+                              spec,
+                              this,
+                              trackedListener,
+                              kzg,
+                              metricsSystem,
+                              timeProvider,
+                              request.getStartSlot(),
+                              request.getCount(),
+                              request.getColumns())));
             })
         .orElse(failWithUnsupportedMethodException("DataColumnSidecarsByRange"));
   }
@@ -524,6 +545,21 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
     return dataColumnSidecarsRequestTracker.getAvailableObjectCount();
   }
 
+  @Override
+  public OptionalDouble getAverageBlocksPerSecond() {
+    return rpcStatistics.getObjectsPerSecond(PeerRpcStatistics.Method.BLOCKS_BY_RANGE);
+  }
+
+  @Override
+  public OptionalDouble getAverageDataColumnSidecarsPerSecond() {
+    final OptionalDouble byRoot =
+        rpcStatistics.getObjectsPerSecond(PeerRpcStatistics.Method.DATA_COLUMN_SIDECARS_BY_ROOT);
+    return byRoot.isPresent()
+        ? byRoot
+        : rpcStatistics.getObjectsPerSecond(
+            PeerRpcStatistics.Method.DATA_COLUMN_SIDECARS_BY_RANGE);
+  }
+
   @Override
   public Optional<RequestApproval> approveDataColumnSidecarsRequest(
       final ResponseCallback<DataColumnSidecar> callback, final long dataColumnSidecarsCount) {
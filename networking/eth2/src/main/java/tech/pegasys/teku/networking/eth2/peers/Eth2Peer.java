@@ -15,6 +15,7 @@ package tech.pegasys.teku.networking.eth2.peers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -57,6 +58,7 @@ public interface Eth2Peer extends Peer, SyncSource {
       final RateTracker requestTracker,
       final KZG kzg,
       final MetricsSystem metricsSystem,
+      final PeerRpcStatistics.Histograms rpcHistograms,
       final TimeProvider timeProvider) {
     return new DefaultEth2Peer(
         spec,
@@ -72,6 +74,7 @@ public interface Eth2Peer extends Peer, SyncSource {
         requestTracker,
         kzg,
         metricsSystem,
+        rpcHistograms,
         timeProvider);
   }
 
@@ -136,6 +139,12 @@ public interface Eth2Peer extends Peer, SyncSource {
 
   long getAvailableDataColumnSidecarsRequestCount();
 
+  /**
+   * @return the average rate at which data column sidecars were received from this peer, or empty
+   *     if none were requested yet
+   */
+  OptionalDouble getAverageDataColumnSidecarsPerSecond();
+
   Optional<RequestApproval> approveDataColumnSidecarsRequest(
       ResponseCallback<DataColumnSidecar> callback, long dataColumnSidecarsCount);
 
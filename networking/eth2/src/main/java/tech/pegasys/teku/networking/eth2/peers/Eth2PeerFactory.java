@@ -40,6 +40,7 @@ public class Eth2PeerFactory {
   private final int peerRequestLimit;
   private final KZG kzg;
   private final DiscoveryNodeIdExtractor discoveryNodeIdExtractor;
+  private final PeerRpcStatistics.Histograms rpcHistograms;
 
   public Eth2PeerFactory(
       final Spec spec,
@@ -66,6 +67,7 @@ public class Eth2PeerFactory {
     this.peerRequestLimit = peerRequestLimit;
     this.kzg = kzg;
     this.discoveryNodeIdExtractor = discoveryNodeIdExtractor;
+    this.rpcHistograms = PeerRpcStatistics.Histograms.create(metricsSystem);
   }
 
   public Eth2Peer create(final Peer peer, final BeaconChainMethods rpcMethods) {
@@ -87,6 +89,7 @@ public class Eth2PeerFactory {
         RateTracker.create(peerRequestLimit, TIME_OUT, timeProvider, "requestTracker"),
         kzg,
         metricsSystem,
+        rpcHistograms,
         timeProvider);
   }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+
+/**
+ * Measures how quickly a peer delivers the data we request from it. For each tracked method an
+ * exponentially weighted moving average is kept of the number of response objects received per
+ * second and of the time until the first response object arrived.
+ */
+public class PeerRpcStatistics {
+  @VisibleForTesting static final double SMOOTHING_FACTOR = 0.25;
+
+  private static final double[] THROUGHPUT_BUCKETS =
+      new double[] {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500};
+  private static final double[] LATENCY_BUCKETS =
+      new double[] {0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+  public enum Method {
+    BLOCKS_BY_RANGE("beacon_blocks_by_range"),
+    BLOB_SIDECARS_BY_RANGE("blob_sidecars_by_range"),
+    DATA_COLUMN_SIDECARS_BY_RANGE("data_column_sidecars_by_range"),
+    DATA_COLUMN_SIDECARS_BY_ROOT("data_column_sidecars_by_root");
+
+    private final String metricLabel;
+
+    Method(final String metricLabel) {
+      this.metricLabel = metricLabel;
+    }
+  }
+
+  /**
+   * The histograms shared by the statistics of all peers. They must be created once, rather than
+   * per connection, as creating a labelled metric registers it with the metrics system.
+   */
+  public record Histograms(
+      LabelledMetric<Histogram> throughput, LabelledMetric<Histogram> firstResponseLatency) {
+
+    public static Histograms create(final MetricsSystem metricsSystem) {
+      return new Histograms(
+          metricsSystem.createLabelledHistogram(
+              TekuMetricCategory.NETWORK,
+              "peer_rpc_response_objects_per_second",
+              "Rate at which peers delivered response objects for requests sent to them",
+              THROUGHPUT_BUCKETS,
+              "method"),
+          metricsSystem.createLabelledHistogram(
+              TekuMetricCategory.NETWORK,
+              "peer_rpc_first_response_seconds",
+              "Time taken by peers to deliver the first response object for requests sent to them",
+              LATENCY_BUCKETS,
+              "method"));
+    }
+  }
+
+  private final Histograms histograms;
+  private final TimeProvider timeProvider;
+  private final Map<Method, MovingAverages> averages = new ConcurrentHashMap<>();
+
+  public PeerRpcStatistics(final Histograms histograms, final TimeProvider timeProvider) {
+    this.histograms = histograms;
+    this.timeProvider = timeProvider;
+  }
+
+  /**
+   * Sends a request and records how quickly its responses arrive.
+   *
+   * @param method the method being requested
+   * @param listener the listener which should receive the responses
+   * @param request sends the request, delivering responses to the supplied listener
+   * @return the result of the request
+   */
+  public <T> SafeFuture<Void> track(
+      final Method method,
+      final RpcResponseListener<T> listener,
+      final Function<RpcResponseListener<T>, SafeFuture<Void>> request) {
+    final long startMillis = timeProvider.getTimeInMillis().longValue();
+    final AtomicLong firstResponseMillis = new AtomicLong(-1);
+    final AtomicLong responseCount = new AtomicLong();
+    return request
+        .apply(
+            response -> {
+              if (responseCount.getAndIncrement() == 0) {
+                firstResponseMillis.set(timeProvider.getTimeInMillis().longValue());
+              }
+              return listener.onResponse(response);
+            })
+        .thenPeek(
+            __ -> {
+              // Empty responses say nothing about how quickly the peer can deliver data
+              if (responseCount.get() > 0) {
+                onRequestCompleted(
+                    method,
+                    responseCount.get(),
+                    firstResponseMillis.get() - startMillis,
+                    timeProvider.getTimeInMillis().longValue() - startMillis);
+              }
+            });
+  }
+
+  /**
+   * @return the average number of response objects per second received for the method, or empty
+   *     if no responses were received yet
+   */
+  public OptionalDouble getObjectsPerSecond(final Method method) {
+    final MovingAverages methodAverages = averages.get(method);
+    return methodAverages == null
+        ? OptionalDouble.empty()
+        : OptionalDouble.of(methodAverages.getObjectsPerSecond());
+  }
+
+  /**
+   * @return the average time in milliseconds until the first response object was received for the
+   *     method, or empty if no responses were received yet
+   */
+  public OptionalDouble getFirstResponseLatencyMillis(final Method method) {
+    final MovingAverages methodAverages = averages.get(method);
+    return methodAverages == null
+        ? OptionalDouble.empty()
+        : OptionalDouble.of(methodAverages.getFirstResponseLatencyMillis());
+  }
+
+  private void onRequestCompleted(
+      final Method method,
+      final long responseCount,
+      final long firstResponseLatencyMillis,
+      final long durationMillis) {
+    // Avoid division by zero for responses which arrive within the same millisecond
+    final double objectsPerSecond = responseCount * 1000d / Math.max(durationMillis, 1);
+    averages
+        .computeIfAbsent(method, __ -> new MovingAverages())
+        .update(objectsPerSecond, firstResponseLatencyMillis);
+    histograms.throughput().labels(method.metricLabel).observe(objectsPerSecond);
+    histograms
+        .firstResponseLatency()
+        .labels(method.metricLabel)
+        .observe(firstResponseLatencyMillis / 1000d);
+  }
+
+  private static class MovingAverages {
+    private double objectsPerSecond = Double.NaN;
+    private double firstResponseLatencyMillis = Double.NaN;
+
+    synchronized void update(
+        final double newObjectsPerSecond, final double newFirstResponseLatencyMillis) {
+      objectsPerSecond = average(objectsPerSecond, newObjectsPerSecond);
+      firstResponseLatencyMillis =
+          average(firstResponseLatencyMillis, newFirstResponseLatencyMillis);
+    }
+
+    synchronized double getObjectsPerSecond() {
+      return objectsPerSecond;
+    }
+
+    synchronized double getFirstResponseLatencyMillis() {
+      return firstResponseLatencyMillis;
+    }
+
+    private static double average(final double current, final double sample) {
+      if (Double.isNaN(current)) {
+        return sample;
+      }
+      return current + SMOOTHING_FACTOR * (sample - current);
+    }
+  }
+}
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.networking.eth2.peers;
 
 import java.util.List;
+import java.util.OptionalDouble;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
@@ -40,6 +41,14 @@ public interface SyncSource {
       List<UInt64> columns,
       RpcResponseListener<DataColumnSidecar> listener);
 
+  /**
+   * @return the average rate at which blocks were received from this source, or empty if it wasn't
+   *     measured yet
+   */
+  default OptionalDouble getAverageBlocksPerSecond() {
+    return OptionalDouble.empty();
+  }
+
   void adjustReputation(final ReputationAdjustment adjustment);
 
   SafeFuture<Void> disconnectCleanly(DisconnectReason reason);
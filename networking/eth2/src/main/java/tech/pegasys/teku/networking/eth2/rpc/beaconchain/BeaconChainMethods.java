@@ -35,7 +35,9 @@ import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.MetadataMessage
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.PingMessageHandler;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageFactory;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods.StatusMessageHandler;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.CachingRpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcPayloadCache;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.ForkDigestPayloadContext;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 import tech.pegasys.teku.networking.eth2.rpc.core.methods.Eth2RpcMethod;
@@ -90,6 +92,7 @@ public class BeaconChainMethods {
       dataColumnSidecarsByRange;
   private final Eth2RpcMethod<EmptyMessage, MetadataMessage> getMetadata;
   private final Eth2RpcMethod<PingMessage, PingMessage> ping;
+  private final RpcPayloadCache payloadCache;
 
   private final Collection<RpcMethod<?, ?, ?>> allMethods;
 
@@ -107,7 +110,8 @@ public class BeaconChainMethods {
       final Optional<Eth2RpcMethod<DataColumnSidecarsByRangeRequestMessage, DataColumnSidecar>>
           dataColumnSidecarsByRange,
       final Eth2RpcMethod<EmptyMessage, MetadataMessage> getMetadata,
-      final Eth2RpcMethod<PingMessage, PingMessage> ping) {
+      final Eth2RpcMethod<PingMessage, PingMessage> ping,
+      final RpcPayloadCache payloadCache) {
     this.status = status;
     this.goodBye = goodBye;
     this.beaconBlocksByRoot = beaconBlocksByRoot;
@@ -118,6 +122,7 @@ public class BeaconChainMethods {
     this.dataColumnSidecarsByRange = dataColumnSidecarsByRange;
     this.getMetadata = getMetadata;
     this.ping = ping;
+    this.payloadCache = payloadCache;
     this.allMethods =
         new ArrayList<>(
             List.of(status, goodBye, beaconBlocksByRoot, beaconBlocksByRange, getMetadata, ping));
@@ -140,11 +145,18 @@ public class BeaconChainMethods {
       final MetadataMessagesFactory metadataMessagesFactory,
       final RpcEncoding rpcEncoding,
       final DasReqRespLogger dasLogger) {
+    // Blocks and sidecars are requested by many peers at once, share their encoded payloads
+    final RpcPayloadCache payloadCache =
+        new RpcPayloadCache(
+            metricsSystem,
+            RpcPayloadCache.DEFAULT_MAX_CACHED_BYTES,
+            recentChainData::containsBlock);
+    final RpcEncoding cachingRpcEncoding = new CachingRpcEncoding(rpcEncoding, payloadCache);
     return new BeaconChainMethods(
         createStatus(asyncRunner, statusMessageFactory, peerLookup, rpcEncoding),
         createGoodBye(asyncRunner, metricsSystem, peerLookup, rpcEncoding),
         createBeaconBlocksByRoot(
-            spec, metricsSystem, asyncRunner, recentChainData, peerLookup, rpcEncoding),
+            spec, metricsSystem, asyncRunner, recentChainData, peerLookup, cachingRpcEncoding),
         createBeaconBlocksByRange(
             spec,
             metricsSystem,
@@ -152,14 +164,14 @@ public class BeaconChainMethods {
             recentChainData,
             combinedChainDataClient,
             peerLookup,
-            rpcEncoding),
+            cachingRpcEncoding),
         createBlobSidecarsByRoot(
             spec,
             metricsSystem,
             asyncRunner,
             combinedChainDataClient,
             peerLookup,
-            rpcEncoding,
+            cachingRpcEncoding,
             recentChainData),
         createBlobSidecarsByRange(
             spec,
@@ -167,7 +179,7 @@ public class BeaconChainMethods {
             asyncRunner,
             combinedChainDataClient,
             peerLookup,
-            rpcEncoding,
+            cachingRpcEncoding,
             recentChainData),
         createDataColumnSidecarsByRoot(
             spec,
@@ -177,7 +189,7 @@ public class BeaconChainMethods {
             dataColumnSidecarCustody,
             custodyGroupCountManager,
             peerLookup,
-            rpcEncoding,
+            cachingRpcEncoding,
             recentChainData,
             dasLogger),
         createDataColumnsSidecarsByRange(
@@ -186,11 +198,12 @@ public class BeaconChainMethods {
             asyncRunner,
             combinedChainDataClient,
             peerLookup,
-            rpcEncoding,
+            cachingRpcEncoding,
             recentChainData,
             dasLogger),
         createMetadata(spec, asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding),
-        createPing(asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding));
+        createPing(asyncRunner, metadataMessagesFactory, peerLookup, rpcEncoding),
+        payloadCache);
   }
 
   private static Eth2RpcMethod<StatusMessage, StatusMessage> createStatus(
@@ -626,4 +639,9 @@ public class BeaconChainMethods {
   public Eth2RpcMethod<PingMessage, PingMessage> ping() {
     return ping;
   }
+
+  /** The encoded payloads shared by the block and sidecar methods. */
+  public RpcPayloadCache getPayloadCache() {
+    return payloadCache;
+  }
 }
@@ -40,17 +40,20 @@ import tech.pegasys.teku.networking.eth2.rpc.core.PeerRequiredLocalMessageHandle
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.InvalidRpcMethodVersion;
+import tech.pegasys.teku.networking.eth2.rpc.core.SerializedResponseCallback;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
+import tech.pegasys.teku.storage.api.SerializedFinalizedBlock;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 
 public class BeaconBlocksByRangeMessageHandler
     extends PeerRequiredLocalMessageHandler<BeaconBlocksByRangeRequestMessage, SignedBeaconBlock> {
   private static final Logger LOG = LogManager.getLogger();
+  private static final int SERIALIZED_BLOCKS_BATCH_SIZE = 64;
 
   private final Spec spec;
   private final CombinedChainDataClient combinedChainDataClient;
@@ -197,7 +200,9 @@ public class BeaconBlocksByRangeMessageHandler
                       .map(MinimalBeaconBlockSummary::getSlot)
                       .orElse(ZERO);
               final NavigableMap<UInt64, Bytes32> hotRoots;
-              if (combinedChainDataClient.isFinalized(message.getMaxSlot())) {
+              final boolean allFinalized =
+                  combinedChainDataClient.isFinalized(message.getMaxSlot());
+              if (allFinalized) {
                 // All blocks are finalized so skip scanning the protoarray
                 hotRoots = new TreeMap<>();
               } else {
@@ -214,6 +219,13 @@ public class BeaconBlocksByRangeMessageHandler
               if (initialState.isComplete()) {
                 return SafeFuture.completedFuture(initialState);
               }
+              if (allFinalized
+                  && step.equals(ONE)
+                  && callback instanceof SerializedResponseCallback<SignedBeaconBlock> serialized) {
+                // Stream the stored SSZ straight to the peer, one range scan per batch
+                final UInt64 endSlot = message.getMaxSlot().min(headSlot);
+                return sendNextSerializedBatch(initialState, serialized, endSlot);
+              }
               return sendNextBlock(initialState);
             });
   }
@@ -234,6 +246,33 @@ public class BeaconBlocksByRangeMessageHandler
         complete -> complete ? completedFuture(requestState) : sendNextBlock(requestState));
   }
 
+  private SafeFuture<RequestState> sendNextSerializedBatch(
+      final RequestState requestState,
+      final SerializedResponseCallback<SignedBeaconBlock> callback,
+      final UInt64 endSlot) {
+    final UInt64 batchStartSlot = requestState.currentSlot;
+    final UInt64 batchEndSlot =
+        batchStartSlot.plus(SERIALIZED_BLOCKS_BATCH_SIZE - 1).min(endSlot);
+    return combinedChainDataClient
+        .getSerializedFinalizedBlocks(batchStartSlot, batchEndSlot)
+        .thenCompose(
+            blocks -> {
+              SafeFuture<Void> sent = SafeFuture.COMPLETE;
+              for (final SerializedFinalizedBlock block : blocks) {
+                sent = sent.thenCompose(__ -> requestState.sendSerializedBlock(callback, block));
+              }
+              return sent;
+            })
+        .thenCompose(
+            __ -> {
+              if (batchEndSlot.isGreaterThanOrEqualTo(endSlot)) {
+                return completedFuture(requestState);
+              }
+              requestState.currentSlot = batchEndSlot.plus(ONE);
+              return sendNextSerializedBatch(requestState, callback, endSlot);
+            });
+  }
+
   private SafeFuture<Boolean> processNextBlock(final RequestState requestState) {
     // Ensure blocks are loaded off of the event thread
     return requestState
@@ -306,7 +345,20 @@ public class BeaconBlocksByRangeMessageHandler
       if (step.isGreaterThan(1L)) {
         remainingBlocks = ZERO;
       }
-      return callback.respond(block).thenRun(sentBlocks::incrementAndGet);
+      final Bytes32 knownBlockRoot = knownBlockRoots.get(block.getSlot());
+      final SafeFuture<Void> response =
+          knownBlockRoot != null
+              ? callback.respond(block, knownBlockRoot)
+              : callback.respond(block);
+      return response.thenRun(sentBlocks::incrementAndGet);
+    }
+
+    SafeFuture<Void> sendSerializedBlock(
+        final SerializedResponseCallback<SignedBeaconBlock> serializedCallback,
+        final SerializedFinalizedBlock block) {
+      return serializedCallback
+          .respondSerialized(block.slot(), block.sszBytes())
+          .thenRun(sentBlocks::incrementAndGet);
     }
 
     void decrementRemainingBlocks() {
@@ -125,7 +125,7 @@ public class BeaconBlocksByRootMessageHandler
                                 .map(
                                     signedBeaconBlock ->
                                         callback
-                                            .respond(signedBeaconBlock)
+                                            .respond(signedBeaconBlock, blockRoot.get())
                                             .thenRun(sentBlocks::incrementAndGet))
                                 .orElse(SafeFuture.COMPLETE);
                           }));
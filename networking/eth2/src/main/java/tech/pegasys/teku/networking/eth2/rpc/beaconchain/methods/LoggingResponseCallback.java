@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.beaconchain.methods;
 
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
@@ -27,6 +28,12 @@ public record LoggingResponseCallback<T>(
     return callback.respond(data);
   }
 
+  @Override
+  public SafeFuture<Void> respond(final T data, final Bytes32 blockRoot) {
+    logger.onNextItem(data);
+    return callback.respond(data, blockRoot);
+  }
+
   @Override
   public void respondAndCompleteSuccessfully(final T data) {
     logger.onNextItem(data);
@@ -13,11 +13,23 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core;
 
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 
 public interface ResponseCallback<T> {
   SafeFuture<Void> respond(T data);
 
+  /**
+   * Sends a block response item whose root is already known to the caller, allowing the encoded
+   * payload to be shared with other peers without hashing the block again.
+   *
+   * @param data the block to send
+   * @param blockRoot the root of the block
+   */
+  default SafeFuture<Void> respond(final T data, final Bytes32 blockRoot) {
+    return respond(data);
+  }
+
   void respondAndCompleteSuccessfully(T data);
 
   void completeSuccessfully();
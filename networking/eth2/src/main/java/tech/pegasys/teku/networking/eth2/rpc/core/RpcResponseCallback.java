@@ -16,15 +16,19 @@ package tech.pegasys.teku.networking.eth2.rpc.core;
 import java.nio.channels.ClosedChannelException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.async.RootCauseExceptionHandler;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.ServerErrorException;
 import tech.pegasys.teku.networking.p2p.peer.PeerDisconnectedException;
 import tech.pegasys.teku.networking.p2p.rpc.RpcStream;
 import tech.pegasys.teku.networking.p2p.rpc.StreamClosedException;
 
-class RpcResponseCallback<TResponse extends SszData> implements ResponseCallback<TResponse> {
+class RpcResponseCallback<TResponse extends SszData>
+    implements SerializedResponseCallback<TResponse> {
   private static final Logger LOG = LogManager.getLogger();
   private final RpcResponseEncoder<TResponse, ?> responseEncoder;
   private final RpcStream rpcStream;
@@ -40,6 +44,17 @@ class RpcResponseCallback<TResponse extends SszData> implements ResponseCallback
     return rpcStream.writeBytes(responseEncoder.encodeSuccessfulResponse(data));
   }
 
+  @Override
+  public SafeFuture<Void> respond(final TResponse data, final Bytes32 blockRoot) {
+    return rpcStream.writeBytes(responseEncoder.encodeSuccessfulResponse(data, blockRoot));
+  }
+
+  @Override
+  public SafeFuture<Void> respondSerialized(final UInt64 slot, final Bytes sszPayload) {
+    return rpcStream.writeBytes(
+        responseEncoder.encodeSerializedSuccessfulResponse(slot, sszPayload));
+  }
+
   @Override
   public void respondAndCompleteSuccessfully(final TResponse data) {
     respond(data)
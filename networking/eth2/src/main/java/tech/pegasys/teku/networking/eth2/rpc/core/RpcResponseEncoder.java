@@ -16,7 +16,9 @@ package tech.pegasys.teku.networking.eth2.rpc.core;
 import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.SUCCESS_RESPONSE_CODE;
 
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.context.RpcContextCodec;
 
@@ -36,6 +38,18 @@ public final class RpcResponseEncoder<TPayload extends SszData, TContext> {
         Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodePayload(response));
   }
 
+  public Bytes encodeSuccessfulResponse(final TPayload response, final Bytes32 blockRoot) {
+    final Bytes context = contextCodec.encodeContext(response);
+    return Bytes.concatenate(
+        Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodeBlockPayload(response, blockRoot));
+  }
+
+  public Bytes encodeSerializedSuccessfulResponse(final UInt64 slot, final Bytes sszPayload) {
+    final Bytes context = contextCodec.encodeContextForSlot(slot);
+    return Bytes.concatenate(
+        Bytes.of(SUCCESS_RESPONSE_CODE), context, encoding.encodeSerializedPayload(sszPayload));
+  }
+
   public Bytes encodeErrorResponse(final RpcException error) {
     return Bytes.concatenate(
         Bytes.of(error.getResponseCode()), encoding.encodePayload(error.getErrorMessage()));
@@ -0,0 +1,34 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core;
+
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * A {@link ResponseCallback} writing straight to the response stream, which can therefore pass
+ * through payloads that are already serialized.
+ */
+public interface SerializedResponseCallback<T> extends ResponseCallback<T> {
+
+  /**
+   * Sends a response item whose payload is already SSZ serialized, such as a block read straight
+   * from the database, without deserializing it first.
+   *
+   * @param slot the slot of the payload, used to encode the response context
+   * @param sszPayload the SSZ serialized payload
+   */
+  SafeFuture<Void> respondSerialized(UInt64 slot, Bytes sszPayload);
+}
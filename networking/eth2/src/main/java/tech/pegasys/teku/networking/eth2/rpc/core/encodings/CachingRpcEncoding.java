@@ -0,0 +1,55 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+
+/** Wraps an {@link RpcEncoding} so encoded block and sidecar payloads are reused across peers. */
+public class CachingRpcEncoding implements RpcEncoding {
+  private final RpcEncoding delegate;
+  private final RpcPayloadCache payloadCache;
+
+  public CachingRpcEncoding(final RpcEncoding delegate, final RpcPayloadCache payloadCache) {
+    this.delegate = delegate;
+    this.payloadCache = payloadCache;
+  }
+
+  @Override
+  public <T extends SszData> Bytes encodePayload(final T payload) {
+    return payloadCache.getOrEncode(payload, () -> delegate.encodePayload(payload));
+  }
+
+  @Override
+  public <T extends SszData> Bytes encodeBlockPayload(final T payload, final Bytes32 blockRoot) {
+    return payloadCache.getOrEncodeBlock(blockRoot, () -> delegate.encodePayload(payload));
+  }
+
+  @Override
+  public Bytes encodeSerializedPayload(final Bytes sszPayload) {
+    return delegate.encodeSerializedPayload(sszPayload);
+  }
+
+  @Override
+  public <T extends SszData> RpcByteBufDecoder<T> createDecoder(final SszSchema<T> payloadType) {
+    return delegate.createDecoder(payloadType);
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+}
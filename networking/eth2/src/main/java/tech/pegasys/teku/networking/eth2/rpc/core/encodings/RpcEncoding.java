@@ -14,6 +14,7 @@
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyFramedCompressor;
@@ -36,6 +37,26 @@ public interface RpcEncoding {
    */
   <T extends SszData> Bytes encodePayload(T payload);
 
+  /**
+   * Encodes a block payload whose root is already known with its encoding-dependent header
+   *
+   * @param payload The block to encode
+   * @param blockRoot The root of the block
+   * @param <T> The type of payload
+   * @return The encoded header and payload bytes
+   */
+  default <T extends SszData> Bytes encodeBlockPayload(final T payload, final Bytes32 blockRoot) {
+    return encodePayload(payload);
+  }
+
+  /**
+   * Encodes a payload that is already SSZ serialized with its encoding-dependent header
+   *
+   * @param sszPayload The SSZ serialized payload to encode
+   * @return The encoded header and payload bytes
+   */
+  Bytes encodeSerializedPayload(Bytes sszPayload);
+
   /**
    * Creates a brand new disposable {@link RpcByteBufDecoder} instance for decoding a payload with
    * it's encoding-dependent header
@@ -0,0 +1,205 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.BlobSidecar;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+
+/**
+ * Byte budgeted LRU cache of encoded (length prefixed and compressed) response payloads, shared by
+ * the req/resp methods which serve blocks and sidecars.
+ *
+ * <p>Entries are keyed by the identity of the content (block root, plus index for sidecars) rather
+ * than by slot, so a reorg or pruning can never cause the wrong bytes to be served. Payloads that
+ * are no longer requested age out of the cache. When a new checkpoint is finalized, payloads of
+ * blocks which are no longer retained (pruned forks, and finalized history which is served from
+ * the database) are dropped straight away so they don't hold on to the budget.
+ *
+ * <p>Blocks are only cached when the caller already knows their root, as hashing a freshly loaded
+ * block to build the key would cost more than the encoding it saves. Sidecars carry the root of
+ * their block header, which is cheap to compute.
+ */
+public class RpcPayloadCache implements FinalizedCheckpointChannel {
+  public static final long DEFAULT_MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+  private final long maxCachedBytes;
+  private final Predicate<Bytes32> isBlockRetained;
+  private final Map<PayloadKey, Bytes> cache = new LinkedHashMap<>(16, 0.75f, true);
+  private long cachedBytes = 0;
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter bytesSavedCounter;
+
+  public RpcPayloadCache(
+      final MetricsSystem metricsSystem,
+      final long maxCachedBytes,
+      final Predicate<Bytes32> isBlockRetained) {
+    this.maxCachedBytes = maxCachedBytes;
+    this.isBlockRetained = isBlockRetained;
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_payload_cache_requests_total",
+            "Total number of encoded req/resp payload lookups in the shared payload cache",
+            "result");
+    hitCounter = requestCounter.labels("hit");
+    missCounter = requestCounter.labels("miss");
+    bytesSavedCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_payload_cache_bytes_saved_total",
+            "Total number of encoded req/resp payload bytes served from the shared payload cache");
+    metricsSystem.createGauge(
+        TekuMetricCategory.NETWORK,
+        "rpc_payload_cache_size_bytes",
+        "Number of encoded payload bytes currently held in the shared payload cache",
+        this::getCachedBytes);
+  }
+
+  /**
+   * Returns the encoded payload, using the cached copy when the payload has been encoded before.
+   *
+   * @param payload the payload being sent
+   * @param encoder encodes the payload if it is not cached
+   * @return the encoded payload
+   */
+  public Bytes getOrEncode(final SszData payload, final Supplier<Bytes> encoder) {
+    final Optional<PayloadKey> maybeKey = PayloadKey.forPayload(payload);
+    if (maybeKey.isEmpty()) {
+      return encoder.get();
+    }
+    return getOrEncode(maybeKey.get(), encoder);
+  }
+
+  /**
+   * Returns the encoded block, using the cached copy when the block has been encoded before.
+   *
+   * @param blockRoot the root of the block being sent
+   * @param encoder encodes the block if it is not cached
+   * @return the encoded block
+   */
+  public Bytes getOrEncodeBlock(final Bytes32 blockRoot, final Supplier<Bytes> encoder) {
+    return getOrEncode(new PayloadKey(PayloadType.BLOCK, blockRoot, UInt64.ZERO), encoder);
+  }
+
+  private Bytes getOrEncode(final PayloadKey key, final Supplier<Bytes> encoder) {
+    final Bytes cached = get(key);
+    if (cached != null) {
+      hitCounter.inc();
+      bytesSavedCounter.inc(cached.size());
+      return cached;
+    }
+    missCounter.inc();
+    // Encode outside the lock, concurrent misses for the same key just race to insert equal bytes.
+    // Hold a single flat array so cache hits can be written out without further copying.
+    final Bytes encoded = Bytes.wrap(encoder.get().toArrayUnsafe());
+    put(key, encoded);
+    return encoded;
+  }
+
+  @Override
+  public void onNewFinalizedCheckpoint(
+      final Checkpoint checkpoint, final boolean fromOptimisticBlock) {
+    // Check the roots outside the lock as the check may need the store lock
+    final Set<Bytes32> prunedBlockRoots =
+        getCachedBlockRoots().stream()
+            .filter(blockRoot -> !isBlockRetained.test(blockRoot))
+            .collect(Collectors.toSet());
+    if (!prunedBlockRoots.isEmpty()) {
+      removeBlocks(prunedBlockRoots);
+    }
+  }
+
+  private synchronized Set<Bytes32> getCachedBlockRoots() {
+    return cache.keySet().stream().map(PayloadKey::blockRoot).collect(Collectors.toSet());
+  }
+
+  /** Drops the cached payloads of the given blocks, including their sidecars. */
+  private synchronized void removeBlocks(final Set<Bytes32> blockRoots) {
+    final Iterator<Map.Entry<PayloadKey, Bytes>> iterator = cache.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<PayloadKey, Bytes> entry = iterator.next();
+      if (blockRoots.contains(entry.getKey().blockRoot())) {
+        cachedBytes -= entry.getValue().size();
+        iterator.remove();
+      }
+    }
+  }
+
+  public synchronized long getCachedBytes() {
+    return cachedBytes;
+  }
+
+  private synchronized Bytes get(final PayloadKey key) {
+    return cache.get(key);
+  }
+
+  private synchronized void put(final PayloadKey key, final Bytes encoded) {
+    if (encoded.size() > maxCachedBytes) {
+      return;
+    }
+    final Bytes previous = cache.put(key, encoded);
+    if (previous != null) {
+      cachedBytes -= previous.size();
+    }
+    cachedBytes += encoded.size();
+    final Iterator<Bytes> eldest = cache.values().iterator();
+    while (cachedBytes > maxCachedBytes && eldest.hasNext()) {
+      cachedBytes -= eldest.next().size();
+      eldest.remove();
+    }
+  }
+
+  private enum PayloadType {
+    BLOCK,
+    BLOB_SIDECAR,
+    DATA_COLUMN_SIDECAR
+  }
+
+  private record PayloadKey(PayloadType type, Bytes32 blockRoot, UInt64 index) {
+
+    static Optional<PayloadKey> forPayload(final SszData payload) {
+      return switch (payload) {
+        case BlobSidecar sidecar ->
+            Optional.of(
+                new PayloadKey(
+                    PayloadType.BLOB_SIDECAR, sidecar.getBlockRoot(), sidecar.getIndex()));
+        case DataColumnSidecar sidecar ->
+            Optional.of(
+                new PayloadKey(
+                    PayloadType.DATA_COLUMN_SIDECAR, sidecar.getBlockRoot(), sidecar.getIndex()));
+        default -> Optional.empty();
+      };
+    }
+  }
+}
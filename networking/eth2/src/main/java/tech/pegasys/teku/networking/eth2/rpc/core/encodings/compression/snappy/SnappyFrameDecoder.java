@@ -13,15 +13,18 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
+import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.peekUncompressedLength;
 import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.validateChecksum;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.codec.compression.DecompressionException;
 import io.netty.handler.codec.compression.Snappy;
 import java.util.Optional;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.AbstractByteBufDecoder;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadLargerThanExpectedException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadSmallerThanExpectedException;
 
 /**
@@ -52,10 +55,14 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
   private static final int MAX_COMPRESSED_CHUNK_SIZE = 16777216 - 1;
 
   private final Snappy snappy = new Snappy();
+  // Decoded chunks are short-lived, they are copied out and released once the payload is complete
+  private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
   private final boolean validateChecksums;
+  private final int maxUncompressedBytes;
 
   private boolean started;
   private boolean corrupted;
+  private long uncompressedBytes;
 
   /**
    * Creates a new snappy-framed decoder with validation of checksums turned on. To turn checksum
@@ -73,7 +80,20 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
    *     CompressionException} will be thrown
    */
   public SnappyFrameDecoder(final boolean validateChecksums) {
+    this(validateChecksums, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new snappy-framed decoder which rejects the stream as soon as a chunk would take the
+   * total uncompressed size over the given limit, before any memory is allocated for that chunk.
+   *
+   * @param validateChecksums If true, the checksum field will be validated against the actual
+   *     uncompressed data
+   * @param maxUncompressedBytes The maximum total number of uncompressed bytes in the stream
+   */
+  public SnappyFrameDecoder(final boolean validateChecksums, final int maxUncompressedBytes) {
     this.validateChecksums = validateChecksums;
+    this.maxUncompressedBytes = maxUncompressedBytes;
   }
 
   @Override
@@ -156,6 +176,7 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
             return Optional.empty();
           }
 
+          reserveUncompressedBytes(chunkLength - 4);
           in.skipBytes(4);
           if (validateChecksums) {
             int checksum = in.readIntLE();
@@ -184,7 +205,14 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
 
           in.skipBytes(4);
           int checksum = in.readIntLE();
-          ByteBuf uncompressed = Unpooled.buffer(chunkLength, MAX_DECOMPRESSED_DATA_SIZE);
+          final int uncompressedLength =
+              peekUncompressedLength(in, in.readerIndex(), chunkLength - 4);
+          if (uncompressedLength < 0 || uncompressedLength > MAX_DECOMPRESSED_DATA_SIZE) {
+            throw new CompressionException(
+                "Invalid uncompressed length of COMPRESSED_DATA chunk: " + uncompressedLength);
+          }
+          reserveUncompressedBytes(uncompressedLength);
+          ByteBuf uncompressed = allocator.heapBuffer(uncompressedLength, uncompressedLength);
           try {
             if (validateChecksums) {
               int oldWriterIndex = in.writerIndex();
@@ -221,6 +249,18 @@ public class SnappyFrameDecoder extends AbstractByteBufDecoder<ByteBuf, Compress
         "Snappy stream complete, but unprocessed data left: " + dataLeft);
   }
 
+  private void reserveUncompressedBytes(final int chunkUncompressedBytes)
+      throws PayloadLargerThanExpectedException {
+    uncompressedBytes += chunkUncompressedBytes;
+    if (uncompressedBytes > maxUncompressedBytes) {
+      throw new PayloadLargerThanExpectedException(
+          "Snappy frames uncompress to at least "
+              + uncompressedBytes
+              + " bytes while expecting "
+              + maxUncompressedBytes);
+    }
+  }
+
   private static void checkByte(final byte actual, final byte expect) throws CompressionException {
     if (actual != expect) {
       throw new CompressionException(
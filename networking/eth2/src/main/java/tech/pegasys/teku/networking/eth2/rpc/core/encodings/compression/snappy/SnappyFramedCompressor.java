@@ -30,15 +30,17 @@ import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptio
 public class SnappyFramedCompressor implements Compressor {
 
   private class SnappyFramedDecompressor implements Decompressor {
-    private final SnappyFrameDecoder snappyFrameDecoder = new SnappyFrameDecoder();
+    private final SnappyFrameDecoder snappyFrameDecoder;
     private final int uncompressedPayloadSize;
     private int consumedCompressedSize = 0;
+    private int decodedFramesLength = 0;
     private final List<ByteBuf> decodedSnappyFrames = new ArrayList<>();
     private boolean broken = false;
     private boolean disposed = false;
 
     public SnappyFramedDecompressor(final int uncompressedPayloadSize) {
       this.uncompressedPayloadSize = uncompressedPayloadSize;
+      this.snappyFrameDecoder = new SnappyFrameDecoder(true, uncompressedPayloadSize);
     }
 
     @Override
@@ -57,6 +59,8 @@ public class SnappyFramedCompressor implements Compressor {
             int beforeReadableBytes = input.readableBytes();
             byteBuf = snappyFrameDecoder.decodeOneMessage(input);
             consumedCompressedSize += beforeReadableBytes - input.readableBytes();
+          } catch (PayloadLargerThanExpectedException e) {
+            throw e;
           } catch (Exception e) {
             throw new CompressionException("Error in Snappy decompressor", e);
           }
@@ -72,12 +76,12 @@ public class SnappyFramedCompressor implements Compressor {
           if (byteBuf.isEmpty()) {
             break;
           }
-          int decodedFramesLength =
-              decodedSnappyFrames.stream().mapToInt(ByteBuf::readableBytes).sum();
+          decodedFramesLength += byteBuf.get().readableBytes();
           if (decodedFramesLength == uncompressedPayloadSize) {
             // wrapped ByteBuf takes ownership of the underlying buffers
             ByteBuf ret = Unpooled.wrappedBuffer(decodedSnappyFrames.toArray(new ByteBuf[0]));
             decodedSnappyFrames.clear();
+            decodedFramesLength = 0;
             snappyFrameDecoder.complete();
             return Optional.of(ret);
           } else if (decodedFramesLength > uncompressedPayloadSize) {
@@ -15,30 +15,48 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.compression.DecompressionException;
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
 
 class SnappyUtil {
+  // A varint encoded 32-bit length takes at most 5 bytes
+  private static final int MAX_PREAMBLE_BYTES = 5;
 
   static int calculateChecksum(final ByteBuf data) {
     return calculateChecksum(data, data.readerIndex(), data.readableBytes());
   }
 
   static int calculateChecksum(final ByteBuf data, final int offset, final int length) {
-    CRC32C crc32 = new CRC32C();
-    try {
-      for (int i = offset; i < offset + length; i++) {
-        crc32.update(data.getByte(i));
-      }
-      return maskChecksum((int) crc32.getValue());
-    } finally {
-      crc32.reset();
+    final CRC32C crc32 = new CRC32C();
+    // heap and direct buffers are exposed as views so the whole range is checksummed in bulk
+    for (ByteBuffer buffer : data.nioBuffers(offset, length)) {
+      crc32.update(buffer);
     }
+    return maskChecksum((int) crc32.getValue());
   }
 
   static int maskChecksum(final int checksum) {
     return (checksum >>> 15 | checksum << 17) + 0xa282ead8;
   }
 
+  /**
+   * Reads the uncompressed length preamble of a snappy compressed block without moving the reader
+   * index, so that the output can be sized (or rejected) before decompressing.
+   *
+   * @return the uncompressed length or -1 if the preamble is malformed
+   */
+  static int peekUncompressedLength(final ByteBuf data, final int offset, final int length) {
+    int uncompressedLength = 0;
+    for (int i = 0; i < Math.min(length, MAX_PREAMBLE_BYTES); i++) {
+      final int b = data.getUnsignedByte(offset + i);
+      uncompressedLength |= (b & 0x7f) << (7 * i);
+      if ((b & 0x80) == 0) {
+        return uncompressedLength < 0 ? -1 : uncompressedLength;
+      }
+    }
+    return -1;
+  }
+
   static void validateChecksum(
       final int expectedChecksum, final ByteBuf data, final int offset, final int length) {
     final int actualChecksum = calculateChecksum(data, offset, length);
@@ -54,6 +54,26 @@ public class GossipTopicsTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  public void extractTopicFamily_shouldStripSubnetId() {
+    assertThat(GossipTopics.extractTopicFamily("/eth2/01020304/beacon_attestation_12/ssz_snappy"))
+        .isEqualTo("beacon_attestation");
+    assertThat(GossipTopics.extractTopicFamily("/eth2/01020304/data_column_sidecar_0/ssz_snappy"))
+        .isEqualTo("data_column_sidecar");
+  }
+
+  @Test
+  public void extractTopicFamily_shouldReturnNameOfGlobalTopics() {
+    assertThat(GossipTopics.extractTopicFamily("/eth2/01020304/beacon_block/ssz_snappy"))
+        .isEqualTo("beacon_block");
+  }
+
+  @Test
+  public void extractTopicFamily_invalid() {
+    assertThatThrownBy(() -> GossipTopics.extractTopicFamily("/eth2/01020304"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void maxSubscribedTopicsConstantIsLargeEnough() {
     final SpecMilestone latestMilestone = SpecMilestone.getHighestMilestone();
@@ -138,6 +138,23 @@ public class SingleAttestationTopicHandlerTest
     assertThat(result).isCompletedWithValue(ValidationResult.Invalid);
   }
 
+  @Test
+  public void handleMessage_ignoredWithoutProcessingWhenSlotIsStale() {
+    final AttestationGenerator attestationGenerator = new AttestationGenerator(spec, validatorKeys);
+    final StateAndBlockSummary blockAndState = getChainHead();
+    final ValidatableAttestation attestation =
+        ValidatableAttestation.fromNetwork(
+            spec, attestationGenerator.validAttestation(blockAndState), SUBNET_ID);
+    storageSystem.chainUpdater().setCurrentSlot(validSlot.plus(100));
+    final Bytes serialized = gossipEncoding.encode(attestation.getAttestation());
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(serialized, Optional.empty()));
+    assertThat(result).isCompletedWithValue(ValidationResult.Ignore);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(processor);
+  }
+
   @Test
   public void handleMessage_invalidAttestation_invalidSSZ() {
     final Bytes serialized = Bytes.fromHexString("0x3456");
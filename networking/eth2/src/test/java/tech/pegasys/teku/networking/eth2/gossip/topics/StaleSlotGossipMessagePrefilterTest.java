@@ -0,0 +1,100 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.validation.InternalValidationResult;
+import tech.pegasys.teku.statetransition.validation.ValidationResultCode;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+class StaleSlotGossipMessagePrefilterTest {
+  private static final UInt64 CURRENT_SLOT = UInt64.valueOf(100);
+
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+
+  private final GossipMessagePrefilter attestationPrefilter =
+      StaleSlotGossipMessagePrefilter.forAttestations(
+          spec, recentChainData, spec.getGenesisSchemaDefinitions().getAttestationSchema());
+  private final GossipMessagePrefilter syncCommitteeMessagePrefilter =
+      StaleSlotGossipMessagePrefilter.forSyncCommitteeMessages(
+          spec,
+          recentChainData,
+          SchemaDefinitionsAltair.required(spec.getGenesisSchemaDefinitions())
+              .getSyncCommitteeMessageSchema());
+
+  @BeforeEach
+  void setUp() {
+    when(recentChainData.getCurrentSlot()).thenReturn(Optional.of(CURRENT_SLOT));
+  }
+
+  @Test
+  void attestations_shouldIgnoreSlotsBeforePreviousEpochAndPropagationRange() {
+    // min(start of previous epoch = 88, current slot - propagation range = 68) - 2
+    assertIgnored(attestationPrefilter.check(attestationAtSlot(65)));
+    assertThat(attestationPrefilter.check(attestationAtSlot(66))).isEmpty();
+    assertThat(attestationPrefilter.check(attestationAtSlot(100))).isEmpty();
+  }
+
+  @Test
+  void attestations_shouldNotFilterFutureSlots() {
+    assertThat(attestationPrefilter.check(attestationAtSlot(1_000))).isEmpty();
+  }
+
+  @Test
+  void syncCommitteeMessages_shouldIgnoreSlotsBeforeCurrentSlotWithDisparity() {
+    assertIgnored(syncCommitteeMessagePrefilter.check(syncCommitteeMessageAtSlot(97)));
+    assertThat(syncCommitteeMessagePrefilter.check(syncCommitteeMessageAtSlot(98))).isEmpty();
+    assertThat(syncCommitteeMessagePrefilter.check(syncCommitteeMessageAtSlot(1_000))).isEmpty();
+  }
+
+  @Test
+  void shouldNotFilterWhenCurrentSlotIsUnknown() {
+    when(recentChainData.getCurrentSlot()).thenReturn(Optional.empty());
+
+    assertThat(attestationPrefilter.check(attestationAtSlot(0))).isEmpty();
+  }
+
+  @Test
+  void shouldNotFilterMalformedMessages() {
+    assertThat(attestationPrefilter.check(Bytes.fromHexString("0x3456"))).isEmpty();
+    assertThat(syncCommitteeMessagePrefilter.check(Bytes.EMPTY)).isEmpty();
+  }
+
+  private Bytes attestationAtSlot(final long slot) {
+    return dataStructureUtil.randomAttestation(slot).sszSerialize();
+  }
+
+  private Bytes syncCommitteeMessageAtSlot(final long slot) {
+    return dataStructureUtil.randomSyncCommitteeMessage(slot).sszSerialize();
+  }
+
+  private void assertIgnored(final Optional<InternalValidationResult> result) {
+    assertThat(result).isPresent();
+    assertThat(result.get().code()).isEqualTo(ValidationResultCode.IGNORE);
+  }
+}
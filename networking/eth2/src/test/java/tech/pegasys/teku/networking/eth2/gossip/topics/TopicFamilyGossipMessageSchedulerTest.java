@@ -0,0 +1,180 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.libp2p.core.pubsub.ValidationResult;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunnerFactory;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+class TopicFamilyGossipMessageSchedulerTest {
+  private static final String BLOCK_TOPIC = "/eth2/01020304/beacon_block/ssz_snappy";
+  private static final String ATTESTATION_TOPIC_0 =
+      "/eth2/01020304/beacon_attestation_0/ssz_snappy";
+  private static final String ATTESTATION_TOPIC_1 =
+      "/eth2/01020304/beacon_attestation_1/ssz_snappy";
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(0);
+  private final StubAsyncRunnerFactory asyncRunnerFactory = new StubAsyncRunnerFactory();
+
+  private final TopicFamilyGossipMessageScheduler scheduler =
+      new TopicFamilyGossipMessageScheduler(
+          asyncRunnerFactory, metricsSystem, timeProvider, 2, 100, 4, Thread.MAX_PRIORITY);
+
+  @Test
+  void shouldShareWorkerPoolBetweenSubnetsOfTheSameTopic() {
+    final SafeFuture<ValidationResult> result0 =
+        scheduler.schedule(
+            ATTESTATION_TOPIC_0, () -> SafeFuture.completedFuture(ValidationResult.Valid));
+    final SafeFuture<ValidationResult> result1 =
+        scheduler.schedule(
+            ATTESTATION_TOPIC_1, () -> SafeFuture.completedFuture(ValidationResult.Valid));
+
+    final List<StubAsyncRunner> runners = asyncRunnerFactory.getStubAsyncRunners();
+    assertThat(runners).hasSize(1);
+    assertThat(queueSize("beacon_attestation")).isEqualTo(2);
+    assertThat(result0).isNotDone();
+    assertThat(result1).isNotDone();
+
+    runners.getFirst().executeQueuedActions();
+
+    assertThat(result0).isCompletedWithValue(ValidationResult.Valid);
+    assertThat(result1).isCompletedWithValue(ValidationResult.Valid);
+    assertThat(queueSize("beacon_attestation")).isZero();
+  }
+
+  @Test
+  void shouldNotBlockTopicsBehindOtherTopics() {
+    scheduler.schedule(ATTESTATION_TOPIC_0, SafeFuture::new);
+    final SafeFuture<ValidationResult> blockResult =
+        scheduler.schedule(BLOCK_TOPIC, () -> SafeFuture.completedFuture(ValidationResult.Valid));
+
+    final List<StubAsyncRunner> runners = asyncRunnerFactory.getStubAsyncRunners();
+    assertThat(runners).hasSize(2);
+    runners.get(1).executeQueuedActions();
+
+    assertThat(blockResult).isCompletedWithValue(ValidationResult.Valid);
+    assertThat(queueSize("beacon_attestation")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCreateBlockWorkerPoolWithConfiguredThreadsAndPriority() {
+    final AsyncRunnerFactory factory = mock(AsyncRunnerFactory.class);
+    when(factory.create(any(), anyInt(), anyInt(), anyInt())).thenReturn(new StubAsyncRunner());
+    final TopicFamilyGossipMessageScheduler scheduler =
+        new TopicFamilyGossipMessageScheduler(
+            factory, metricsSystem, timeProvider, 2, 100, 4, Thread.MAX_PRIORITY);
+
+    scheduler.schedule(BLOCK_TOPIC, SafeFuture::new);
+    scheduler.schedule(ATTESTATION_TOPIC_0, SafeFuture::new);
+
+    verify(factory).create("gossip_beacon_block", 4, 100, Thread.MAX_PRIORITY);
+    verify(factory)
+        .create("gossip_beacon_attestation", 2, 100, AsyncRunnerFactory.DEFAULT_THREAD_PRIORITY);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldIgnoreMessageWhenQueueIsFull() {
+    final AsyncRunner rejectingRunner = mock(AsyncRunner.class);
+    when(rejectingRunner.runAsync(any(ExceptionThrowingFutureSupplier.class)))
+        .thenReturn(SafeFuture.failedFuture(new RejectedExecutionException("Queue full")));
+    final AsyncRunnerFactory factory = mock(AsyncRunnerFactory.class);
+    when(factory.create(eq("gossip_data_column_sidecar"), anyInt(), anyInt(), anyInt()))
+        .thenReturn(rejectingRunner);
+    final TopicFamilyGossipMessageScheduler scheduler =
+        new TopicFamilyGossipMessageScheduler(
+            factory, metricsSystem, timeProvider, 2, 100, 4, Thread.MAX_PRIORITY);
+
+    final SafeFuture<ValidationResult> result =
+        scheduler.schedule(
+            "/eth2/01020304/data_column_sidecar_3/ssz_snappy",
+            () -> SafeFuture.completedFuture(ValidationResult.Valid));
+
+    assertThat(result).isCompletedWithValue(ValidationResult.Ignore);
+    assertThat(queueSize("data_column_sidecar")).isZero();
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.NETWORK,
+                "gossip_topic_dropped_messages_total",
+                "data_column_sidecar"))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldIgnoreMessagesWhileTooManyAreBeingValidated() {
+    final TopicFamilyGossipMessageScheduler scheduler =
+        new TopicFamilyGossipMessageScheduler(
+            asyncRunnerFactory, metricsSystem, timeProvider, 2, 1, 4, Thread.MAX_PRIORITY);
+    final SafeFuture<ValidationResult> validation = new SafeFuture<>();
+    final SafeFuture<ValidationResult> result1 =
+        scheduler.schedule(ATTESTATION_TOPIC_0, () -> validation);
+    asyncRunnerFactory.getStubAsyncRunners().getFirst().executeQueuedActions();
+
+    // The worker is free again but validation continues elsewhere, so the slot is still taken
+    final SafeFuture<ValidationResult> result2 =
+        scheduler.schedule(
+            ATTESTATION_TOPIC_1, () -> SafeFuture.completedFuture(ValidationResult.Valid));
+    assertThat(result2).isCompletedWithValue(ValidationResult.Ignore);
+    assertThat(inFlight("beacon_attestation")).isEqualTo(1);
+
+    validation.complete(ValidationResult.Valid);
+    assertThat(result1).isCompletedWithValue(ValidationResult.Valid);
+    assertThat(inFlight("beacon_attestation")).isZero();
+
+    final SafeFuture<ValidationResult> result3 =
+        scheduler.schedule(
+            ATTESTATION_TOPIC_1, () -> SafeFuture.completedFuture(ValidationResult.Valid));
+    asyncRunnerFactory.getStubAsyncRunners().getFirst().executeQueuedActions();
+    assertThat(result3).isCompletedWithValue(ValidationResult.Valid);
+  }
+
+  @Test
+  void shouldUseUnknownFamilyForUnexpectedTopics() {
+    assertThat(TopicFamilyGossipMessageScheduler.getTopicFamily("/foo"))
+        .isEqualTo(TopicFamilyGossipMessageScheduler.UNKNOWN_TOPIC_FAMILY);
+  }
+
+  private double queueSize(final String topicFamily) {
+    return metricsSystem
+        .getLabelledGauge(TekuMetricCategory.NETWORK, "gossip_topic_queue_size")
+        .getValue(topicFamily)
+        .orElseThrow();
+  }
+
+  private double inFlight(final String topicFamily) {
+    return metricsSystem
+        .getLabelledGauge(TekuMetricCategory.NETWORK, "gossip_topic_in_flight_messages")
+        .getValue(topicFamily)
+        .orElseThrow();
+  }
+}
@@ -87,6 +87,7 @@ class Eth2PeerTest {
           rateTracker,
           kzg,
           metricsSystem,
+          PeerRpcStatistics.Histograms.create(metricsSystem),
           timeProvider);
 
   @Test
@@ -0,0 +1,167 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.networking.eth2.peers.PeerRpcStatistics.Method;
+import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+
+public class PeerRpcStatisticsTest {
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+
+  @SuppressWarnings("unchecked")
+  private final LabelledMetric<Histogram> throughputMetric = mock(LabelledMetric.class);
+
+  @SuppressWarnings("unchecked")
+  private final LabelledMetric<Histogram> firstResponseLatencyMetric = mock(LabelledMetric.class);
+
+  private final Histogram throughputHistogram = mock(Histogram.class);
+  private final Histogram firstResponseLatencyHistogram = mock(Histogram.class);
+
+  private final PeerRpcStatistics statistics =
+      new PeerRpcStatistics(
+          new PeerRpcStatistics.Histograms(throughputMetric, firstResponseLatencyMetric),
+          timeProvider);
+
+  private final List<String> received = new ArrayList<>();
+  private final RpcResponseListener<String> listener = RpcResponseListener.from(received::add);
+  private final AtomicReference<RpcResponseListener<String>> trackedListener =
+      new AtomicReference<>();
+  private final SafeFuture<Void> request = new SafeFuture<>();
+
+  @BeforeEach
+  public void setUp() {
+    when(throughputMetric.labels("beacon_blocks_by_range")).thenReturn(throughputHistogram);
+    when(firstResponseLatencyMetric.labels("beacon_blocks_by_range"))
+        .thenReturn(firstResponseLatencyHistogram);
+  }
+
+  @Test
+  public void shouldBeEmptyBeforeAnyRequestCompletes() {
+    assertThat(statistics.getObjectsPerSecond(Method.BLOCKS_BY_RANGE)).isEmpty();
+    assertThat(statistics.getFirstResponseLatencyMillis(Method.BLOCKS_BY_RANGE)).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordThroughputAndLatencyOfCompletedRequest() {
+    final SafeFuture<Void> result = startRequest();
+
+    timeProvider.advanceTimeByMillis(100);
+    deliver("a");
+    timeProvider.advanceTimeByMillis(400);
+    deliver("b");
+    request.complete(null);
+
+    assertThat(result).isCompleted();
+    assertThat(received).containsExactly("a", "b");
+    assertThat(statistics.getObjectsPerSecond(Method.BLOCKS_BY_RANGE)).hasValue(4);
+    assertThat(statistics.getFirstResponseLatencyMillis(Method.BLOCKS_BY_RANGE)).hasValue(100);
+    assertThat(statistics.getObjectsPerSecond(Method.DATA_COLUMN_SIDECARS_BY_ROOT)).isEmpty();
+  }
+
+  @Test
+  public void shouldObserveThroughputAndLatencyInHistograms() {
+    final SafeFuture<Void> result = startRequest();
+
+    timeProvider.advanceTimeByMillis(250);
+    deliver("a");
+    timeProvider.advanceTimeByMillis(250);
+    deliver("b");
+    request.complete(null);
+
+    assertThat(result).isCompleted();
+    verify(throughputHistogram).observe(4);
+    verify(firstResponseLatencyHistogram).observe(0.25);
+  }
+
+  @Test
+  public void shouldAverageSubsequentRequests() {
+    final SafeFuture<Void> firstResult = startRequest();
+    timeProvider.advanceTimeByMillis(1000);
+    deliver("a");
+    request.complete(null);
+    assertThat(firstResult).isCompleted();
+
+    final SafeFuture<Void> secondRequest = new SafeFuture<>();
+    final AtomicReference<RpcResponseListener<String>> secondListener = new AtomicReference<>();
+    final SafeFuture<Void> secondResult =
+        statistics.track(
+            Method.BLOCKS_BY_RANGE,
+            listener,
+            tracked -> {
+              secondListener.set(tracked);
+              return secondRequest;
+            });
+    timeProvider.advanceTimeByMillis(100);
+    assertThat(secondListener.get().onResponse("b")).isCompleted();
+    secondRequest.complete(null);
+    assertThat(secondResult).isCompleted();
+
+    final OptionalDouble objectsPerSecond = statistics.getObjectsPerSecond(Method.BLOCKS_BY_RANGE);
+    assertThat(objectsPerSecond).isPresent();
+    assertThat(objectsPerSecond.getAsDouble())
+        .isCloseTo(1 + PeerRpcStatistics.SMOOTHING_FACTOR * (10 - 1), within(0.0001));
+  }
+
+  @Test
+  public void shouldNotRecordRequestsWithoutResponses() {
+    final SafeFuture<Void> result = startRequest();
+    timeProvider.advanceTimeByMillis(100);
+    request.complete(null);
+
+    assertThat(result).isCompleted();
+    assertThat(statistics.getObjectsPerSecond(Method.BLOCKS_BY_RANGE)).isEmpty();
+    verifyNoInteractions(throughputHistogram, firstResponseLatencyHistogram);
+  }
+
+  @Test
+  public void shouldNotRecordFailedRequests() {
+    final SafeFuture<Void> result = startRequest();
+    deliver("a");
+    request.completeExceptionally(new IllegalStateException("failed"));
+
+    assertThat(result).isCompletedExceptionally();
+    assertThat(statistics.getObjectsPerSecond(Method.BLOCKS_BY_RANGE)).isEmpty();
+  }
+
+  private SafeFuture<Void> startRequest() {
+    return statistics.track(
+        Method.BLOCKS_BY_RANGE,
+        listener,
+        tracked -> {
+          trackedListener.set(tracked);
+          return request;
+        });
+  }
+
+  private void deliver(final String response) {
+    assertThat(trackedListener.get().onResponse(response)).isCompleted();
+  }
+}
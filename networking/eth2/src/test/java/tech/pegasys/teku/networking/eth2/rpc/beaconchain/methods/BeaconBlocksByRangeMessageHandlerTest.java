@@ -28,9 +28,11 @@ import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
 import static tech.pegasys.teku.networking.eth2.rpc.core.RpcResponseStatus.INVALID_REQUEST_CODE;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -48,6 +50,7 @@ import tech.pegasys.teku.networking.eth2.peers.RequestApproval;
 import tech.pegasys.teku.networking.eth2.rpc.beaconchain.BeaconChainMethodIds;
 import tech.pegasys.teku.networking.eth2.rpc.core.ResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
+import tech.pegasys.teku.networking.eth2.rpc.core.SerializedResponseCallback;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.RpcEncoding;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -58,6 +61,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.BeaconBlocksByRangeRequestMessage;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.SerializedFinalizedBlock;
 import tech.pegasys.teku.storage.client.ChainHead;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
 
@@ -93,6 +97,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private final String protocolId = BeaconChainMethodIds.getBlocksByRangeMethodId(2, RPC_ENCODING);
   private final BeaconBlocksByRangeMessageHandler handler =
       new BeaconBlocksByRangeMessageHandler(spec, metricsSystem, combinedChainDataClient);
+  private final Set<UInt64> knownRootSlots = new HashSet<>();
   private final Optional<RequestApproval> allowedObjectsRequest =
       Optional.of(
           new RequestApproval.RequestApprovalBuilder().objectsCount(100).timeSeconds(ZERO).build());
@@ -104,6 +109,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     when(combinedChainDataClient.getEarliestAvailableBlockSlot())
         .thenReturn(completedFuture(Optional.of(ZERO)));
     when(listener.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(listener.respond(any(), any())).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -465,6 +471,48 @@ class BeaconBlocksByRangeMessageHandlerTest {
     verify(combinedChainDataClient, never()).getAncestorRoots(any(), any(), any());
   }
 
+  @Test
+  void shouldStreamSerializedBlocksFromFinalizedPeriod() {
+    final int startBlock = 1;
+    final int count = 5;
+    final int skip = 1;
+    withCanonicalHeadBlock(blocksWStates.get(8));
+    withFinalizedBlocks(0, 1, 2, 3, 4, 5, 6, 7);
+    @SuppressWarnings("unchecked")
+    final SerializedResponseCallback<SignedBeaconBlock> serializedListener =
+        mock(SerializedResponseCallback.class);
+    when(serializedListener.respondSerialized(any(), any())).thenReturn(SafeFuture.COMPLETE);
+    // Slot 3 is empty
+    final List<SerializedFinalizedBlock> storedBlocks =
+        IntStream.of(1, 2, 4, 5)
+            .mapToObj(blocks::get)
+            .map(block -> new SerializedFinalizedBlock(block.getSlot(), block.sszSerialize()))
+            .toList();
+    when(combinedChainDataClient.getSerializedFinalizedBlocks(
+            UInt64.valueOf(startBlock), UInt64.valueOf(5)))
+        .thenReturn(completedFuture(storedBlocks));
+
+    handler.onIncomingMessage(
+        protocolId,
+        peer,
+        new BeaconBlocksByRangeRequestMessage(
+            UInt64.valueOf(startBlock), UInt64.valueOf(count), UInt64.valueOf(skip)),
+        serializedListener);
+
+    // Sending 4 blocks
+    verify(peer, times(1))
+        .adjustBlocksRequest(eq(allowedObjectsRequest.get()), eq(Long.valueOf(4)));
+
+    final InOrder inOrder = Mockito.inOrder(serializedListener);
+    storedBlocks.forEach(
+        block ->
+            inOrder.verify(serializedListener).respondSerialized(block.slot(), block.sszBytes()));
+    inOrder.verify(serializedListener).completeSuccessfully();
+    verify(serializedListener, never()).respond(any());
+    verify(serializedListener, never()).respond(any(), any());
+    verify(combinedChainDataClient, never()).getBlockAtSlotExact(any());
+  }
+
   @Test
   void shouldReturnMixOfFinalizedAndHotBlocks() {
     final int startBlock = 1;
@@ -501,7 +549,12 @@ class BeaconBlocksByRangeMessageHandlerTest {
   private void verifyBlocksReturned(final int... slots) {
     final InOrder inOrder = Mockito.inOrder(listener);
     for (int slot : slots) {
-      inOrder.verify(listener).respond(blocks.get(slot));
+      final SignedBeaconBlock block = blocks.get(slot);
+      if (knownRootSlots.contains(block.getSlot())) {
+        inOrder.verify(listener).respond(block, block.getRoot());
+      } else {
+        inOrder.verify(listener).respond(block);
+      }
     }
     inOrder.verify(listener).completeSuccessfully();
     verifyNoMoreInteractions(listener);
@@ -515,6 +568,7 @@ class BeaconBlocksByRangeMessageHandlerTest {
     when(combinedChainDataClient.getAncestorRoots(
             UInt64.valueOf(startBlock), UInt64.valueOf(skip), UInt64.valueOf(count)))
         .thenReturn(blockRoots);
+    knownRootSlots.addAll(blockRoots.keySet());
   }
 
   private NavigableMap<UInt64, Bytes32> allBlocks() {
@@ -91,7 +91,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
     when(recentChainData.retrieveSignedBlockByRoot(any()))
         .thenAnswer(
             i -> storageSystem.recentChainData().getStore().retrieveSignedBlock(i.getArgument(0)));
-    when(callback.respond(any())).thenReturn(SafeFuture.COMPLETE);
+    when(callback.respond(any(), any())).thenReturn(SafeFuture.COMPLETE);
   }
 
   @Test
@@ -142,7 +142,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
 
     for (SignedBeaconBlock block : blocks) {
       verify(recentChainData).retrieveSignedBlockByRoot(block.getRoot());
-      verify(callback).respond(block);
+      verify(callback).respond(block, block.getRoot());
     }
   }
 
@@ -151,7 +151,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
     final List<SignedBeaconBlock> blocks = buildChain(5);
 
     // Mock callback to appear to be closed
-    doThrow(new StreamClosedException()).when(callback).respond(any());
+    doThrow(new StreamClosedException()).when(callback).respond(any(), any());
 
     final BeaconBlocksByRootRequestMessage message = createRequest(blocks);
     handler.onIncomingMessage(V2_PROTOCOL_ID, peer, message, callback);
@@ -164,7 +164,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
 
     // Check that we only asked for the first block
     verify(recentChainData, times(1)).retrieveSignedBlockByRoot(any());
-    verify(callback, times(1)).respond(any());
+    verify(callback, times(1)).respond(any(), any());
   }
 
   @Test
@@ -185,7 +185,7 @@ public class BeaconBlocksByRootMessageHandlerTest {
 
     for (SignedBeaconBlock block : blocks) {
       verify(recentChainData).retrieveSignedBlockByRoot(block.getRoot());
-      verify(callback).respond(block);
+      verify(callback).respond(block, block.getRoot());
     }
   }
 
@@ -183,6 +183,13 @@ class LengthPrefixedEncodingTest {
     }
   }
 
+  @Test
+  public void encodeSerializedPayload_shouldMatchEncodingOfDeserializedPayload() {
+    final StatusMessage message = StatusMessage.createPreGenesisStatus(spec);
+    assertThat(encoding.encodeSerializedPayload(message.sszSerialize()))
+        .isEqualTo(encoding.encodePayload(message));
+  }
+
   @Test
   public void decodePayload_shouldRejectMessagesThatAreTooLong() {
     // We should reject the message based on the length prefix and skip reading the data entirely
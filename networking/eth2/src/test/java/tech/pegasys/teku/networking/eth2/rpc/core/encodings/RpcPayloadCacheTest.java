@@ -0,0 +1,146 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.StatusMessage;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class RpcPayloadCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final RpcEncoding encoding =
+      RpcEncoding.createSszSnappyEncoding(spec.getNetworkingConfig().getMaxPayloadSize());
+  private final AtomicInteger encodeCount = new AtomicInteger();
+  private final Set<Bytes32> retainedBlocks = new HashSet<>();
+
+  @Test
+  void shouldReuseEncodedBlockPayload() {
+    final RpcPayloadCache cache = createCache(1024 * 1024);
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+
+    final Bytes first = cache.getOrEncodeBlock(block.getRoot(), () -> encode(block));
+    final Bytes second = cache.getOrEncodeBlock(block.getRoot(), () -> encode(block));
+
+    assertThat(second).isEqualTo(first).isEqualTo(encoding.encodePayload(block));
+    assertThat(encodeCount).hasValue(1);
+    assertThat(getRequestCount("hit")).isEqualTo(1);
+    assertThat(getRequestCount("miss")).isEqualTo(1);
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.NETWORK, "rpc_payload_cache_bytes_saved_total"))
+        .isEqualTo(first.size());
+  }
+
+  @Test
+  void shouldNotCacheOtherPayloads() {
+    final RpcPayloadCache cache = createCache(1024 * 1024);
+    final StatusMessage status = StatusMessage.createPreGenesisStatus(spec);
+
+    cache.getOrEncode(status, () -> encode(status));
+    cache.getOrEncode(status, () -> encode(status));
+
+    assertThat(encodeCount).hasValue(2);
+    assertThat(cache.getCachedBytes()).isZero();
+  }
+
+  @Test
+  void shouldNotCacheBlocksWithoutKnownRoot() {
+    final RpcPayloadCache cache = createCache(1024 * 1024);
+    final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+
+    cache.getOrEncode(block, () -> encode(block));
+    cache.getOrEncode(block, () -> encode(block));
+
+    assertThat(encodeCount).hasValue(2);
+    assertThat(cache.getCachedBytes()).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedPayloadsWhenOverBudget() {
+    final SignedBeaconBlock block1 = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock block2 = dataStructureUtil.randomSignedBeaconBlock(2);
+    final SignedBeaconBlock block3 = dataStructureUtil.randomSignedBeaconBlock(3);
+    final long maxBytes =
+        encode(block1).size() + Math.max(encode(block2).size(), encode(block3).size());
+    encodeCount.set(0);
+    final RpcPayloadCache cache = createCache(maxBytes);
+
+    cache.getOrEncodeBlock(block1.getRoot(), () -> encode(block1));
+    cache.getOrEncodeBlock(block2.getRoot(), () -> encode(block2));
+    // Touch block1 so block2 is the eldest entry
+    cache.getOrEncodeBlock(block1.getRoot(), () -> encode(block1));
+    cache.getOrEncodeBlock(block3.getRoot(), () -> encode(block3));
+    assertThat(cache.getCachedBytes()).isLessThanOrEqualTo(maxBytes);
+    assertThat(encodeCount).hasValue(3);
+
+    cache.getOrEncodeBlock(block1.getRoot(), () -> encode(block1));
+    assertThat(encodeCount).hasValue(3);
+    cache.getOrEncodeBlock(block2.getRoot(), () -> encode(block2));
+    assertThat(encodeCount).hasValue(4);
+  }
+
+  @Test
+  void shouldDropPrunedBlocksOnFinalization() {
+    final RpcPayloadCache cache = createCache(1024 * 1024);
+    final SignedBeaconBlock canonicalBlock = dataStructureUtil.randomSignedBeaconBlock(1);
+    final SignedBeaconBlock prunedBlock = dataStructureUtil.randomSignedBeaconBlock(1);
+    retainedBlocks.add(canonicalBlock.getRoot());
+    retainedBlocks.add(prunedBlock.getRoot());
+    final Bytes canonicalEncoded =
+        cache.getOrEncodeBlock(canonicalBlock.getRoot(), () -> encode(canonicalBlock));
+    cache.getOrEncodeBlock(prunedBlock.getRoot(), () -> encode(prunedBlock));
+
+    retainedBlocks.remove(prunedBlock.getRoot());
+    cache.onNewFinalizedCheckpoint(dataStructureUtil.randomCheckpoint(), false);
+
+    assertThat(cache.getCachedBytes()).isEqualTo(canonicalEncoded.size());
+    cache.getOrEncodeBlock(canonicalBlock.getRoot(), () -> encode(canonicalBlock));
+    assertThat(encodeCount).hasValue(2);
+    cache.getOrEncodeBlock(prunedBlock.getRoot(), () -> encode(prunedBlock));
+    assertThat(encodeCount).hasValue(3);
+  }
+
+  private RpcPayloadCache createCache(final long maxCachedBytes) {
+    return new RpcPayloadCache(metricsSystem, maxCachedBytes, retainedBlocks::contains);
+  }
+
+  private Bytes encode(final SignedBeaconBlock block) {
+    encodeCount.incrementAndGet();
+    return encoding.encodePayload(block);
+  }
+
+  private Bytes encode(final StatusMessage status) {
+    encodeCount.incrementAndGet();
+    return encoding.encodePayload(status);
+  }
+
+  private long getRequestCount(final String result) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.NETWORK, "rpc_payload_cache_requests_total", result);
+  }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.networking.eth2.rpc.Utils;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor.Decompressor;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadLargerThanExpectedException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadSmallerThanExpectedException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyFramedCompressor;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -156,6 +157,22 @@ public class SnappyCompressorTest {
         .isInstanceOf(PayloadSmallerThanExpectedException.class);
   }
 
+  @Test
+  public void uncompress_rejectsPayloadLargerThanExpected() {
+    final BeaconState state = dataStructureUtil.randomBeaconState(0);
+    final Bytes serializedState = state.sszSerialize();
+    final Bytes compressed = compressor.compress(serializedState);
+
+    final ByteBuf input = Utils.toByteBuf(compressed);
+    final Decompressor decompressor =
+        new SnappyFramedCompressor().createDecompressor(serializedState.size() - 1);
+
+    assertThatThrownBy(() -> decompressor.decodeOneMessage(input))
+        .isInstanceOf(PayloadLargerThanExpectedException.class);
+    input.release();
+    assertThat(input.refCnt()).isZero();
+  }
+
   // netty compressor doesn't check that assumption
   @Test
   public void uncompress_maliciousBytes() {
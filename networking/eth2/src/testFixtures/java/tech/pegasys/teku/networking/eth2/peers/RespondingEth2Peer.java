@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -367,6 +368,11 @@ public class RespondingEth2Peer implements Eth2Peer {
     return 0;
   }
 
+  @Override
+  public OptionalDouble getAverageDataColumnSidecarsPerSecond() {
+    return OptionalDouble.empty();
+  }
+
   @Override
   public Optional<RequestApproval> approveDataColumnSidecarsRequest(
       final ResponseCallback<DataColumnSidecar> callback, final long dataColumnSidecarsCount) {
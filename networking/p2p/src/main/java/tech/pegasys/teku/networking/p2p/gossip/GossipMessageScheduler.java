@@ -0,0 +1,35 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.p2p.gossip;
+
+import io.libp2p.core.pubsub.ValidationResult;
+import java.util.function.Supplier;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/** Decides where and when received gossip messages for a topic are handled. */
+public interface GossipMessageScheduler {
+
+  /** Handles every message immediately on the thread it was received on. */
+  GossipMessageScheduler DIRECT = (topic, messageHandler) -> messageHandler.get();
+
+  /**
+   * Schedules handling of a message received on the given topic.
+   *
+   * @param topic the topic the message was received on
+   * @param messageHandler decompresses, deserializes and validates the message
+   * @return the validation result, {@link ValidationResult#Ignore} if the message was dropped
+   */
+  SafeFuture<ValidationResult> schedule(
+      String topic, Supplier<SafeFuture<ValidationResult>> messageHandler);
+}
@@ -42,6 +42,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.io.IPVersionResolver;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.version.VersionProvider;
+import tech.pegasys.teku.networking.p2p.gossip.GossipMessageScheduler;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.p2p.libp2p.LibP2PNetwork.PrivateKeyProvider;
 import tech.pegasys.teku.networking.p2p.libp2p.gossip.GossipTopicFilter;
@@ -92,6 +93,7 @@ public class LibP2PNetworkBuilder {
   protected List<? extends RpcHandler<?, ?, ?>> rpcHandlers;
   protected PeerManager peerManager;
   protected boolean recordMessageArrival = DEFAULT_RECORD_MESSAGE_ARRIVAL;
+  protected GossipMessageScheduler gossipMessageScheduler = GossipMessageScheduler.DIRECT;
 
   protected LibP2PNetworkBuilder() {}
 
@@ -165,6 +167,7 @@ public class LibP2PNetworkBuilder {
         .logWireGossip(config.getWireLogsConfig().isLogWireGossip())
         .timeProvider(timeProvider)
         .recordArrivalTime(recordMessageArrival)
+        .messageScheduler(gossipMessageScheduler)
         .build();
   }
 
@@ -346,4 +349,10 @@ public class LibP2PNetworkBuilder {
     this.recordMessageArrival = recordMessageArrival;
     return this;
   }
+
+  public LibP2PNetworkBuilder gossipMessageScheduler(
+      final GossipMessageScheduler gossipMessageScheduler) {
+    this.gossipMessageScheduler = gossipMessageScheduler;
+    return this;
+  }
 }
@@ -28,6 +28,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.networking.p2p.gossip.GossipMessageScheduler;
 import tech.pegasys.teku.networking.p2p.gossip.TopicHandler;
 
 public class GossipHandler implements Function<MessageApi, CompletableFuture<ValidationResult>> {
@@ -39,6 +40,7 @@ public class GossipHandler implements Function<MessageApi, CompletableFuture<Val
   private final Topic topic;
   private final PubsubPublisherApi publisher;
   private final TopicHandler handler;
+  private final GossipMessageScheduler scheduler;
   private final Counter messageCounter;
 
   public GossipHandler(
@@ -46,9 +48,19 @@ public class GossipHandler implements Function<MessageApi, CompletableFuture<Val
       final Topic topic,
       final PubsubPublisherApi publisher,
       final TopicHandler handler) {
+    this(metricsSystem, topic, publisher, handler, GossipMessageScheduler.DIRECT);
+  }
+
+  public GossipHandler(
+      final MetricsSystem metricsSystem,
+      final Topic topic,
+      final PubsubPublisherApi publisher,
+      final TopicHandler handler,
+      final GossipMessageScheduler scheduler) {
     this.topic = topic;
     this.publisher = publisher;
     this.handler = handler;
+    this.scheduler = scheduler;
     this.messageCounter =
         metricsSystem
             .createLabelledCounter(
@@ -78,7 +90,8 @@ public class GossipHandler implements Function<MessageApi, CompletableFuture<Val
       throw new IllegalArgumentException(
           "Don't know this PubsubMessage implementation: " + pubsubMessage.getClass());
     }
-    return handler.handleMessage(gossipPubsubMessage.getPreparedMessage());
+    return scheduler.schedule(
+        topic.getTopic(), () -> handler.handleMessage(gossipPubsubMessage.getPreparedMessage()));
   }
 
   public SafeFuture<Void> gossip(final Bytes bytes) {
@@ -33,6 +33,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.networking.p2p.gossip.GossipMessageScheduler;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.gossip.TopicChannel;
 import tech.pegasys.teku.networking.p2p.gossip.TopicHandler;
@@ -52,16 +53,19 @@ public class LibP2PGossipNetwork implements GossipNetwork {
   private final Gossip gossip;
   private final PubsubPublisherApi publisher;
   private final GossipTopicHandlers topicHandlers;
+  private final GossipMessageScheduler messageScheduler;
 
   public LibP2PGossipNetwork(
       final MetricsSystem metricsSystem,
       final Gossip gossip,
       final PubsubPublisherApi publisher,
-      final GossipTopicHandlers topicHandlers) {
+      final GossipTopicHandlers topicHandlers,
+      final GossipMessageScheduler messageScheduler) {
     this.metricsSystem = metricsSystem;
     this.gossip = gossip;
     this.publisher = publisher;
     this.topicHandlers = topicHandlers;
+    this.messageScheduler = messageScheduler;
   }
 
   @Override
@@ -76,7 +80,7 @@ public class LibP2PGossipNetwork implements GossipNetwork {
     topicHandlers.add(topic, topicHandler);
     final Topic libP2PTopic = new Topic(topic);
     final GossipHandler gossipHandler =
-        new GossipHandler(metricsSystem, libP2PTopic, publisher, topicHandler);
+        new GossipHandler(metricsSystem, libP2PTopic, publisher, topicHandler, messageScheduler);
     PubsubSubscription subscription = gossip.subscribe(gossipHandler, libP2PTopic);
     return new LibP2PTopicChannel(gossipHandler, subscription);
   }
@@ -44,6 +44,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.p2p.gossip.GossipMessageScheduler;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessageFactory;
 import tech.pegasys.teku.networking.p2p.gossip.config.GossipConfig;
@@ -71,6 +72,7 @@ public class LibP2PGossipNetworkBuilder {
   protected boolean logWireGossip;
   protected TimeProvider timeProvider;
   protected boolean recordArrivalTime = DEFAULT_RECORD_MESSAGE_ARRIVAL;
+  protected GossipMessageScheduler messageScheduler = GossipMessageScheduler.DIRECT;
 
   protected ChannelHandler debugGossipHandler = null;
 
@@ -84,7 +86,8 @@ public class LibP2PGossipNetworkBuilder {
             gossipConfig, networkingSpecConfig, logWireGossip, gossipTopicFilter, topicHandlers);
     final PubsubPublisherApi publisher = gossip.createPublisher(null, NULL_SEQNO_GENERATOR);
 
-    return new LibP2PGossipNetwork(metricsSystem, gossip, publisher, topicHandlers);
+    return new LibP2PGossipNetwork(
+        metricsSystem, gossip, publisher, topicHandlers, messageScheduler);
   }
 
   private void validate() {
@@ -94,6 +97,7 @@ public class LibP2PGossipNetworkBuilder {
     assertNotNull("defaultMessageFactory", defaultMessageFactory);
     assertNotNull("gossipTopicFilter", gossipTopicFilter);
     assertNotNull("timeProvider", timeProvider);
+    assertNotNull("messageScheduler", messageScheduler);
   }
 
   private void assertNotNull(final String fieldName, final Object fieldValue) {
@@ -224,4 +228,10 @@ public class LibP2PGossipNetworkBuilder {
     this.recordArrivalTime = recordArrivalTime;
     return this;
   }
+
+  public LibP2PGossipNetworkBuilder messageScheduler(
+      final GossipMessageScheduler messageScheduler) {
+    this.messageScheduler = messageScheduler;
+    return this;
+  }
 }
@@ -225,6 +225,7 @@ import tech.pegasys.teku.statetransition.validation.ProposerSlashingValidator;
 import tech.pegasys.teku.statetransition.validation.SignedBlsToExecutionChangeValidator;
 import tech.pegasys.teku.statetransition.validation.VoluntaryExitValidator;
 import tech.pegasys.teku.statetransition.validation.signatures.AggregatingSignatureVerificationService;
+import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationLane;
 import tech.pegasys.teku.statetransition.validation.signatures.SignatureVerificationService;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorCache;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorChannel;
@@ -1443,6 +1444,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             p2PConfig.getBatchVerifyMaxThreads(),
             p2PConfig.getBatchVerifyQueueCapacity(),
             p2PConfig.getBatchVerifyMaxBatchSize(),
+            p2PConfig.getBatchVerifyStaleAttestationDeadlineMillis(),
             p2PConfig.isBatchVerifyStrictThreadLimitEnabled());
   }
 
@@ -1458,9 +1460,15 @@ public class BeaconChainController extends Service implements BeaconChainControl
             "attestations");
     AttestationValidator attestationValidator =
         new AttestationValidator(
-            spec, recentChainData, signatureVerificationService, metricsSystem);
+            spec,
+            recentChainData,
+            signatureVerificationService.forLane(SignatureVerificationLane.ATTESTATION),
+            metricsSystem);
     AggregateAttestationValidator aggregateValidator =
-        new AggregateAttestationValidator(spec, attestationValidator, signatureVerificationService);
+        new AggregateAttestationValidator(
+            spec,
+            attestationValidator,
+            signatureVerificationService.forLane(SignatureVerificationLane.PRIORITY));
     blockImporter.subscribeToVerifiedBlockAttestations(
         (slot, attestations) ->
             attestations.forEach(
@@ -1556,6 +1564,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             .metricsSystem(metricsSystem)
             .timeProvider(timeProvider)
             .asyncRunner(networkAsyncRunner)
+            .asyncRunnerFactory(asyncRunnerFactory)
             .keyValueStore(keyValueStore)
             .requiredCheckpoint(weakSubjectivityValidator.getWSCheckpoint())
             .specProvider(spec)
@@ -1655,6 +1664,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 eventChannels,
                 eventAsyncRunner,
                 timeProvider,
+                metricsSystem,
                 spec));
 
     if (getLivenessTrackingEnabled(beaconConfig)) {
@@ -1793,8 +1803,9 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected void initValidatorIndexCacheTracker() {
     LOG.debug("BeaconChainController.initValidatorIndexCacheTracker()");
     final ValidatorIndexCacheTracker validatorIndexCacheTracker =
-        new ValidatorIndexCacheTracker(recentChainData);
+        new ValidatorIndexCacheTracker(recentChainData, beaconAsyncRunner);
     eventChannels.subscribe(FinalizedCheckpointChannel.class, validatorIndexCacheTracker);
+    recentChainData.subscribeStoreInitialized(validatorIndexCacheTracker::onStoreInitialized);
   }
 
   protected void initForkChoiceStateProvider() {
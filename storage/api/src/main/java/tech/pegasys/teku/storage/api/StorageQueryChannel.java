@@ -53,6 +53,17 @@ public interface StorageQueryChannel extends ChannelInterface {
 
   SafeFuture<Optional<SignedBeaconBlock>> getLatestFinalizedBlockAtSlot(UInt64 slot);
 
+  /**
+   * Returns the finalized blocks in the slot range in their stored SSZ form, read with a single
+   * range scan and without deserializing them.
+   *
+   * @param startSlot the first slot to include
+   * @param endSlot the last slot to include
+   * @return the serialized blocks ordered by slot, empty slots are omitted
+   */
+  SafeFuture<List<SerializedFinalizedBlock>> getSerializedFinalizedBlocks(
+      UInt64 startSlot, UInt64 endSlot);
+
   SafeFuture<Optional<SignedBeaconBlock>> getBlockByBlockRoot(Bytes32 blockRoot);
 
   SafeFuture<Optional<SignedBlockAndState>> getHotBlockAndStateByBlockRoot(Bytes32 blockRoot);
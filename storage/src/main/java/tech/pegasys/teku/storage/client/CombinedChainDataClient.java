@@ -52,6 +52,7 @@ import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
+import tech.pegasys.teku.storage.api.SerializedFinalizedBlock;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.store.UpdatableStore;
 
@@ -149,6 +150,22 @@ public class CombinedChainDataClient {
     return historicalChainData.getLatestFinalizedBlockAtSlot(slot);
   }
 
+  /**
+   * Returns the finalized blocks between <code>startSlot</code> and <code>endSlot</code> (both
+   * inclusive) exactly as they are stored, without deserializing them. Empty slots are omitted.
+   *
+   * @param startSlot the first slot to include
+   * @param endSlot the last slot to include
+   * @return the serialized blocks ordered by slot
+   */
+  public SafeFuture<List<SerializedFinalizedBlock>> getSerializedFinalizedBlocks(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    if (!isChainDataFullyAvailable()) {
+      return SafeFuture.completedFuture(List.of());
+    }
+    return historicalChainData.getSerializedFinalizedBlocks(startSlot, endSlot);
+  }
+
   public SafeFuture<Optional<BeaconBlockAndState>> getBlockAndStateInEffectAtSlot(
       final UInt64 slot) {
     return getSignedBlockAndStateInEffectAtSlot(slot)
@@ -54,6 +54,14 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
   private Optional<Bytes32> proposerBoostRoot = Optional.empty();
   private UInt64 proposerBoostAmount = UInt64.ZERO;
 
+  /**
+   * The most recently calculated head. Replaced or cleared under the write lock once the protoarray
+   * has been modified, so a matching snapshot can be returned from {@link #findHead} without
+   * waiting for the protoarray lock while fork choice is applying score changes. Readers racing
+   * with a write see the head from before it, as if they had read first.
+   */
+  private volatile HeadSnapshot headSnapshot;
+
   private ForkChoiceStrategy(
       final Spec spec, final ProtoArray protoArray, final List<UInt64> balances) {
     this.spec = spec;
@@ -69,6 +77,11 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       final UInt64 currentEpoch,
       final Checkpoint justifiedCheckpoint,
       final Checkpoint finalizedCheckpoint) {
+    final HeadSnapshot snapshot = headSnapshot;
+    if (snapshot != null
+        && snapshot.matches(currentEpoch, justifiedCheckpoint, finalizedCheckpoint)) {
+      return snapshot.head();
+    }
     protoArrayLock.readLock().lock();
     try {
       return findHeadImpl(currentEpoch, justifiedCheckpoint, finalizedCheckpoint);
@@ -83,7 +96,16 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       final Checkpoint finalizedCheckpoint) {
     final ProtoNode bestNode =
         protoArray.findOptimisticHead(currentEpoch, justifiedCheckpoint, finalizedCheckpoint);
-    return new SlotAndBlockRoot(bestNode.getBlockSlot(), bestNode.getBlockRoot());
+    final SlotAndBlockRoot head =
+        new SlotAndBlockRoot(bestNode.getBlockSlot(), bestNode.getBlockRoot());
+    // Only called with the protoarray lock held so no write can clear the snapshot in between
+    headSnapshot = new HeadSnapshot(currentEpoch, justifiedCheckpoint, finalizedCheckpoint, head);
+    return head;
+  }
+
+  /** Must be called with the protoarray write lock held, after the protoarray is modified. */
+  private void invalidateHeadSnapshot() {
+    headSnapshot = null;
   }
 
   /**
@@ -115,7 +137,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
           ProtoArrayScoreCalculator.computeDeltas(
               voteUpdater,
               getTotalTrackedNodeCount(),
-              protoArray::getIndexByRoot,
+              protoArray::getIndexByRootUnboxed,
               balances,
               justifiedStateEffectiveBalances,
               this.proposerBoostRoot,
@@ -129,6 +151,10 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       this.proposerBoostAmount = proposerBoostAmount;
 
       return findHeadImpl(currentEpoch, justifiedCheckpoint, finalizedCheckpoint).getBlockRoot();
+    } catch (final RuntimeException e) {
+      // Don't keep serving the previous head after a partially applied update
+      invalidateHeadSnapshot();
+      throw e;
     } finally {
       protoArrayLock.writeLock().unlock();
       votesLock.writeLock().unlock();
@@ -489,6 +515,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
       pulledUpBlocks.forEach(protoArray::pullUpBlockCheckpoints);
       protoArray.maybePrune(finalizedCheckpoint.getRoot());
     } finally {
+      invalidateHeadSnapshot();
       protoArrayLock.writeLock().unlock();
     }
   }
@@ -543,6 +570,7 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
         executionBlockNumber,
         executionBlockHash,
         spec.isBlockProcessorOptimistic(blockSlot));
+    invalidateHeadSnapshot();
   }
 
   private Optional<ProtoNode> getProtoNode(final Bytes32 blockRoot) {
@@ -582,7 +610,24 @@ public class ForkChoiceStrategy implements BlockMetadataStore, ReadOnlyForkChoic
         throw new IllegalArgumentException("Unknown payload validity status: " + status);
       }
     } finally {
+      invalidateHeadSnapshot();
       protoArrayLock.writeLock().unlock();
     }
   }
+
+  private record HeadSnapshot(
+      UInt64 currentEpoch,
+      Checkpoint justifiedCheckpoint,
+      Checkpoint finalizedCheckpoint,
+      SlotAndBlockRoot head) {
+
+    boolean matches(
+        final UInt64 currentEpoch,
+        final Checkpoint justifiedCheckpoint,
+        final Checkpoint finalizedCheckpoint) {
+      return this.currentEpoch.equals(currentEpoch)
+          && this.justifiedCheckpoint.equals(justifiedCheckpoint)
+          && this.finalizedCheckpoint.equals(finalizedCheckpoint);
+    }
+  }
 }
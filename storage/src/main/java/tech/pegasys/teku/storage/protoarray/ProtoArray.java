@@ -19,6 +19,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.INVALID;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.OPTIMISTIC;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.VALID;
+import static tech.pegasys.teku.storage.protoarray.ProtoNode.NO_INDEX;
 
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
@@ -26,7 +27,6 @@ import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -101,6 +101,10 @@ public class ProtoArray {
     return indices.get(root);
   }
 
+  int getIndexByRootUnboxed(final Bytes32 root) {
+    return indices.getUnboxed(root);
+  }
+
   public Optional<ProtoNode> getProtoNode(final Bytes32 root) {
     return indices
         .get(root)
@@ -146,13 +150,13 @@ public class ProtoArray {
             stateRoot,
             blockRoot,
             parentRoot,
-            indices.get(parentRoot),
+            indices.getUnboxed(parentRoot),
             checkpoints,
             executionBlockNumber,
             executionBlockHash,
-            UInt64.ZERO,
-            Optional.empty(),
-            Optional.empty(),
+            0,
+            NO_INDEX,
+            NO_INDEX,
             optimisticallyProcessed && !executionBlockHash.isZero() ? OPTIMISTIC : VALID);
 
     indices.add(blockRoot, nodeIndex);
@@ -180,8 +184,8 @@ public class ProtoArray {
 
     // add a single weight to from the best descendant up to the root
     node.adjustWeight(1);
-    while (node.getParentIndex().isPresent()) {
-      final ProtoNode parent = getNodeByIndex(node.getParentIndex().get());
+    while (node.getParentIndexUnboxed() != NO_INDEX) {
+      final ProtoNode parent = getNodeByIndex(node.getParentIndexUnboxed());
       parent.adjustWeight(1);
       node = parent;
     }
@@ -260,26 +264,28 @@ public class ProtoArray {
       return Optional.empty();
     }
 
-    int bestDescendantIndex = justifiedNode.getBestDescendantIndex().orElse(justifiedIndex);
+    int bestDescendantIndex = justifiedNode.getBestDescendantIndexUnboxed();
+    if (bestDescendantIndex == NO_INDEX) {
+      bestDescendantIndex = justifiedIndex;
+    }
     ProtoNode bestNode = getNodeByIndex(bestDescendantIndex);
 
     // Normally the best descendant index would point straight to chain head, but onBlock only
     // updates the parent, not all the ancestors. When applyScoreChanges runs it propagates the
     // change back up and everything works, but we run findHead to determine if the new block should
     // become the best head so need to follow down the chain.
-    while (bestNode.getBestDescendantIndex().isPresent() && !bestNode.isInvalid()) {
-      bestDescendantIndex = bestNode.getBestDescendantIndex().get();
+    while (bestNode.getBestDescendantIndexUnboxed() != NO_INDEX && !bestNode.isInvalid()) {
+      bestDescendantIndex = bestNode.getBestDescendantIndexUnboxed();
       bestNode = getNodeByIndex(bestDescendantIndex);
     }
 
     // Walk backwards to find the last valid node in the chain
     while (bestNode.isInvalid()) {
-      final Optional<Integer> maybeParentIndex = bestNode.getParentIndex();
-      if (maybeParentIndex.isEmpty()) {
+      final int parentIndex = bestNode.getParentIndexUnboxed();
+      if (parentIndex == NO_INDEX) {
         // No node on this chain with sufficient validity.
         return Optional.empty();
       }
-      final int parentIndex = maybeParentIndex.get();
       bestNode = getNodeByIndex(parentIndex);
     }
 
@@ -300,14 +306,14 @@ public class ProtoArray {
     }
     final ProtoNode node = maybeNode.get();
     node.setValidationStatus(VALID);
-    Optional<Integer> parentIndex = node.getParentIndex();
-    while (parentIndex.isPresent()) {
-      final ProtoNode parentNode = getNodeByIndex(parentIndex.get());
+    int parentIndex = node.getParentIndexUnboxed();
+    while (parentIndex != NO_INDEX) {
+      final ProtoNode parentNode = getNodeByIndex(parentIndex);
       if (parentNode.isFullyValidated()) {
         break;
       }
       parentNode.setValidationStatus(VALID);
-      parentIndex = parentNode.getParentIndex();
+      parentIndex = parentNode.getParentIndexUnboxed();
     }
   }
 
@@ -377,7 +383,7 @@ public class ProtoArray {
     removeBlockRoot(node.getBlockRoot());
     markDescendantsAsInvalid(index);
     // Applying zero deltas causes the newly marked INVALID nodes to have their weight set to 0
-    applyDeltas(new LongArrayList(Collections.nCopies(getTotalTrackedNodeCount(), 0L)));
+    applyDeltas(LongArrayList.wrap(new long[getTotalTrackedNodeCount()]));
   }
 
   private boolean nodeHasExecutionHash(final int nodeIndex, final Bytes32 executionHash) {
@@ -410,10 +416,11 @@ public class ProtoArray {
     // Descendant nodes must be later in the array so can start from next index
     for (int i = index + 1; i < nodes.size(); i++) {
       final ProtoNode possibleDescendant = getNodeByIndex(i);
-      if (possibleDescendant.getParentIndex().isEmpty()) {
+      final int parentIndex = possibleDescendant.getParentIndexUnboxed();
+      if (parentIndex == NO_INDEX) {
         continue;
       }
-      if (invalidParents.contains((int) possibleDescendant.getParentIndex().get())) {
+      if (invalidParents.contains(parentIndex)) {
         possibleDescendant.setValidationStatus(INVALID);
         removeBlockRoot(possibleDescendant.getBlockRoot());
         invalidParents.add(i);
@@ -502,35 +509,26 @@ public class ProtoArray {
     // Iterate through all the existing nodes and adjust their indices to match the
     // new layout of nodes.
     for (ProtoNode node : nodes) {
-      node.getParentIndex()
-          .ifPresent(
-              parentIndex -> {
-                // If node.parentIndex is less than finalizedIndex, set is to None.
-                if (parentIndex < finalizedIndex) {
-                  node.setParentIndex(Optional.empty());
-                } else {
-                  node.setParentIndex(Optional.of(parentIndex - finalizedIndex));
-                }
-              });
-
-      node.getBestChildIndex()
-          .ifPresent(
-              bestChildIndex -> {
-                int newBestChildIndex = bestChildIndex - finalizedIndex;
-                checkState(
-                    newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
-                node.setBestChildIndex(Optional.of(newBestChildIndex));
-              });
-
-      node.getBestDescendantIndex()
-          .ifPresent(
-              bestDescendantIndex -> {
-                int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
-                checkState(
-                    newBestDescendantIndex >= 0,
-                    "ProtoArray: New best descendant index is less than 0");
-                node.setBestDescendantIndex(Optional.of(newBestDescendantIndex));
-              });
+      final int parentIndex = node.getParentIndexUnboxed();
+      if (parentIndex != NO_INDEX) {
+        // If node.parentIndex is less than finalizedIndex, set is to None.
+        node.setParentIndex(parentIndex < finalizedIndex ? NO_INDEX : parentIndex - finalizedIndex);
+      }
+
+      final int bestChildIndex = node.getBestChildIndexUnboxed();
+      if (bestChildIndex != NO_INDEX) {
+        int newBestChildIndex = bestChildIndex - finalizedIndex;
+        checkState(newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
+        node.setBestChildIndex(newBestChildIndex);
+      }
+
+      final int bestDescendantIndex = node.getBestDescendantIndexUnboxed();
+      if (bestDescendantIndex != NO_INDEX) {
+        int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
+        checkState(
+            newBestDescendantIndex >= 0, "ProtoArray: New best descendant index is less than 0");
+        node.setBestDescendantIndex(newBestDescendantIndex);
+      }
     }
   }
 
@@ -558,72 +556,66 @@ public class ProtoArray {
 
     boolean childLeadsToViableHead = nodeLeadsToViableHead(child);
 
-    parent
-        .getBestChildIndex()
-        .ifPresentOrElse(
-            bestChildIndex -> {
-              if (bestChildIndex.equals(childIndex) && !childLeadsToViableHead) {
-                // If the child is already the best-child of the parent but it's not viable for
-                // the head, remove it.
-                changeToNone(parent);
-              } else if (bestChildIndex.equals(childIndex)) {
-                // If the child is the best-child already, set it again to ensure that the
-                // best-descendant of the parent is updated.
-                changeToChild(parent, childIndex);
-              } else {
-                ProtoNode bestChild = getNodeByIndex(bestChildIndex);
-
-                boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
-
-                if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
-                  // The child leads to a viable head, but the current best-child doesn't.
-                  changeToChild(parent, childIndex);
-                } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
-                  // The best child leads to a viable head, but the child doesn't.
-                  // No change.
-                } else if (child.getWeight().equals(bestChild.getWeight())) {
-                  // Tie-breaker of equal weights by root.
-                  if (child
-                          .getBlockRoot()
-                          .toHexString()
-                          .compareTo(bestChild.getBlockRoot().toHexString())
-                      >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                } else {
-                  // Choose the winner by weight.
-                  if (child.getWeight().compareTo(bestChild.getWeight()) >= 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                }
-              }
-            },
-            () -> {
-              if (childLeadsToViableHead) {
-                // There is no current best-child and the child is viable.
-                changeToChild(parent, childIndex);
-              } else {
-                // There is no current best-child but the child is not not viable.
-                // No change.
-              }
-            });
+    final int bestChildIndex = parent.getBestChildIndexUnboxed();
+    if (bestChildIndex == NO_INDEX) {
+      if (childLeadsToViableHead) {
+        // There is no current best-child and the child is viable.
+        changeToChild(parent, childIndex);
+      } else {
+        // There is no current best-child but the child is not not viable.
+        // No change.
+      }
+    } else if (bestChildIndex == childIndex && !childLeadsToViableHead) {
+      // If the child is already the best-child of the parent but it's not viable for
+      // the head, remove it.
+      changeToNone(parent);
+    } else if (bestChildIndex == childIndex) {
+      // If the child is the best-child already, set it again to ensure that the
+      // best-descendant of the parent is updated.
+      changeToChild(parent, childIndex);
+    } else {
+      ProtoNode bestChild = getNodeByIndex(bestChildIndex);
+
+      boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
+
+      if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
+        // The child leads to a viable head, but the current best-child doesn't.
+        changeToChild(parent, childIndex);
+      } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
+        // The best child leads to a viable head, but the child doesn't.
+        // No change.
+      } else if (child.getWeightUnboxed() == bestChild.getWeightUnboxed()) {
+        // Tie-breaker of equal weights by root.
+        if (child.getBlockRoot().toHexString().compareTo(bestChild.getBlockRoot().toHexString())
+            >= 0) {
+          changeToChild(parent, childIndex);
+        } else {
+          // No change.
+        }
+      } else {
+        // Choose the winner by weight.
+        if (child.getWeightUnboxed() >= bestChild.getWeightUnboxed()) {
+          changeToChild(parent, childIndex);
+        } else {
+          // No change.
+        }
+      }
+    }
   }
 
   /** Helper for maybeUpdateBestChildAndDescendant */
   private void changeToChild(final ProtoNode parent, final int childIndex) {
     ProtoNode child = getNodeByIndex(childIndex);
-    parent.setBestChildIndex(Optional.of(childIndex));
-    parent.setBestDescendantIndex(Optional.of(child.getBestDescendantIndex().orElse(childIndex)));
+    final int childBestDescendantIndex = child.getBestDescendantIndexUnboxed();
+    parent.setBestChildIndex(childIndex);
+    parent.setBestDescendantIndex(
+        childBestDescendantIndex == NO_INDEX ? childIndex : childBestDescendantIndex);
   }
 
   /** Helper for maybeUpdateBestChildAndDescendant */
   private void changeToNone(final ProtoNode parent) {
-    parent.setBestChildIndex(Optional.empty());
-    parent.setBestDescendantIndex(Optional.empty());
+    parent.setBestChildIndex(NO_INDEX);
+    parent.setBestDescendantIndex(NO_INDEX);
   }
 
   /**
@@ -635,10 +627,9 @@ public class ProtoArray {
       return true;
     }
 
-    return node.getBestDescendantIndex()
-        .map(this::getNodeByIndex)
-        .map(this::nodeIsViableForHead)
-        .orElse(false);
+    final int bestDescendantIndex = node.getBestDescendantIndexUnboxed();
+    return bestDescendantIndex != NO_INDEX
+        && nodeIsViableForHead(getNodeByIndex(bestDescendantIndex));
   }
 
   /**
@@ -708,7 +699,8 @@ public class ProtoArray {
       final ProtoNode start, final UInt64 finalizedSlot, final Bytes32 requiredRoot) {
     ProtoNode node = start;
     while (node != null && node.getBlockSlot().isGreaterThan(finalizedSlot)) {
-      node = node.getParentIndex().map(this::getNodeByIndex).orElse(null);
+      final int parentIndex = node.getParentIndexUnboxed();
+      node = parentIndex == NO_INDEX ? null : getNodeByIndex(parentIndex);
     }
     return node != null && requiredRoot.equals(node.getBlockRoot());
   }
@@ -750,17 +742,19 @@ public class ProtoArray {
   }
 
   private void updateBestDescendantOfParent(final ProtoNode node, final int nodeIndex) {
-    node.getParentIndex()
-        .ifPresent(parentIndex -> maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex));
+    final int parentIndex = node.getParentIndexUnboxed();
+    if (parentIndex != NO_INDEX) {
+      maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex);
+    }
   }
 
   private void applyDelta(final LongList deltas, final ProtoNode node, final int nodeIndex) {
     // If the node is invalid, remove any existing weight.
-    long nodeDelta = node.isInvalid() ? -node.getWeight().longValue() : deltas.getLong(nodeIndex);
+    long nodeDelta = node.isInvalid() ? -node.getWeightUnboxed() : deltas.getLong(nodeIndex);
     node.adjustWeight(nodeDelta);
 
-    if (node.getParentIndex().isPresent()) {
-      int parentIndex = node.getParentIndex().get();
+    final int parentIndex = node.getParentIndexUnboxed();
+    if (parentIndex != NO_INDEX) {
       deltas.set(parentIndex, deltas.getLong(parentIndex) + nodeDelta);
     }
   }
@@ -35,6 +35,11 @@ public class ProtoArrayIndices {
     return rootIndices.containsKey(root) ? Optional.of(rootIndices.getInt(root)) : Optional.empty();
   }
 
+  /** Returns the index of the root or {@link ProtoNode#NO_INDEX} if it isn't tracked. */
+  int getUnboxed(final Bytes32 root) {
+    return rootIndices.getOrDefault(root, ProtoNode.NO_INDEX);
+  }
+
   public void remove(final Bytes32 root) {
     rootIndices.removeInt(root);
   }
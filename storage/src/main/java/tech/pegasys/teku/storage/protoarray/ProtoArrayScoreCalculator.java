@@ -16,13 +16,13 @@ package tech.pegasys.teku.storage.protoarray;
 import static com.google.common.base.Preconditions.checkState;
 import static java.lang.Math.addExact;
 import static java.lang.Math.subtractExact;
+import static tech.pegasys.teku.storage.protoarray.ProtoNode.NO_INDEX;
 
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
@@ -37,6 +37,9 @@ class ProtoArrayScoreCalculator {
    * <p>The deltas are formed by a change between `oldBalances` and `newBalances`, and/or a change
    * of vote in `votes`.
    *
+   * <p>`getIndexByRoot` returns {@link ProtoNode#NO_INDEX} for roots which aren't in the tree so
+   * no per-vote boxing is required.
+   *
    * <p>## Errors
    *
    * <ul>
@@ -48,36 +51,38 @@ class ProtoArrayScoreCalculator {
   static LongList computeDeltas(
       final VoteUpdater store,
       final int protoArraySize,
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final ToIntFunction<Bytes32> getIndexByRoot,
       final List<UInt64> oldBalances,
       final List<UInt64> newBalances,
       final Optional<Bytes32> previousProposerBoostRoot,
       final Optional<Bytes32> newProposerBoostRoot,
       final UInt64 previousBoostAmount,
       final UInt64 newBoostAmount) {
-    LongList deltas = new LongArrayList(Collections.nCopies(protoArraySize, 0L));
+    final long[] deltas = new long[protoArraySize];
 
-    UInt64.rangeClosed(UInt64.ZERO, store.getHighestVotedValidatorIndex())
-        .forEach(
-            validatorIndex ->
-                computeDelta(
-                    store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex));
+    // Votes are read and updated through the store's transaction which isn't thread safe, so the
+    // sweep stays sequential.
+    final int highestVotedValidatorIndex = store.getHighestVotedValidatorIndex().intValue();
+    for (int validatorIndex = 0; validatorIndex <= highestVotedValidatorIndex; validatorIndex++) {
+      computeDelta(store, getIndexByRoot, oldBalances, newBalances, deltas, validatorIndex);
+    }
 
     previousProposerBoostRoot.ifPresent(
         root -> subtractBalance(getIndexByRoot, deltas, root, previousBoostAmount));
     newProposerBoostRoot.ifPresent(
         root -> addBalance(getIndexByRoot, deltas, root, newBoostAmount));
-    return deltas;
+    return LongArrayList.wrap(deltas);
   }
 
   private static void computeDelta(
       final VoteUpdater store,
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
+      final ToIntFunction<Bytes32> getIndexByRoot,
       final List<UInt64> oldBalances,
       final List<UInt64> newBalances,
-      final LongList deltas,
-      final UInt64 validatorIndex) {
-    VoteTracker vote = store.getVote(validatorIndex);
+      final long[] deltas,
+      final int validatorIndex) {
+    final UInt64 validatorIndexUInt64 = UInt64.valueOf(validatorIndex);
+    VoteTracker vote = store.getVote(validatorIndexUInt64);
 
     // There is no need to create a score change if the validator has never voted
     // or both their votes are for the zero hash (alias to the genesis block).
@@ -89,22 +94,21 @@ class ProtoArrayScoreCalculator {
       return;
     }
 
-    int validatorIndexInt = validatorIndex.intValue();
     // If the validator was not included in the oldBalances (i.e. it did not exist yet)
     // then say its balance was zero.
-    UInt64 oldBalance =
-        oldBalances.size() > validatorIndexInt ? oldBalances.get(validatorIndexInt) : UInt64.ZERO;
+    final long oldBalance =
+        oldBalances.size() > validatorIndex ? oldBalances.get(validatorIndex).longValue() : 0;
 
     // If the validator vote is not known in the newBalances, then use a balance of zero.
     // It is possible that there is a vote for an unknown validator if we change our
     // justified state to a new state with a higher epoch that is on a different fork
     // because that may have on-boarded less validators than the prior fork.
-    UInt64 newBalance =
-        newBalances.size() > validatorIndexInt && !vote.isNextEquivocating()
-            ? newBalances.get(validatorIndexInt)
-            : UInt64.ZERO;
+    final long newBalance =
+        newBalances.size() > validatorIndex && !vote.isNextEquivocating()
+            ? newBalances.get(validatorIndex).longValue()
+            : 0;
 
-    if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || !oldBalance.equals(newBalance)) {
+    if (!vote.getCurrentRoot().equals(vote.getNextRoot()) || oldBalance != newBalance) {
       subtractBalance(getIndexByRoot, deltas, vote.getCurrentRoot(), oldBalance);
       addBalance(getIndexByRoot, deltas, vote.getNextRoot(), newBalance);
       final VoteTracker newVote =
@@ -114,46 +118,54 @@ class ProtoArrayScoreCalculator {
               vote.getNextEpoch(),
               vote.isNextEquivocating(),
               vote.isNextEquivocating());
-      store.putVote(validatorIndex, newVote);
+      store.putVote(validatorIndexUInt64, newVote);
     }
   }
 
   private static void addBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final LongList deltas,
+      final ToIntFunction<Bytes32> getIndexByRoot,
+      final long[] deltas,
       final Bytes32 targetRoot,
       final UInt64 balanceToAdd) {
+    addBalance(getIndexByRoot, deltas, targetRoot, balanceToAdd.longValue());
+  }
+
+  private static void addBalance(
+      final ToIntFunction<Bytes32> getIndexByRoot,
+      final long[] deltas,
+      final Bytes32 targetRoot,
+      final long balanceToAdd) {
     // We ignore the vote if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            nextDeltaIndex -> {
-              checkState(
-                  nextDeltaIndex < deltas.size(), "ProtoArrayForkChoice: Invalid node delta index");
-              long delta = addExact(deltas.getLong(nextDeltaIndex), balanceToAdd.longValue());
-              deltas.set(nextDeltaIndex.intValue(), delta);
-            });
+    final int nextDeltaIndex = getIndexByRoot.applyAsInt(targetRoot);
+    if (nextDeltaIndex == NO_INDEX) {
+      return;
+    }
+    checkState(nextDeltaIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[nextDeltaIndex] = addExact(deltas[nextDeltaIndex], balanceToAdd);
   }
 
   private static void subtractBalance(
-      final Function<Bytes32, Optional<Integer>> getIndexByRoot,
-      final LongList deltas,
+      final ToIntFunction<Bytes32> getIndexByRoot,
+      final long[] deltas,
       final Bytes32 targetRoot,
       final UInt64 balanceToRemove) {
+    subtractBalance(getIndexByRoot, deltas, targetRoot, balanceToRemove.longValue());
+  }
 
+  private static void subtractBalance(
+      final ToIntFunction<Bytes32> getIndexByRoot,
+      final long[] deltas,
+      final Bytes32 targetRoot,
+      final long balanceToRemove) {
     // We ignore the change if it is not known in `indices`. We assume that it is outside
     // of our tree (i.e. pre-finalization) and therefore not interesting.
-    getIndexByRoot
-        .apply(targetRoot)
-        .ifPresent(
-            currentDeltaIndex -> {
-              checkState(
-                  currentDeltaIndex < deltas.size(),
-                  "ProtoArrayForkChoice: Invalid node delta index");
-              long delta =
-                  subtractExact(deltas.getLong(currentDeltaIndex), balanceToRemove.longValue());
-              deltas.set(currentDeltaIndex.intValue(), delta);
-            });
+    final int currentDeltaIndex = getIndexByRoot.applyAsInt(targetRoot);
+    if (currentDeltaIndex == NO_INDEX) {
+      return;
+    }
+    checkState(
+        currentDeltaIndex < deltas.length, "ProtoArrayForkChoice: Invalid node delta index");
+    deltas[currentDeltaIndex] = subtractExact(deltas[currentDeltaIndex], balanceToRemove);
   }
 }
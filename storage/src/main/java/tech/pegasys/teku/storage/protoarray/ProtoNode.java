@@ -33,6 +33,9 @@ public class ProtoNode {
   public static final UInt64 NO_EXECUTION_BLOCK_NUMBER = UInt64.ZERO;
   public static final Bytes32 NO_EXECUTION_BLOCK_HASH = Bytes32.ZERO;
 
+  /** Marker for an absent parent, best child or best descendant index. */
+  static final int NO_INDEX = -1;
+
   private static final Logger LOG = LogManager.getLogger();
 
   private final UInt64 blockSlot;
@@ -59,10 +62,12 @@ public class ProtoNode {
    */
   private final Bytes32 executionBlockHash;
 
-  private UInt64 weight;
-  private Optional<Integer> parentIndex;
-  private Optional<Integer> bestChildIndex;
-  private Optional<Integer> bestDescendantIndex;
+  // Weights and indices are kept unboxed as they are updated for every node on each fork choice
+  // run. Weights can't exceed the total effective balance so always fit in a signed long.
+  private long weight;
+  private int parentIndex;
+  private int bestChildIndex;
+  private int bestDescendantIndex;
 
   private ProtoNodeValidationStatus validationStatus;
 
@@ -71,13 +76,13 @@ public class ProtoNode {
       final Bytes32 stateRoot,
       final Bytes32 blockRoot,
       final Bytes32 parentRoot,
-      final Optional<Integer> parentIndex,
+      final int parentIndex,
       final BlockCheckpoints checkpoints,
       final UInt64 executionBlockNumber,
       final Bytes32 executionBlockHash,
-      final UInt64 weight,
-      final Optional<Integer> bestChildIndex,
-      final Optional<Integer> bestDescendantIndex,
+      final long weight,
+      final int bestChildIndex,
+      final int bestDescendantIndex,
       final ProtoNodeValidationStatus validationStatus) {
     this.blockSlot = blockSlot;
     this.stateRoot = stateRoot;
@@ -96,29 +101,29 @@ public class ProtoNode {
   public void adjustWeight(final long delta) {
     if (delta < 0) {
       final long absoluteDelta = -delta;
-      try {
-        weight = weight.minus(absoluteDelta);
-      } catch (final ArithmeticException __) {
+      if (absoluteDelta > weight) {
         LOG.error(
             "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta to be subtracted causes uint64 underflow for block {} ({}). Attempting to subtract {} from {}",
             blockRoot,
             blockSlot,
             absoluteDelta,
             weight);
-        weight = UInt64.ZERO;
+        weight = 0;
+      } else {
+        weight -= absoluteDelta;
       }
 
     } else {
       try {
-        weight = weight.plus(delta);
+        weight = Math.addExact(weight, delta);
       } catch (final ArithmeticException __) {
         LOG.error(
-            "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta to be added causes uint64 overflow for block {} ({}). Attempting to add {} to {}",
+            "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta to be added causes overflow for block {} ({}). Attempting to add {} to {}",
             blockRoot,
             blockSlot,
             delta,
             weight);
-        weight = UInt64.MAX_VALUE;
+        weight = Long.MAX_VALUE;
       }
     }
   }
@@ -128,6 +133,10 @@ public class ProtoNode {
   }
 
   public UInt64 getWeight() {
+    return UInt64.valueOf(weight);
+  }
+
+  long getWeightUnboxed() {
     return weight;
   }
 
@@ -144,6 +153,10 @@ public class ProtoNode {
   }
 
   public Optional<Integer> getParentIndex() {
+    return toOptionalIndex(parentIndex);
+  }
+
+  int getParentIndexUnboxed() {
     return parentIndex;
   }
 
@@ -175,26 +188,38 @@ public class ProtoNode {
     checkpoints = checkpoints.realizeNextEpoch();
   }
 
-  public void setParentIndex(final Optional<Integer> parentIndex) {
+  void setParentIndex(final int parentIndex) {
     this.parentIndex = parentIndex;
   }
 
   public Optional<Integer> getBestChildIndex() {
+    return toOptionalIndex(bestChildIndex);
+  }
+
+  int getBestChildIndexUnboxed() {
     return bestChildIndex;
   }
 
-  public void setBestChildIndex(final Optional<Integer> bestChildIndex) {
+  void setBestChildIndex(final int bestChildIndex) {
     this.bestChildIndex = bestChildIndex;
   }
 
   public Optional<Integer> getBestDescendantIndex() {
+    return toOptionalIndex(bestDescendantIndex);
+  }
+
+  int getBestDescendantIndexUnboxed() {
     return bestDescendantIndex;
   }
 
-  public void setBestDescendantIndex(final Optional<Integer> bestDescendantIndex) {
+  void setBestDescendantIndex(final int bestDescendantIndex) {
     this.bestDescendantIndex = bestDescendantIndex;
   }
 
+  private static Optional<Integer> toOptionalIndex(final int index) {
+    return index == NO_INDEX ? Optional.empty() : Optional.of(index);
+  }
+
   public boolean isFullyValidated() {
     return validationStatus == ProtoNodeValidationStatus.VALID;
   }
@@ -227,7 +252,7 @@ public class ProtoNode {
         executionBlockHash,
         validationStatus,
         checkpoints,
-        weight);
+        UInt64.valueOf(weight));
   }
 
   @Override
@@ -246,10 +271,10 @@ public class ProtoNode {
         && Objects.equals(checkpoints, protoNode.checkpoints)
         && Objects.equals(executionBlockNumber, protoNode.executionBlockNumber)
         && Objects.equals(executionBlockHash, protoNode.executionBlockHash)
-        && Objects.equals(weight, protoNode.weight)
-        && Objects.equals(parentIndex, protoNode.parentIndex)
-        && Objects.equals(bestChildIndex, protoNode.bestChildIndex)
-        && Objects.equals(bestDescendantIndex, protoNode.bestDescendantIndex)
+        && weight == protoNode.weight
+        && parentIndex == protoNode.parentIndex
+        && bestChildIndex == protoNode.bestChildIndex
+        && bestDescendantIndex == protoNode.bestDescendantIndex
         && validationStatus == protoNode.validationStatus;
   }
 
@@ -284,9 +309,9 @@ public class ProtoNode {
         .add("executionBlockNumber", executionBlockNumber)
         .add("executionBlockHash", executionBlockHash)
         .add("weight", weight)
-        .add("parentIndex", parentIndex)
-        .add("bestChildIndex", bestChildIndex)
-        .add("bestDescendantIndex", bestDescendantIndex)
+        .add("parentIndex", getParentIndex())
+        .add("bestChildIndex", getBestChildIndex())
+        .add("bestDescendantIndex", getBestDescendantIndex())
         .add("validationStatus", validationStatus)
         .toString();
   }
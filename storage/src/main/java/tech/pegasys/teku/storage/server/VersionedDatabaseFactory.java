@@ -30,6 +30,7 @@ import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
 import tech.pegasys.teku.storage.server.leveldb.LevelDbDatabaseFactory;
 import tech.pegasys.teku.storage.server.metadata.V5DatabaseMetadata;
@@ -37,6 +38,7 @@ import tech.pegasys.teku.storage.server.metadata.V6DatabaseMetadata;
 import tech.pegasys.teku.storage.server.network.DatabaseNetwork;
 import tech.pegasys.teku.storage.server.noop.NoOpDatabase;
 import tech.pegasys.teku.storage.server.rocksdb.RocksDbDatabaseFactory;
+import tech.pegasys.teku.storage.server.segment.DataColumnSidecarSegmentStore;
 
 public class VersionedDatabaseFactory implements DatabaseFactory {
   private static final Logger LOG = LogManager.getLogger();
@@ -46,6 +48,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   @VisibleForTesting static final String DB_VERSION_PATH = "db.version";
 
   @VisibleForTesting static final String STORAGE_MODE_PATH = "data-storage-mode.txt";
+  static final String DATA_COLUMN_SIDECARS_PATH = "data-column-sidecars";
   @VisibleForTesting static final String METADATA_FILENAME = "metadata.yml";
   @VisibleForTesting static final String NETWORK_FILENAME = "network.yml";
   private final MetricsSystem metricsSystem;
@@ -61,6 +64,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final Eth1Address eth1Address;
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
+  private final boolean dataColumnSidecarSegmentStorageEnabled;
   private final SyncDataAccessor dbSettingFileSyncDataAccessor;
   private final Optional<Eth2Network> maybeNetwork;
 
@@ -79,6 +83,8 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.stateStorageFrequency = config.getDataStorageFrequency();
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
+    this.dataColumnSidecarSegmentStorageEnabled =
+        config.isDataColumnSidecarSegmentStorageEnabled();
     this.spec = config.getSpec();
 
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
@@ -162,6 +168,15 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
       default:
         throw new UnsupportedOperationException("Unhandled database version " + dbVersion);
     }
+    if (dataColumnSidecarSegmentStorageEnabled
+        && database instanceof final KvStoreDatabase kvStoreDatabase) {
+      final Path segmentDirectory = dataDirectory.toPath().resolve(DATA_COLUMN_SIDECARS_PATH);
+      database =
+          kvStoreDatabase.withDataColumnSidecarSegmentStore(
+              DataColumnSidecarSegmentStore.open(
+                  segmentDirectory, spec.getGenesisSpecConfig().getSlotsPerEpoch()));
+      LOG.info("Storing data column sidecars in segment files at {}", segmentDirectory);
+    }
     return database;
   }
 
@@ -68,6 +68,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
 import tech.pegasys.teku.storage.api.OnDiskStoreData;
+import tech.pegasys.teku.storage.api.SerializedFinalizedBlock;
 import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.StoredBlockMetadata;
 import tech.pegasys.teku.storage.api.UpdateResult;
@@ -92,6 +93,7 @@ import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotSta
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotStateAdapter;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
+import tech.pegasys.teku.storage.server.segment.DataColumnSidecarSegmentStore;
 import tech.pegasys.teku.storage.server.state.StateRootRecorder;
 
 public class KvStoreDatabase implements Database {
@@ -103,17 +105,28 @@ public class KvStoreDatabase implements Database {
   protected final boolean storeNonCanonicalBlocks;
   @VisibleForTesting final KvStoreCombinedDao dao;
   private final StateStorageMode stateStorageMode;
+  private final Optional<DataColumnSidecarSegmentStore> sidecarSegmentStore;
 
   KvStoreDatabase(
       final KvStoreCombinedDao dao,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
+    this(dao, stateStorageMode, storeNonCanonicalBlocks, spec, Optional.empty());
+  }
+
+  private KvStoreDatabase(
+      final KvStoreCombinedDao dao,
+      final StateStorageMode stateStorageMode,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec,
+      final Optional<DataColumnSidecarSegmentStore> sidecarSegmentStore) {
     this.dao = dao;
     checkNotNull(spec);
     this.stateStorageMode = stateStorageMode;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
     this.spec = spec;
+    this.sidecarSegmentStore = sidecarSegmentStore;
   }
 
   public static Database createV4(
@@ -176,6 +189,17 @@ public class KvStoreDatabase implements Database {
     return new KvStoreDatabase(dao, stateStorageMode, storeNonCanonicalBlocks, spec);
   }
 
+  /**
+   * Returns a database which stores canonical data column sidecars in the given segment store
+   * rather than the key-value store. Sidecars already in the key-value store remain readable and
+   * are pruned as before.
+   */
+  public KvStoreDatabase withDataColumnSidecarSegmentStore(
+      final DataColumnSidecarSegmentStore segmentStore) {
+    return new KvStoreDatabase(
+        dao, stateStorageMode, storeNonCanonicalBlocks, spec, Optional.of(segmentStore));
+  }
+
   @MustBeClosed
   protected CombinedUpdater combinedUpdater() {
     return dao.combinedUpdater();
@@ -269,6 +293,13 @@ public class KvStoreDatabase implements Database {
     return dao.streamFinalizedBlocks(startSlot, endSlot);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<SerializedFinalizedBlock> streamFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return dao.streamFinalizedBlocksAsSsz(startSlot, endSlot);
+  }
+
   protected Map<Bytes32, StoredBlockMetadata> buildHotBlockMetadata() {
     final Map<Bytes32, StoredBlockMetadata> blockInformation = new HashMap<>();
     try (final Stream<SignedBeaconBlock> hotBlocks = dao.streamHotBlocks()) {
@@ -1120,7 +1151,10 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<DataColumnSidecar> getSidecar(final DataColumnSlotAndIdentifier identifier) {
-    final Optional<Bytes> maybePayload = dao.getSidecar(identifier);
+    final Optional<Bytes> maybePayload =
+        sidecarSegmentStore
+            .flatMap(segmentStore -> segmentStore.getSidecar(identifier))
+            .or(() -> dao.getSidecar(identifier));
     return maybePayload.map(payload -> spec.deserializeSidecar(payload, identifier.slot()));
   }
 
@@ -1135,7 +1169,13 @@ public class KvStoreDatabase implements Database {
   @MustBeClosed
   public Stream<DataColumnSlotAndIdentifier> streamDataColumnIdentifiers(
       final UInt64 firstSlot, final UInt64 lastSlot) {
-    return dao.streamDataColumnIdentifiers(firstSlot, lastSlot);
+    if (sidecarSegmentStore.isEmpty()) {
+      return dao.streamDataColumnIdentifiers(firstSlot, lastSlot);
+    }
+    // Sidecars left in the key-value store predate the segment store, so keep them first
+    return Stream.concat(
+        dao.streamDataColumnIdentifiers(firstSlot, lastSlot),
+        sidecarSegmentStore.get().getDataColumnIdentifiers(firstSlot, lastSlot).stream());
   }
 
   @Override
@@ -1147,7 +1187,8 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<UInt64> getEarliestDataColumnSidecarSlot() {
-    return dao.getEarliestDataSidecarColumnSlot();
+    return dao.getEarliestDataSidecarColumnSlot()
+        .or(() -> sidecarSegmentStore.flatMap(DataColumnSidecarSegmentStore::getEarliestSlot));
   }
 
   @Override
@@ -1168,6 +1209,10 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public void addSidecar(final DataColumnSidecar sidecar) {
+    if (sidecarSegmentStore.isPresent()) {
+      sidecarSegmentStore.get().addSidecar(sidecar);
+      return;
+    }
     try (final FinalizedUpdater updater = finalizedUpdater()) {
       updater.addSidecar(sidecar);
       updater.commit();
@@ -1185,7 +1230,7 @@ public class KvStoreDatabase implements Database {
   @Override
   public void pruneAllSidecars(final UInt64 tillSlotInclusive) {
     try (final Stream<DataColumnSlotAndIdentifier> prunableIdentifiers =
-            streamDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive);
+            dao.streamDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive);
         final Stream<DataColumnSlotAndIdentifier> prunableNonCanonicalIdentifiers =
             streamNonCanonicalDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive);
         final FinalizedUpdater updater = finalizedUpdater()) {
@@ -1193,10 +1238,13 @@ public class KvStoreDatabase implements Database {
       prunableNonCanonicalIdentifiers.forEach(updater::removeNonCanonicalSidecar);
       updater.commit();
     }
+    sidecarSegmentStore.ifPresent(
+        segmentStore -> segmentStore.pruneAllSidecars(tillSlotInclusive));
   }
 
   @Override
   public void close() throws Exception {
+    sidecarSegmentStore.ifPresent(DataColumnSidecarSegmentStore::close);
     dao.close();
   }
 
@@ -1400,6 +1448,9 @@ public class KvStoreDatabase implements Database {
             .map(entry -> new SlotAndBlockRoot(entry.getValue(), entry.getKey()))
             .collect(Collectors.toSet());
 
+    sidecarSegmentStore.ifPresent(
+        segmentStore -> removeNonCanonicalSegmentSidecars(segmentStore, nonCanonicalBlocks));
+
     if (storeNonCanonicalBlocks) {
       final Iterator<SlotAndBlockRoot> nonCanonicalBlocksIterator = nonCanonicalBlocks.iterator();
       int index = 0;
@@ -1443,6 +1494,37 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  private void removeNonCanonicalSegmentSidecars(
+      final DataColumnSidecarSegmentStore segmentStore,
+      final Set<SlotAndBlockRoot> nonCanonicalBlocks) {
+    for (final SlotAndBlockRoot slotAndBlockRoot : nonCanonicalBlocks) {
+      final List<DataColumnSlotAndIdentifier> identifiers =
+          segmentStore
+              .getDataColumnIdentifiers(slotAndBlockRoot.getSlot(), slotAndBlockRoot.getSlot())
+              .stream()
+              .filter(key -> key.blockRoot().equals(slotAndBlockRoot.getBlockRoot()))
+              .toList();
+      if (identifiers.isEmpty()) {
+        continue;
+      }
+      if (storeNonCanonicalBlocks) {
+        try (final FinalizedUpdater updater = finalizedUpdater()) {
+          identifiers.forEach(
+              key ->
+                  segmentStore
+                      .getSidecar(key)
+                      .ifPresent(
+                          sidecarBytes ->
+                              updater.addNonCanonicalSidecar(
+                                  spec.deserializeSidecar(sidecarBytes, key.slot()))));
+          updater.commit();
+        }
+      }
+      LOG.trace("Removing segment stored sidecars for non-canonical block {}", slotAndBlockRoot);
+      identifiers.forEach(segmentStore::removeSidecar);
+    }
+  }
+
   private void updateFinalizedDataArchiveMode(
       final Map<Bytes32, Bytes32> finalizedChildToParentMap,
       final Map<Bytes32, SignedBeaconBlock> finalizedBlocks,
@@ -43,6 +43,7 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.api.SerializedFinalizedBlock;
 import tech.pegasys.teku.storage.server.kvstore.ColumnEntry;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
@@ -126,7 +127,12 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
   @Override
   public Optional<BeaconState> getLatestFinalizedState() {
-    return db.get(schema.getVariableLatestFinalizedState());
+    final Optional<BeaconState> state = db.get(schema.getVariableLatestFinalizedState());
+    state.ifPresent(
+        finalizedState ->
+            db.get(schema.getVariableLatestFinalizedStateHashCache())
+                .ifPresent(cache -> StateHashCache.restore(finalizedState, cache)));
+    return state;
   }
 
   @Override
@@ -319,6 +325,14 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
         .map(ColumnEntry::getValue);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<SerializedFinalizedBlock> streamFinalizedBlocksAsSsz(
+      final UInt64 startSlot, final UInt64 endSlot) {
+    return db.streamValuesRaw(schema.getColumnFinalizedBlocksBySlot(), startSlot, endSlot)
+        .map(entry -> new SerializedFinalizedBlock(entry.getKey(), entry.getValue()));
+  }
+
   @Override
   public Optional<UInt64> getSlotForFinalizedBlockRoot(final Bytes32 blockRoot) {
     return db.get(schema.getColumnSlotsByFinalizedRoot(), blockRoot);
@@ -680,6 +694,8 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
+      transaction.put(
+          schema.getVariableLatestFinalizedStateHashCache(), StateHashCache.capture(state));
     }
 
     @Override
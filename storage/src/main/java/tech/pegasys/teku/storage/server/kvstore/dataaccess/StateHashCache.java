@@ -0,0 +1,71 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import java.nio.ByteOrder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeHashCache;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Persisted merkle hashes for the latest finalized state so that it doesn't have to be fully
+ * rehashed after a restart.
+ *
+ * <p>The cache is prefixed with the state's slot and latest block header root, which together
+ * identify the state it was captured from. A cache that doesn't match the loaded state (e.g. the
+ * state was updated by a version that didn't write the cache) is ignored.
+ */
+class StateHashCache {
+  private static final Logger LOG = LogManager.getLogger();
+
+  // Covers the upper levels of the validator, balance and participation lists while keeping the
+  // cache to a few MB on mainnet
+  static final int MAX_DEPTH = 40;
+  private static final int KEY_SIZE = Long.BYTES + Bytes32.SIZE;
+
+  private StateHashCache() {}
+
+  static Bytes capture(final BeaconState state) {
+    return Bytes.wrap(createKey(state), TreeHashCache.capture(state.getBackingNode(), MAX_DEPTH));
+  }
+
+  /**
+   * Applies the cached hashes to the state if the cache was captured from it.
+   *
+   * @return the number of restored hashes, zero if the cache was rejected
+   */
+  static int restore(final BeaconState state, final Bytes cache) {
+    if (cache.size() < KEY_SIZE || !cache.slice(0, KEY_SIZE).equals(createKey(state))) {
+      LOG.debug("Ignoring state hash cache which does not match state at slot {}", state.getSlot());
+      return 0;
+    }
+    try {
+      final int restored = TreeHashCache.restore(state.getBackingNode(), cache.slice(KEY_SIZE));
+      LOG.debug("Restored {} cached hashes for state at slot {}", restored, state.getSlot());
+      return restored;
+    } catch (final IllegalArgumentException e) {
+      LOG.warn("Ignoring invalid state hash cache", e);
+      return 0;
+    }
+  }
+
+  private static Bytes createKey(final BeaconState state) {
+    return Bytes.wrap(
+        Bytes.ofUnsignedLong(state.getSlot().longValue(), ByteOrder.LITTLE_ENDIAN),
+        state.getLatestBlockHeader().hashTreeRoot());
+  }
+}
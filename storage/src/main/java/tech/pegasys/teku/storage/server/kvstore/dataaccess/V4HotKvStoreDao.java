@@ -102,7 +102,12 @@ public class V4HotKvStoreDao {
   }
 
   public Optional<BeaconState> getLatestFinalizedState() {
-    return db.get(schema.getVariableLatestFinalizedState());
+    final Optional<BeaconState> state = db.get(schema.getVariableLatestFinalizedState());
+    state.ifPresent(
+        finalizedState ->
+            db.get(schema.getVariableLatestFinalizedStateHashCache())
+                .ifPresent(cache -> StateHashCache.restore(finalizedState, cache)));
+    return state;
   }
 
   public Optional<Checkpoint> getWeakSubjectivityCheckpoint() {
@@ -244,6 +249,8 @@ public class V4HotKvStoreDao {
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
+      transaction.put(
+          schema.getVariableLatestFinalizedStateHashCache(), StateHashCache.capture(state));
     }
 
     @Override
@@ -23,21 +23,32 @@ public class KvStoreColumn<TKey, TValue> {
   private final Bytes id;
   private final KvStoreSerializer<TKey> keySerializer;
   private final KvStoreSerializer<TValue> valueSerializer;
+  private final KvStoreColumnProfile profile;
 
   private KvStoreColumn(
       final Bytes id,
       final KvStoreSerializer<TKey> keySerializer,
-      final KvStoreSerializer<TValue> valueSerializer) {
+      final KvStoreSerializer<TValue> valueSerializer,
+      final KvStoreColumnProfile profile) {
     this.id = id;
     this.keySerializer = keySerializer;
     this.valueSerializer = valueSerializer;
+    this.profile = profile;
   }
 
   public static <K, V> KvStoreColumn<K, V> create(
       final int id,
       final KvStoreSerializer<K> keySerializer,
       final KvStoreSerializer<V> valueSerializer) {
-    return new KvStoreColumn<>(asColumnId(id), keySerializer, valueSerializer);
+    return create(id, keySerializer, valueSerializer, KvStoreColumnProfile.GENERAL);
+  }
+
+  public static <K, V> KvStoreColumn<K, V> create(
+      final int id,
+      final KvStoreSerializer<K> keySerializer,
+      final KvStoreSerializer<V> valueSerializer,
+      final KvStoreColumnProfile profile) {
+    return new KvStoreColumn<>(asColumnId(id), keySerializer, valueSerializer, profile);
   }
 
   public static Bytes asColumnId(final int id) {
@@ -56,6 +67,10 @@ public class KvStoreColumn<TKey, TValue> {
     return valueSerializer;
   }
 
+  public KvStoreColumnProfile getProfile() {
+    return profile;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
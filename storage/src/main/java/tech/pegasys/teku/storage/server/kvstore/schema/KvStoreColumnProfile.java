@@ -0,0 +1,31 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.schema;
+
+/**
+ * Describes how a column is accessed so the underlying store can tune its storage layout per
+ * column. Stores that have no per-column tuning are free to ignore the profile.
+ */
+public enum KvStoreColumnProfile {
+  /** No particular access pattern, uses the store wide defaults. */
+  GENERAL,
+  /** Random single key reads, typically keyed by a root. */
+  POINT_LOOKUP,
+  /** Keys are a big-endian slot and are read by seeking and scanning a range. */
+  SLOT_RANGE_SCAN,
+  /** Large values that are written once and only deleted by pruning. */
+  WRITE_ONCE_BLOB,
+  /** Small values that are read and rewritten frequently and should stay cached. */
+  HOT_SMALL_VALUES
+}
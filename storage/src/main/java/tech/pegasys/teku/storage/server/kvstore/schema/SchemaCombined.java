@@ -79,6 +79,8 @@ public interface SchemaCombined extends Schema {
 
   KvStoreVariable<BeaconState> getVariableLatestFinalizedState();
 
+  KvStoreVariable<Bytes> getVariableLatestFinalizedStateHashCache();
+
   KvStoreVariable<MinGenesisTimeBlockEvent> getVariableMinGenesisTimeBlock();
 
   KvStoreVariable<Checkpoint> getVariableWeakSubjectivityCheckpoint();
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
@@ -25,6 +26,7 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
@@ -54,13 +56,25 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private final KvStoreColumn<Checkpoint, BeaconState> checkpointStates;
   private final KvStoreColumn<UInt64, VoteTracker> votes;
   private static final KvStoreColumn<UInt64, DepositsFromBlockEvent> DEPOSITS_FROM_BLOCK_EVENTS =
-      KvStoreColumn.create(4, UINT64_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER);
+      KvStoreColumn.create(
+          4,
+          UINT64_SERIALIZER,
+          DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER,
+          KvStoreColumnProfile.SLOT_RANGE_SCAN);
   private static final KvStoreColumn<Bytes32, SlotAndBlockRoot> STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT =
-      KvStoreColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER);
+      KvStoreColumn.create(
+          5,
+          BYTES32_SERIALIZER,
+          SLOT_AND_BLOCK_ROOT_SERIALIZER,
+          KvStoreColumnProfile.HOT_SMALL_VALUES);
   private final KvStoreColumn<Bytes32, BeaconState> hotStatesByRoot;
   private static final KvStoreColumn<Bytes32, BlockCheckpoints>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
-          KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+          KvStoreColumn.create(
+              7,
+              BYTES32_SERIALIZER,
+              CHECKPOINT_EPOCHS_SERIALIZER,
+              KvStoreColumnProfile.HOT_SMALL_VALUES);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -83,6 +97,8 @@ public abstract class V6SchemaCombined implements SchemaCombined {
       KvStoreVariable.create(10, DEPOSIT_SNAPSHOT_SERIALIZER);
   private static final KvStoreVariable<Bytes32> LATEST_CANONICAL_BLOCK_ROOT =
       KvStoreVariable.create(11, BYTES32_SERIALIZER);
+  private static final KvStoreVariable<Bytes> LATEST_FINALIZED_STATE_HASH_CACHE =
+      KvStoreVariable.create(12, BYTES_SERIALIZER);
 
   private final KvStoreVariable<UInt64> optimisticTransitionBlockSlot;
   private final KvStoreVariable<UInt64> earliestBlobSidecarSlot;
@@ -94,14 +110,20 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     this.finalizedOffset = finalizedOffset;
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
         KvStoreSerializer.createSignedBlockSerializer(spec);
-    hotBlocksByRoot = KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer);
+    hotBlocksByRoot =
+        KvStoreColumn.create(
+            1, BYTES32_SERIALIZER, signedBlockSerializer, KvStoreColumnProfile.POINT_LOOKUP);
     final KvStoreSerializer<BeaconState> stateSerializer =
         KvStoreSerializer.createStateSerializer(spec);
     checkpointStates = KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer);
-    hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer);
+    hotStatesByRoot =
+        KvStoreColumn.create(
+            6, BYTES32_SERIALIZER, stateSerializer, KvStoreColumnProfile.POINT_LOOKUP);
     latestFinalizedState = KvStoreVariable.create(5, stateSerializer);
 
-    votes = KvStoreColumn.create(3, UINT64_SERIALIZER, VOTE_TRACKER_SERIALIZER);
+    votes =
+        KvStoreColumn.create(
+            3, UINT64_SERIALIZER, VOTE_TRACKER_SERIALIZER, KvStoreColumnProfile.HOT_SMALL_VALUES);
 
     optimisticTransitionBlockSlot = KvStoreVariable.create(finalizedOffset + 1, UINT64_SERIALIZER);
     earliestBlobSidecarSlot = KvStoreVariable.create(finalizedOffset + 2, UINT64_SERIALIZER);
@@ -170,6 +192,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return latestFinalizedState;
   }
 
+  @Override
+  public KvStoreVariable<Bytes> getVariableLatestFinalizedStateHashCache() {
+    return LATEST_FINALIZED_STATE_HASH_CACHE;
+  }
+
   @Override
   public KvStoreVariable<MinGenesisTimeBlockEvent> getVariableMinGenesisTimeBlock() {
     return MIN_GENESIS_TIME_BLOCK;
@@ -249,6 +276,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("BEST_JUSTIFIED_CHECKPOINT", getVariableBestJustifiedCheckpoint())
         .put("FINALIZED_CHECKPOINT", getVariableFinalizedCheckpoint())
         .put("LATEST_FINALIZED_STATE", getVariableLatestFinalizedState())
+        .put("LATEST_FINALIZED_STATE_HASH_CACHE", getVariableLatestFinalizedStateHashCache())
         .put("MIN_GENESIS_TIME_BLOCK", getVariableMinGenesisTimeBlock())
         .put("WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint())
         .put("ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint())
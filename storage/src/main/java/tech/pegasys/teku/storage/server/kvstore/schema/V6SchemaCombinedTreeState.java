@@ -59,46 +59,77 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
   public V6SchemaCombinedTreeState(final Spec spec) {
     super(spec, V6_FINALIZED_OFFSET);
     slotsByFinalizedRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 1,
+            BYTES32_SERIALIZER,
+            UINT64_SERIALIZER,
+            KvStoreColumnProfile.POINT_LOOKUP);
     slotsByFinalizedStateRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 2, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 2,
+            BYTES32_SERIALIZER,
+            UINT64_SERIALIZER,
+            KvStoreColumnProfile.POINT_LOOKUP);
     nonCanonicalBlockRootsBySlot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 3, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 3,
+            UINT64_SERIALIZER,
+            BLOCK_ROOTS_SERIALIZER,
+            KvStoreColumnProfile.SLOT_RANGE_SCAN);
     finalizedStateRootsBySlot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 4, UINT64_SERIALIZER, BYTES32_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 4,
+            UINT64_SERIALIZER,
+            BYTES32_SERIALIZER,
+            KvStoreColumnProfile.SLOT_RANGE_SCAN);
     finalizedStateTreeLeavesByRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 5, BYTES32_SERIALIZER, BYTES_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 5,
+            BYTES32_SERIALIZER,
+            BYTES_SERIALIZER,
+            KvStoreColumnProfile.POINT_LOOKUP);
     finalizedStateTreeBranchesByRoot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 6,
             BYTES32_SERIALIZER,
-            COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER);
+            COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER,
+            KvStoreColumnProfile.POINT_LOOKUP);
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 7,
             UINT64_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            KvStoreColumnProfile.WRITE_ONCE_BLOB);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 8,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            KvStoreColumnProfile.WRITE_ONCE_BLOB);
     blobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 14,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            KvStoreColumnProfile.WRITE_ONCE_BLOB);
     nonCanonicalBlobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 15,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            KvStoreColumnProfile.WRITE_ONCE_BLOB);
     sidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 16, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 16,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            KvStoreColumnProfile.WRITE_ONCE_BLOB);
     nonCanonicalSidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 17, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 17,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            KvStoreColumnProfile.WRITE_ONCE_BLOB);
     deletedColumnIds =
         List.of(
             asColumnId(finalizedOffset + 9),
@@ -180,6 +211,7 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
         .put("BEST_JUSTIFIED_CHECKPOINT", getVariableBestJustifiedCheckpoint())
         .put("FINALIZED_CHECKPOINT", getVariableFinalizedCheckpoint())
         .put("LATEST_FINALIZED_STATE", getVariableLatestFinalizedState())
+        .put("LATEST_FINALIZED_STATE_HASH_CACHE", getVariableLatestFinalizedStateHashCache())
         .put("MIN_GENESIS_TIME_BLOCK", getVariableMinGenesisTimeBlock())
         .put("WEAK_SUBJECTIVITY_CHECKPOINT", getVariableWeakSubjectivityCheckpoint())
         .put("ANCHOR_CHECKPOINT", getVariableAnchorCheckpoint())
@@ -274,6 +274,20 @@ public class LevelDbInstance implements KvStoreAccessor {
     return streamKeys(column, fromBytes, toBytes);
   }
 
+  @Override
+  @MustBeClosed
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamValuesRaw(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    final byte[] fromBytes = getColumnKey(column, from);
+    final byte[] toBytes = getColumnKey(column, to);
+    return streamRaw(column, fromBytes, toBytes)
+        .map(
+            entry ->
+                ColumnEntry.create(
+                    column.getKeySerializer().deserialize(entry.getKey()),
+                    Bytes.wrap(entry.getValue())));
+  }
+
   @MustBeClosed
   private <K, V> Stream<ColumnEntry<K, V>> stream(
       final KvStoreColumn<K, V> column, final byte[] fromBytes, final byte[] toBytes) {
@@ -197,6 +197,22 @@ public class RocksDbInstance implements KvStoreAccessor {
         key -> key.compareTo(to) <= 0);
   }
 
+  @Override
+  @MustBeClosed
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamValuesRaw(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    return createStreamRaw(
+            column,
+            iter -> iter.seek(column.getKeySerializer().serialize(from)),
+            key -> key.compareTo(to) <= 0)
+        .map(
+            entry ->
+                ColumnEntry.create(
+                    column.getKeySerializer().deserialize(entry.getKey()),
+                    Bytes.wrap(entry.getValue())));
+  }
+
   @Override
   @MustBeClosed
   public synchronized KvStoreTransaction startTransaction() {
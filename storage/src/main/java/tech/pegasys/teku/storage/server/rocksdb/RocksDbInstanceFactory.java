@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -38,7 +39,9 @@ import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionPriority;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.Env;
 import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDBException;
@@ -49,9 +52,18 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 public class RocksDbInstanceFactory {
+  // Share of the block cache reserved for index and filter blocks of hot columns
+  private static final double HIGH_PRIORITY_CACHE_RATIO = 0.1;
+  private static final double MEMTABLE_BLOOM_SIZE_RATIO = 0.05;
+  private static final long HOT_SMALL_VALUES_BLOCK_SIZE = 4_096;
+  // Values at least this large are moved out of the LSM tree into blob files
+  private static final long MIN_BLOB_SIZE = 4_096;
+  private static final long BLOB_FILE_SIZE = 256 << 20;
+
   static {
     RocksDbUtil.loadNativeLibrary();
   }
@@ -75,12 +87,13 @@ public class RocksDbInstanceFactory {
     final TransactionDBOptions txOptions = new TransactionDBOptions();
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
-    final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
+    final LRUCache blockCache =
+        new LRUCache(configuration.getCacheCapacity(), -1, false, HIGH_PRIORITY_CACHE_RATIO);
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions =
         createColumnFamilyOptions(configuration, blockCache);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats, blockCache));
+    resources.addAll(columnFamilyOptions.values());
 
     List<ColumnFamilyDescriptor> columnDescriptors =
         createColumnFamilyDescriptors(columns, deletedColumns, columnFamilyOptions);
@@ -115,6 +128,7 @@ public class RocksDbInstanceFactory {
       resources.add(db);
 
       rocksDbStats.registerMetrics(db);
+      rocksDbStats.registerColumnFamilyMetrics(db, columnHandlesMap);
 
       return new RocksDbInstance(db, defaultHandle, columnHandlesMap, resources);
     } catch (RocksDBException e) {
@@ -163,25 +177,82 @@ public class RocksDbInstanceFactory {
     return options;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions(
+  private static Map<KvStoreColumnProfile, ColumnFamilyOptions> createColumnFamilyOptions(
       final KvStoreConfiguration configuration, final Cache cache) {
-    return new ColumnFamilyOptions()
-        .setCompressionType(configuration.getCompressionType())
-        .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setLevelCompactionDynamicLevelBytes(true)
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> options =
+        new EnumMap<>(KvStoreColumnProfile.class);
+    for (final KvStoreColumnProfile profile : KvStoreColumnProfile.values()) {
+      options.put(profile, createColumnFamilyOptions(configuration, cache, profile));
+    }
+    return options;
+  }
+
+  private static ColumnFamilyOptions createColumnFamilyOptions(
+      final KvStoreConfiguration configuration,
+      final Cache cache,
+      final KvStoreColumnProfile profile) {
+    // Compaction style stays levelled for every profile, existing databases can't be switched to
+    // universal or FIFO compaction in place.
+    final ColumnFamilyOptions options =
+        new ColumnFamilyOptions()
+            .setCompressionType(configuration.getCompressionType())
+            .setBottommostCompressionType(configuration.getBottomMostCompressionType())
+            .setLevelCompactionDynamicLevelBytes(true);
+    final BlockBasedTableConfig tableConfig = createBlockBasedTableConfig(cache);
+    switch (profile) {
+      case GENERAL -> {}
+      case POINT_LOOKUP -> {
+        options
+            .setMemtableWholeKeyFiltering(true)
+            .setMemtablePrefixBloomSizeRatio(MEMTABLE_BLOOM_SIZE_RATIO);
+        tableConfig.setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash);
+      }
+      case SLOT_RANGE_SCAN -> {
+        // No prefix extractor: keys are the bare uint64 slot, so any prefix would be the whole key
+        // and couldn't filter scans crossing slots. Range reads rely on key order and the index.
+      }
+      case WRITE_ONCE_BLOB ->
+          options
+              .setEnableBlobFiles(true)
+              .setMinBlobSize(MIN_BLOB_SIZE)
+              .setBlobFileSize(BLOB_FILE_SIZE)
+              .setBlobCompressionType(configuration.getCompressionType())
+              .setEnableBlobGarbageCollection(true)
+              .setCompactionPriority(CompactionPriority.OldestSmallestSeqFirst);
+      case HOT_SMALL_VALUES -> {
+        options
+            .setMemtableWholeKeyFiltering(true)
+            .setMemtablePrefixBloomSizeRatio(MEMTABLE_BLOOM_SIZE_RATIO);
+        tableConfig
+            .setBlockSize(HOT_SMALL_VALUES_BLOCK_SIZE)
+            .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+            .setCacheIndexAndFilterBlocks(true)
+            .setCacheIndexAndFilterBlocksWithHighPriority(true)
+            .setPinL0FilterAndIndexBlocksInCache(true);
+      }
+    }
+    return options.setTableFormatConfig(tableConfig);
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
       final Collection<Bytes> deletedColumns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions) {
+    final ColumnFamilyOptions generalOptions =
+        columnFamilyOptions.get(KvStoreColumnProfile.GENERAL);
     final List<ColumnFamilyDescriptor> columnDescriptors =
-        Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
-            .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), columnFamilyOptions))
+        Stream.concat(
+                columns.stream()
+                    .map(
+                        column ->
+                            new ColumnFamilyDescriptor(
+                                column.getId().toArrayUnsafe(),
+                                columnFamilyOptions.get(column.getProfile()))),
+                deletedColumns.stream()
+                    .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), generalOptions)))
             .collect(Collectors.toCollection(ArrayList::new));
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), generalOptions));
     return Collections.unmodifiableList(columnDescriptors);
   }
 
@@ -15,6 +15,7 @@ package tech.pegasys.teku.storage.server.rocksdb;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -22,13 +23,16 @@ import org.apache.logging.log4j.Logger;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.ExternalSummary;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.TickerType;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 
 /**
  * Taken from
@@ -151,6 +155,15 @@ public class RocksDbStats implements AutoCloseable {
     HistogramType.READ_NUM_MERGE_OPERANDS,
   };
 
+  // Column family properties - reported per column with the column's access profile as a label
+  static final Map<String, String> COLUMN_FAMILY_PROPERTIES =
+      Map.of(
+          "column_family_estimated_keys", "rocksdb.estimate-num-keys",
+          "column_family_estimated_live_data_size", "rocksdb.estimate-live-data-size",
+          "column_family_total_sst_files_size", "rocksdb.total-sst-files-size",
+          "column_family_live_blob_files_size", "rocksdb.live-blob-file-size",
+          "column_family_current_size_mem_tables", "rocksdb.cur-size-all-mem-tables");
+
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final Statistics stats;
   private final MetricsSystem metricsSystem;
@@ -201,6 +214,26 @@ public class RocksDbStats implements AutoCloseable {
     }
   }
 
+  public void registerColumnFamilyMetrics(
+      final RocksDB database, final Map<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles) {
+    COLUMN_FAMILY_PROPERTIES.forEach(
+        (metricName, property) -> {
+          final LabelledSuppliedMetric gauge =
+              metricsSystem.createLabelledSuppliedGauge(
+                  category,
+                  metricName,
+                  "RocksDB reported " + property + " per column family",
+                  "column",
+                  "profile");
+          columnHandles.forEach(
+              (column, handle) ->
+                  gauge.labels(
+                      () -> getLongProperty(database, handle, property),
+                      column.getId().toHexString(),
+                      column.getProfile().name().toLowerCase(Locale.ROOT)));
+        });
+  }
+
   private ExternalSummary provideExternalSummary(final HistogramType histogramType) {
     return ifOpen(
         () -> {
@@ -232,6 +265,20 @@ public class RocksDbStats implements AutoCloseable {
         0L);
   }
 
+  private long getLongProperty(
+      final RocksDB database, final ColumnFamilyHandle handle, final String name) {
+    return ifOpen(
+        () -> {
+          try {
+            return database.getLongProperty(handle, name);
+          } catch (RocksDBException e) {
+            LOG.warn("Failed to load " + name + " column family property for RocksDB metrics");
+            return 0L;
+          }
+        },
+        0L);
+  }
+
   @Override
   public void close() {
     if (closed.compareAndSet(false, true)) {
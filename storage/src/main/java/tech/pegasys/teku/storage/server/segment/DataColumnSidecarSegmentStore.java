@@ -0,0 +1,554 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.segment;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+
+/**
+ * Stores serialized {@link DataColumnSidecar}s in append-only segment files, one per epoch.
+ *
+ * <p>Each segment has a data file and an index file. A data record is a fixed size header (slot,
+ * block root, column index and payload length) followed by the SSZ payload. The index file holds
+ * one fixed size entry per record (slot, block root, column index, payload offset and length), and
+ * removing a single sidecar appends an index entry with a negative length.
+ *
+ * <p>Opening the store only lists the segment files. A segment's index is read the first time the
+ * segment is accessed and only the most recently used segments are kept loaded, so memory and file
+ * handles don't grow with the retention period. Records appended to the data file after the last
+ * index entry, e.g. because of a crash between the two writes, are re-indexed when the segment is
+ * loaded and a torn trailing record is truncated. Segments are fsynced when writes move on to a
+ * later segment, when they are unloaded and when the store is closed.
+ *
+ * <p>Pruning deletes whole segments once all their slots are prunable.
+ */
+public class DataColumnSidecarSegmentStore implements AutoCloseable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String SEGMENT_FILE_SUFFIX = ".seg";
+  static final String INDEX_FILE_SUFFIX = ".idx";
+  static final int MAX_LOADED_SEGMENTS = 64;
+  private static final int HEADER_SIZE = Long.BYTES + Bytes32.SIZE + Long.BYTES + Integer.BYTES;
+  private static final int INDEX_ENTRY_SIZE =
+      Long.BYTES + Bytes32.SIZE + Long.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int TOMBSTONE_LENGTH = -1;
+  private static final Bytes32 MIN_BLOCK_ROOT = Bytes32.ZERO;
+  private static final Bytes32 MAX_BLOCK_ROOT = Bytes32.ZERO.not();
+
+  private final Path directory;
+  private final int slotsPerSegment;
+  private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+  private final LinkedHashMap<Long, Segment> loadedSegments = new LinkedHashMap<>(16, 0.75f, true);
+  private long activeSegmentId = -1;
+
+  private DataColumnSidecarSegmentStore(final Path directory, final int slotsPerSegment) {
+    this.directory = directory;
+    this.slotsPerSegment = slotsPerSegment;
+  }
+
+  public static DataColumnSidecarSegmentStore open(
+      final Path directory, final int slotsPerSegment) {
+    final DataColumnSidecarSegmentStore store =
+        new DataColumnSidecarSegmentStore(directory, slotsPerSegment);
+    try {
+      Files.createDirectories(directory);
+      try (final Stream<Path> files = Files.list(directory)) {
+        for (final Path file : files.toList()) {
+          parseSegmentId(file)
+              .ifPresent(
+                  segmentId -> store.segments.put(segmentId, store.createSegment(segmentId)));
+        }
+      }
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to open data column sidecar segments in " + directory, e);
+    }
+    LOG.debug("Found {} data column sidecar segments in {}", store.segments.size(), directory);
+    return store;
+  }
+
+  public Optional<Bytes> getSidecar(final DataColumnSlotAndIdentifier identifier) {
+    final Segment segment = segments.get(getSegmentId(identifier.slot()));
+    if (segment == null) {
+      return Optional.empty();
+    }
+    final Optional<Bytes> result = segment.read(identifier);
+    touch(segment);
+    return result;
+  }
+
+  public List<DataColumnSlotAndIdentifier> getDataColumnIdentifiers(
+      final UInt64 firstSlot, final UInt64 lastSlot) {
+    if (firstSlot.isGreaterThan(lastSlot)) {
+      return List.of();
+    }
+    final DataColumnSlotAndIdentifier from =
+        new DataColumnSlotAndIdentifier(firstSlot, MIN_BLOCK_ROOT, UInt64.ZERO);
+    final DataColumnSlotAndIdentifier to =
+        new DataColumnSlotAndIdentifier(lastSlot, MAX_BLOCK_ROOT, UInt64.MAX_VALUE);
+    final List<DataColumnSlotAndIdentifier> result = new ArrayList<>();
+    for (final Segment segment :
+        segments.subMap(getSegmentId(firstSlot), true, getSegmentId(lastSlot), true).values()) {
+      result.addAll(segment.getIdentifiers(from, to));
+      touch(segment);
+    }
+    return result;
+  }
+
+  public Optional<UInt64> getEarliestSlot() {
+    for (final Segment segment : segments.values()) {
+      final Optional<DataColumnSlotAndIdentifier> first = segment.getFirstIdentifier();
+      touch(segment);
+      if (first.isPresent()) {
+        return first.map(DataColumnSlotAndIdentifier::slot);
+      }
+    }
+    return Optional.empty();
+  }
+
+  public synchronized void addSidecar(final DataColumnSidecar sidecar) {
+    final DataColumnSlotAndIdentifier identifier =
+        new DataColumnSlotAndIdentifier(
+            sidecar.getSlot(), sidecar.getBlockRoot(), sidecar.getIndex());
+    final long segmentId = getSegmentId(identifier.slot());
+    if (segmentId != activeSegmentId) {
+      // Writes have moved on, so seal the previous segment
+      final Segment previous = segments.get(activeSegmentId);
+      if (previous != null) {
+        previous.force();
+      }
+      activeSegmentId = segmentId;
+    }
+    final Segment segment = segments.computeIfAbsent(segmentId, this::createSegment);
+    segment.append(identifier, sidecar.sszSerialize());
+    touch(segment);
+  }
+
+  public synchronized void removeSidecar(final DataColumnSlotAndIdentifier identifier) {
+    final Segment segment = segments.get(getSegmentId(identifier.slot()));
+    if (segment != null) {
+      segment.tombstone(identifier);
+      touch(segment);
+    }
+  }
+
+  /**
+   * Removes all sidecars up to and including {@code tillSlotInclusive}. Segments entirely before
+   * the slot are deleted, sidecars in the segment containing the slot are tombstoned.
+   */
+  public synchronized void pruneAllSidecars(final UInt64 tillSlotInclusive) {
+    final long lastPrunedSegment = getSegmentId(tillSlotInclusive);
+    final boolean isLastSegmentComplete =
+        tillSlotInclusive.plus(1).mod(slotsPerSegment).isZero();
+    for (final long segmentId : List.copyOf(segments.headMap(lastPrunedSegment, true).keySet())) {
+      if (segmentId < lastPrunedSegment || isLastSegmentComplete) {
+        deleteSegment(segmentId);
+      }
+    }
+    getDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive).forEach(this::removeSidecar);
+  }
+
+  @VisibleForTesting
+  int getSegmentCount() {
+    return segments.size();
+  }
+
+  @VisibleForTesting
+  int getLoadedSegmentCount() {
+    synchronized (loadedSegments) {
+      return loadedSegments.size();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    synchronized (loadedSegments) {
+      loadedSegments.clear();
+    }
+    segments.values().forEach(Segment::unload);
+  }
+
+  private void deleteSegment(final long segmentId) {
+    final Segment segment = segments.remove(segmentId);
+    synchronized (loadedSegments) {
+      loadedSegments.remove(segmentId);
+    }
+    segment.delete();
+  }
+
+  /** Marks the segment as recently used and unloads the least recently used segments. */
+  private void touch(final Segment segment) {
+    final List<Segment> evicted = new ArrayList<>();
+    synchronized (loadedSegments) {
+      loadedSegments.put(segment.id, segment);
+      final Iterator<Segment> iterator = loadedSegments.values().iterator();
+      while (loadedSegments.size() > MAX_LOADED_SEGMENTS) {
+        evicted.add(iterator.next());
+        iterator.remove();
+      }
+    }
+    evicted.forEach(Segment::unload);
+  }
+
+  private Segment createSegment(final long segmentId) {
+    return new Segment(
+        segmentId,
+        directory.resolve(segmentId + SEGMENT_FILE_SUFFIX),
+        directory.resolve(segmentId + INDEX_FILE_SUFFIX));
+  }
+
+  private long getSegmentId(final UInt64 slot) {
+    return slot.dividedBy(slotsPerSegment).longValue();
+  }
+
+  private static Optional<Long> parseSegmentId(final Path file) {
+    final String fileName = file.getFileName().toString();
+    if (!fileName.endsWith(SEGMENT_FILE_SUFFIX)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          Long.parseLong(
+              fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length())));
+    } catch (final NumberFormatException e) {
+      LOG.warn("Ignoring unexpected file {} in data column sidecar segments", file);
+      return Optional.empty();
+    }
+  }
+
+  private record Location(long offset, int length) {}
+
+  /**
+   * A single segment. The index and file channels are only held while the segment is loaded and
+   * are reloaded on demand after the segment has been unloaded.
+   */
+  private static class Segment {
+    private final long id;
+    private final Path dataPath;
+    private final Path indexPath;
+
+    private NavigableMap<DataColumnSlotAndIdentifier, Location> entries;
+    private FileChannel data;
+    private FileChannel index;
+    private long dataSize;
+    private boolean dirty = false;
+    private boolean deleted = false;
+
+    private Segment(final long id, final Path dataPath, final Path indexPath) {
+      this.id = id;
+      this.dataPath = dataPath;
+      this.indexPath = indexPath;
+    }
+
+    Optional<Bytes> read(final DataColumnSlotAndIdentifier identifier) {
+      // Retry once in case the segment is unloaded while the read is in progress
+      for (int attempt = 0; attempt < 2; attempt++) {
+        final FileChannel channel;
+        final Location location;
+        synchronized (this) {
+          if (deleted) {
+            return Optional.empty();
+          }
+          load();
+          location = entries.get(identifier);
+          if (location == null) {
+            return Optional.empty();
+          }
+          channel = data;
+        }
+        try {
+          final ByteBuffer buffer = ByteBuffer.allocate(location.length());
+          readFully(channel, buffer, location.offset());
+          return Optional.of(Bytes.wrap(buffer.array()));
+        } catch (final ClosedChannelException e) {
+          LOG.trace("Data column sidecar segment {} closed during read", dataPath);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(
+              "Failed to read data column sidecar segment " + dataPath, e);
+        }
+      }
+      return Optional.empty();
+    }
+
+    synchronized List<DataColumnSlotAndIdentifier> getIdentifiers(
+        final DataColumnSlotAndIdentifier from, final DataColumnSlotAndIdentifier to) {
+      if (deleted) {
+        return List.of();
+      }
+      load();
+      return List.copyOf(entries.subMap(from, true, to, true).keySet());
+    }
+
+    synchronized Optional<DataColumnSlotAndIdentifier> getFirstIdentifier() {
+      if (deleted) {
+        return Optional.empty();
+      }
+      load();
+      return entries.isEmpty() ? Optional.empty() : Optional.of(entries.firstKey());
+    }
+
+    synchronized void append(final DataColumnSlotAndIdentifier identifier, final Bytes payload) {
+      load();
+      if (entries.containsKey(identifier)) {
+        return;
+      }
+      final long offset = dataSize;
+      try {
+        writeFully(data, createHeader(identifier, payload.size()), payload);
+        dataSize = offset + HEADER_SIZE + payload.size();
+        final Location location = new Location(offset + HEADER_SIZE, payload.size());
+        writeFully(index, createIndexEntry(identifier, location), Bytes.EMPTY);
+        entries.put(identifier, location);
+        dirty = true;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(
+            "Failed to append to data column sidecar segment " + dataPath, e);
+      }
+    }
+
+    synchronized void tombstone(final DataColumnSlotAndIdentifier identifier) {
+      load();
+      if (entries.remove(identifier) == null) {
+        return;
+      }
+      try {
+        writeFully(
+            index, createIndexEntry(identifier, new Location(0, TOMBSTONE_LENGTH)), Bytes.EMPTY);
+        dirty = true;
+      } catch (final IOException e) {
+        throw new UncheckedIOException(
+            "Failed to append to data column sidecar index " + indexPath, e);
+      }
+    }
+
+    synchronized void force() {
+      if (!dirty || data == null) {
+        return;
+      }
+      try {
+        data.force(false);
+        index.force(false);
+        dirty = false;
+      } catch (final IOException e) {
+        throw new UncheckedIOException("Failed to sync data column sidecar segment " + dataPath, e);
+      }
+    }
+
+    synchronized void unload() {
+      if (data == null) {
+        return;
+      }
+      try {
+        force();
+      } catch (final UncheckedIOException e) {
+        LOG.warn("Failed to sync data column sidecar segment {}", dataPath, e);
+      }
+      closeChannels();
+    }
+
+    synchronized void delete() {
+      deleted = true;
+      closeChannels();
+      try {
+        Files.deleteIfExists(indexPath);
+        Files.deleteIfExists(dataPath);
+      } catch (final IOException e) {
+        LOG.warn("Failed to delete data column sidecar segment {}", dataPath, e);
+      }
+    }
+
+    private void closeChannels() {
+      entries = null;
+      for (final FileChannel channel : new FileChannel[] {data, index}) {
+        if (channel != null) {
+          try {
+            channel.close();
+          } catch (final IOException e) {
+            LOG.debug("Failed to close data column sidecar segment {}", dataPath, e);
+          }
+        }
+      }
+      data = null;
+      index = null;
+    }
+
+    private void load() {
+      if (entries != null) {
+        return;
+      }
+      try {
+        data = openChannel(dataPath);
+        index = openChannel(indexPath);
+        dataSize = data.size();
+        entries = new TreeMap<>();
+        final long indexedEnd = loadIndex();
+        recoverUnindexedRecords(indexedEnd);
+      } catch (final IOException e) {
+        closeChannels();
+        throw new UncheckedIOException("Failed to load data column sidecar segment " + dataPath, e);
+      }
+    }
+
+    /** Reads the index file and returns the end of the last data record it refers to. */
+    private long loadIndex() throws IOException {
+      final long indexSize = index.size();
+      final ByteBuffer buffer =
+          ByteBuffer.allocate(INDEX_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      long indexedEnd = 0;
+      long position = 0;
+      while (position + INDEX_ENTRY_SIZE <= indexSize) {
+        buffer.clear();
+        readFully(index, buffer, position);
+        buffer.flip();
+        final DataColumnSlotAndIdentifier identifier = readIdentifier(buffer);
+        final long offset = buffer.getLong();
+        final int length = buffer.getInt();
+        if (length == TOMBSTONE_LENGTH) {
+          entries.remove(identifier);
+        } else if (length < 0 || offset + length > dataSize) {
+          // Entry was written but the data it refers to was not
+          break;
+        } else {
+          entries.put(identifier, new Location(offset, length));
+          indexedEnd = Math.max(indexedEnd, offset + length);
+        }
+        position += INDEX_ENTRY_SIZE;
+      }
+      if (position < indexSize) {
+        LOG.warn("Truncating incomplete entries at offset {} of {}", position, indexPath);
+        index.truncate(position);
+      }
+      index.position(position);
+      return indexedEnd;
+    }
+
+    /**
+     * Adds index entries for complete data records after {@code offset} and truncates a torn
+     * trailing record so appends start from a record boundary.
+     */
+    private void recoverUnindexedRecords(final long startOffset) throws IOException {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      long offset = startOffset;
+      while (offset + HEADER_SIZE <= dataSize) {
+        header.clear();
+        readFully(data, header, offset);
+        header.flip();
+        final DataColumnSlotAndIdentifier identifier = readIdentifier(header);
+        final int length = header.getInt();
+        if (length < 0 || offset + HEADER_SIZE + length > dataSize) {
+          break;
+        }
+        final Location location = new Location(offset + HEADER_SIZE, length);
+        writeFully(index, createIndexEntry(identifier, location), Bytes.EMPTY);
+        entries.put(identifier, location);
+        dirty = true;
+        offset += HEADER_SIZE + length;
+      }
+      if (offset < dataSize) {
+        LOG.warn(
+            "Truncating incomplete record at offset {} of data column sidecar segment {}",
+            offset,
+            dataPath);
+        data.truncate(offset);
+        dataSize = offset;
+      }
+      data.position(dataSize);
+    }
+
+    private static FileChannel openChannel(final Path path) throws IOException {
+      return FileChannel.open(
+          path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static DataColumnSlotAndIdentifier readIdentifier(final ByteBuffer buffer) {
+      final UInt64 slot = UInt64.fromLongBits(buffer.getLong());
+      final byte[] root = new byte[Bytes32.SIZE];
+      buffer.get(root);
+      final UInt64 columnIndex = UInt64.fromLongBits(buffer.getLong());
+      return new DataColumnSlotAndIdentifier(slot, Bytes32.wrap(root), columnIndex);
+    }
+
+    private static ByteBuffer createHeader(
+        final DataColumnSlotAndIdentifier identifier, final int length) {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      writeIdentifier(header, identifier);
+      header.putInt(length);
+      return header.flip();
+    }
+
+    private static ByteBuffer createIndexEntry(
+        final DataColumnSlotAndIdentifier identifier, final Location location) {
+      final ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      writeIdentifier(entry, identifier);
+      entry.putLong(location.offset());
+      entry.putInt(location.length());
+      return entry.flip();
+    }
+
+    private static void writeIdentifier(
+        final ByteBuffer buffer, final DataColumnSlotAndIdentifier identifier) {
+      buffer.putLong(identifier.slot().longValue());
+      buffer.put(identifier.blockRoot().toArrayUnsafe());
+      buffer.putLong(identifier.columnIndex().longValue());
+    }
+
+    private static void writeFully(
+        final FileChannel channel, final ByteBuffer header, final Bytes payload)
+        throws IOException {
+      final ByteBuffer[] buffers = {header, ByteBuffer.wrap(payload.toArrayUnsafe())};
+      final long expected = header.remaining() + (long) payload.size();
+      long written = 0;
+      while (written < expected) {
+        written += channel.write(buffers);
+      }
+    }
+
+    private static void readFully(
+        final FileChannel channel, final ByteBuffer buffer, final long offset) throws IOException {
+      long position = offset;
+      while (buffer.hasRemaining()) {
+        final int read = channel.read(buffer, position);
+        if (read < 0) {
+          throw new IOException("Unexpected end of file");
+        }
+        position += read;
+      }
+    }
+  }
+}
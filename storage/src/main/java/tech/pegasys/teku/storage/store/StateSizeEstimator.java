@@ -0,0 +1,66 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.LazyBranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
+
+/**
+ * Estimates the heap retained by a state's backing tree.
+ *
+ * <p>Consecutive states share most of their tree nodes, so the size is estimated relative to a
+ * baseline tree: any subtree that is the same instance as the subtree at the same position in the
+ * baseline is assumed to already be paid for and contributes nothing. Zero subtrees are global
+ * singletons and are also free. Lazily loaded branches are counted as a single node rather than
+ * descended, which would otherwise pull their children from the database.
+ */
+class StateSizeEstimator {
+  // Object header, references and the cached hash (Bytes32 wrapper plus backing array)
+  static final long BRANCH_NODE_BYTES = 96;
+  static final long LEAF_NODE_BYTES = 80;
+
+  private StateSizeEstimator() {}
+
+  static long estimateSize(final TreeNode node) {
+    return estimateSize(node, null);
+  }
+
+  static long estimateSize(final TreeNode node, final TreeNode baseline) {
+    if (node == baseline
+        || node instanceof TreeUtil.ZeroBranchNode
+        || node instanceof TreeUtil.ZeroLeafNode) {
+      return 0;
+    }
+    if (node instanceof LazyBranchNode) {
+      return BRANCH_NODE_BYTES;
+    }
+    if (node instanceof BranchNode branchNode) {
+      final BranchNode baselineBranch =
+          baseline instanceof BranchNode branch && !(baseline instanceof LazyBranchNode)
+              ? branch
+              : null;
+      return BRANCH_NODE_BYTES
+          + estimateSize(branchNode.left(), baselineBranch == null ? null : baselineBranch.left())
+          + estimateSize(
+              branchNode.right(), baselineBranch == null ? null : baselineBranch.right());
+    }
+    if (node instanceof LeafDataNode leafNode) {
+      return LEAF_NODE_BYTES + leafNode.getData().size();
+    }
+    return LEAF_NODE_BYTES;
+  }
+}
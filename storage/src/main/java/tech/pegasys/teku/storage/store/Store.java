@@ -233,8 +233,20 @@ class Store extends CacheableStore {
             "memory_checkpoint_states",
             config.getCheckpointStateCacheSize());
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+        config.getStateCacheMaxBytes() > 0
+            ? CachingTaskQueue.create(
+                asyncRunner,
+                metricsSystem,
+                "memory_states",
+                new TieredStateCache(
+                    spec,
+                    asyncRunner,
+                    metricsSystem,
+                    "memory_states",
+                    config.getStateCacheMaxBytes(),
+                    config.getWarmStateCacheMaxBytes()))
+            : CachingTaskQueue.create(
+                asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
     final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates =
         config.getEpochStateCacheSize() > 0
             ? Optional.of(LimitedMap.createSynchronizedLRU(config.getEpochStateCacheSize()))
@@ -32,6 +32,10 @@ public class StoreConfig {
 
   public static final int DEFAULT_EARLIEST_AVAILABLE_BLOCK_SLOT_QUERY_FREQUENCY = 0;
 
+  // Zero disables byte based state caching in favour of the count based stateCacheSize
+  public static final long DEFAULT_STATE_CACHE_MAX_BYTES = 0;
+  public static final long DEFAULT_WARM_STATE_CACHE_MAX_BYTES = 0;
+
   private final int stateCacheSize;
 
   private final int epochStateCacheSize;
@@ -40,6 +44,8 @@ public class StoreConfig {
   private final int hotStatePersistenceFrequencyInEpochs;
   private final int earliestAvailableBlockSlotFrequency;
   private final Optional<Bytes32> initialCanonicalBlockRoot;
+  private final long stateCacheMaxBytes;
+  private final long warmStateCacheMaxBytes;
 
   private StoreConfig(
       final int stateCacheSize,
@@ -48,7 +54,9 @@ public class StoreConfig {
       final int hotStatePersistenceFrequencyInEpochs,
       final int earliestAvailableBlockSlotFrequency,
       final int epochStateCacheSize,
-      final Optional<Bytes32> initialCanonicalBlockRoot) {
+      final Optional<Bytes32> initialCanonicalBlockRoot,
+      final long stateCacheMaxBytes,
+      final long warmStateCacheMaxBytes) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
@@ -56,6 +64,8 @@ public class StoreConfig {
     this.earliestAvailableBlockSlotFrequency = earliestAvailableBlockSlotFrequency;
     this.epochStateCacheSize = epochStateCacheSize;
     this.initialCanonicalBlockRoot = initialCanonicalBlockRoot;
+    this.stateCacheMaxBytes = stateCacheMaxBytes;
+    this.warmStateCacheMaxBytes = warmStateCacheMaxBytes;
   }
 
   public static Builder builder() {
@@ -94,6 +104,14 @@ public class StoreConfig {
     return initialCanonicalBlockRoot;
   }
 
+  public long getStateCacheMaxBytes() {
+    return stateCacheMaxBytes;
+  }
+
+  public long getWarmStateCacheMaxBytes() {
+    return warmStateCacheMaxBytes;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -108,6 +126,8 @@ public class StoreConfig {
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
         && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && stateCacheMaxBytes == that.stateCacheMaxBytes
+        && warmStateCacheMaxBytes == that.warmStateCacheMaxBytes
         && Objects.equals(initialCanonicalBlockRoot, that.initialCanonicalBlockRoot);
   }
 
@@ -119,7 +139,9 @@ public class StoreConfig {
         blockCacheSize,
         checkpointStateCacheSize,
         hotStatePersistenceFrequencyInEpochs,
-        initialCanonicalBlockRoot);
+        initialCanonicalBlockRoot,
+        stateCacheMaxBytes,
+        warmStateCacheMaxBytes);
   }
 
   public static class Builder {
@@ -132,6 +154,8 @@ public class StoreConfig {
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private int earliestAvailableBlockSlotFrequency = 0;
     private Optional<Bytes32> initialCanonicalBlockRoot = Optional.empty();
+    private long stateCacheMaxBytes = DEFAULT_STATE_CACHE_MAX_BYTES;
+    private long warmStateCacheMaxBytes = DEFAULT_WARM_STATE_CACHE_MAX_BYTES;
 
     private Builder() {}
 
@@ -143,7 +167,9 @@ public class StoreConfig {
           hotStatePersistenceFrequencyInEpochs,
           earliestAvailableBlockSlotFrequency,
           epochStateCacheSize,
-          initialCanonicalBlockRoot);
+          initialCanonicalBlockRoot,
+          stateCacheMaxBytes,
+          warmStateCacheMaxBytes);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -170,6 +196,18 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder stateCacheMaxBytes(final long stateCacheMaxBytes) {
+      checkArgument(stateCacheMaxBytes >= 0, "State cache max bytes cannot be negative");
+      this.stateCacheMaxBytes = stateCacheMaxBytes;
+      return this;
+    }
+
+    public Builder warmStateCacheMaxBytes(final long warmStateCacheMaxBytes) {
+      checkArgument(warmStateCacheMaxBytes >= 0, "Warm state cache max bytes cannot be negative");
+      this.warmStateCacheMaxBytes = warmStateCacheMaxBytes;
+      return this;
+    }
+
     public Builder initialCanonicalBlockRoot(final String initialCanonicalBlockRoot) {
       if (initialCanonicalBlockRoot != null) {
         this.initialCanonicalBlockRoot =
@@ -0,0 +1,408 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import org.xerial.snappy.Snappy;
+import tech.pegasys.teku.dataproviders.generators.CachingTaskQueue.ResultCache;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+
+/**
+ * A state cache bounded by an estimated number of bytes rather than a number of states.
+ *
+ * <ul>
+ *   <li>The hot tier holds live states. Each state is charged only for the tree nodes it does not
+ *       share with its parent state (or the most recently used state when the parent isn't
+ *       cached), see {@link StateSizeEstimator}. When the state it was measured against leaves the
+ *       hot tier, the state is measured again against another one.
+ *   <li>When the hot tier exceeds its budget the least recently used states are demoted to the warm
+ *       tier, which holds them as snappy compressed SSZ. A compressed state shares nothing with the
+ *       hot tier, so it is charged the full size of its compressed bytes. Warm entries are only
+ *       returned via {@link #load(Bytes32)}, which deserializes the state and promotes it back to
+ *       the hot tier. A deserialized state has a tree of its own, so it is charged its full size.
+ *   <li>States evicted from the warm tier are dropped and have to be regenerated from the
+ *       database, which is counted by the owning {@link
+ *       tech.pegasys.teku.dataproviders.generators.CachingTaskQueue}.
+ * </ul>
+ *
+ * <p>Callers add states while holding the store lock, so size estimation, demotion and promotion
+ * all run on the async runner. The hot tier may briefly exceed its budget until that catches up.
+ *
+ * <p>Sizes are estimates of the retained tree nodes, not exact heap usage.
+ */
+class TieredStateCache implements ResultCache<Bytes32, StateAndBlockSummary> {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final AsyncRunner asyncRunner;
+  private final long hotMaxBytes;
+  private final long warmMaxBytes;
+
+  // Insertion ordered so probing for a baseline doesn't count as a use, see touchWhileLocked
+  private final LinkedHashMap<Bytes32, HotEntry> hot = new LinkedHashMap<>();
+  private final LinkedHashMap<Bytes32, Bytes> warm = new LinkedHashMap<>(16, 0.75f, true);
+  private final Set<Bytes32> demoting = new HashSet<>();
+  private long hotBytes = 0;
+  private long warmBytes = 0;
+
+  private final Counter hotHitCounter;
+  private final Counter warmHitCounter;
+  private final Counter missCounter;
+  private final Counter demotedCounter;
+  private final Counter evictedCounter;
+
+  TieredStateCache(
+      final Spec spec,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final long hotMaxBytes,
+      final long warmMaxBytes) {
+    this.spec = spec;
+    this.asyncRunner = asyncRunner;
+    this.hotMaxBytes = hotMaxBytes;
+    this.warmMaxBytes = warmMaxBytes;
+
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            metricsPrefix + "_cache_requests_total",
+            "Total number of state cache lookups by the tier that served them",
+            "result");
+    hotHitCounter = requestCounter.labels("hot_hit");
+    warmHitCounter = requestCounter.labels("warm_hit");
+    missCounter = requestCounter.labels("miss");
+
+    final LabelledMetric<Counter> evictionCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.STORAGE,
+            metricsPrefix + "_cache_evictions_total",
+            "Total number of states moved out of the state cache tiers",
+            "type");
+    demotedCounter = evictionCounter.labels("demoted");
+    evictedCounter = evictionCounter.labels("evicted");
+
+    final LabelledSuppliedMetric bytesGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.STORAGE,
+            metricsPrefix + "_cache_bytes",
+            "Estimated number of bytes held by each state cache tier",
+            "tier");
+    bytesGauge.labels(this::getHotBytes, "hot");
+    bytesGauge.labels(this::getWarmBytes, "warm");
+  }
+
+  /**
+   * Returns the state if it is in the hot tier. Nothing is counted here because this is also used
+   * to probe for ancestors to rebase on.
+   */
+  @Override
+  public synchronized StateAndBlockSummary get(final Bytes32 key) {
+    final HotEntry entry = touchWhileLocked(key);
+    return entry == null ? null : entry.value;
+  }
+
+  /** Moves the entry to the most recently used end of the hot tier. */
+  private HotEntry touchWhileLocked(final Bytes32 key) {
+    final HotEntry entry = hot.remove(key);
+    if (entry != null) {
+      hot.put(key, entry);
+    }
+    return entry;
+  }
+
+  /** Returns the state if it is in the hot tier and counts the hit. Misses are counted by load. */
+  @Override
+  public synchronized StateAndBlockSummary lookup(final Bytes32 key) {
+    final StateAndBlockSummary value = get(key);
+    if (value != null) {
+      hotHitCounter.inc();
+    }
+    return value;
+  }
+
+  @Override
+  public Optional<SafeFuture<Optional<StateAndBlockSummary>>> load(final Bytes32 key) {
+    final Bytes compressed;
+    synchronized (this) {
+      compressed = warm.remove(key);
+      if (compressed == null) {
+        missCounter.inc();
+        return Optional.empty();
+      }
+      warmBytes -= compressed.size();
+    }
+    warmHitCounter.inc();
+    return Optional.of(
+        asyncRunner
+            .runAsync(() -> Optional.of(decompress(compressed)))
+            .thenPeek(value -> add(key, new HotEntry(value.orElseThrow(), true)))
+            .exceptionally(
+                error -> {
+                  LOG.warn("Failed to decompress cached state {}", key, error);
+                  return Optional.empty();
+                }));
+  }
+
+  private StateAndBlockSummary decompress(final Bytes compressed) throws IOException {
+    return StateAndBlockSummary.create(
+        spec.deserializeBeaconState(Bytes.wrap(Snappy.uncompress(compressed.toArrayUnsafe()))));
+  }
+
+  @Override
+  public void put(final Bytes32 key, final StateAndBlockSummary value) {
+    add(key, new HotEntry(value, false));
+  }
+
+  private void add(final Bytes32 key, final HotEntry entry) {
+    final List<HotEntry> dependents;
+    synchronized (this) {
+      dependents = removeWhileLocked(key);
+      hot.put(key, entry);
+    }
+    charge(entry);
+    dependents.forEach(this::charge);
+  }
+
+  private void charge(final HotEntry entry) {
+    asyncRunner
+        .runAsync(() -> chargeAndEvict(entry))
+        .finish(error -> LOG.error("Failed to update state cache size", error));
+  }
+
+  private void chargeAndEvict(final HotEntry entry) {
+    final Optional<HotEntry> baseline = entry.standalone ? Optional.empty() : getBaseline(entry);
+    final long size =
+        StateSizeEstimator.estimateSize(
+            entry.value.getState().getBackingNode(),
+            baseline.map(base -> base.value.getState().getBackingNode()).orElse(null));
+
+    final List<Map.Entry<Bytes32, StateAndBlockSummary>> demoted = new ArrayList<>();
+    final List<HotEntry> dependents = new ArrayList<>();
+    synchronized (this) {
+      if (entry.removed) {
+        return;
+      }
+      if (baseline.isPresent() && baseline.get().removed) {
+        // Measured against a state which has left the hot tier in the meantime
+        dependents.add(entry);
+      }
+      hotBytes += size - entry.size;
+      entry.size = size;
+      entry.baseline = baseline.orElse(null);
+      final Iterator<Map.Entry<Bytes32, HotEntry>> iterator = hot.entrySet().iterator();
+      while (hotBytes > hotMaxBytes && hot.size() > 1) {
+        final Map.Entry<Bytes32, HotEntry> eldest = iterator.next();
+        iterator.remove();
+        markRemovedWhileLocked(eldest.getValue());
+        if (warmMaxBytes > 0) {
+          demoting.add(eldest.getKey());
+          demoted.add(Map.entry(eldest.getKey(), eldest.getValue().value));
+        } else {
+          evictedCounter.inc();
+        }
+      }
+      dependents.addAll(findDependentsWhileLocked());
+    }
+
+    dependents.forEach(this::charge);
+    demoted.forEach(demotedEntry -> demote(demotedEntry.getKey(), demotedEntry.getValue()));
+  }
+
+  private synchronized Optional<HotEntry> getBaseline(final HotEntry entry) {
+    final HotEntry parent = hot.get(entry.value.getParentRoot());
+    if (parent != null) {
+      return Optional.of(parent);
+    }
+    // The entry has already been added so skip over it to find the previous most recent state
+    return hot.sequencedValues().reversed().stream()
+        .filter(candidate -> candidate != entry)
+        .findFirst();
+  }
+
+  private void markRemovedWhileLocked(final HotEntry entry) {
+    entry.removed = true;
+    hotBytes -= entry.size;
+    entry.size = 0;
+  }
+
+  /** Returns the hot entries which were measured against a state that has left the hot tier. */
+  private List<HotEntry> findDependentsWhileLocked() {
+    final List<HotEntry> dependents = new ArrayList<>();
+    for (final HotEntry candidate : hot.values()) {
+      if (candidate.baseline != null && candidate.baseline.removed) {
+        // Clear the baseline so the entry is only queued for measuring once
+        candidate.baseline = null;
+        dependents.add(candidate);
+      }
+    }
+    return dependents;
+  }
+
+  private void demote(final Bytes32 key, final StateAndBlockSummary value) {
+    final Bytes compressed;
+    try {
+      compressed = Bytes.wrap(Snappy.compress(value.getState().sszSerialize().toArrayUnsafe()));
+    } catch (final IOException e) {
+      LOG.warn("Failed to compress state {} for caching", key, e);
+      synchronized (this) {
+        demoting.remove(key);
+      }
+      evictedCounter.inc();
+      return;
+    }
+
+    synchronized (this) {
+      if (!demoting.remove(key)) {
+        // Removed or re-added while we were compressing
+        return;
+      }
+      demotedCounter.inc();
+      final Bytes previous = warm.put(key, compressed);
+      if (previous != null) {
+        warmBytes -= previous.size();
+      }
+      warmBytes += compressed.size();
+      final Iterator<Map.Entry<Bytes32, Bytes>> iterator = warm.entrySet().iterator();
+      while (warmBytes > warmMaxBytes && iterator.hasNext()) {
+        final Map.Entry<Bytes32, Bytes> eldest = iterator.next();
+        iterator.remove();
+        warmBytes -= eldest.getValue().size();
+        evictedCounter.inc();
+      }
+    }
+  }
+
+  @Override
+  public void remove(final Bytes32 key) {
+    final List<HotEntry> dependents;
+    synchronized (this) {
+      dependents = removeWhileLocked(key);
+    }
+    dependents.forEach(this::charge);
+  }
+
+  private List<HotEntry> removeWhileLocked(final Bytes32 key) {
+    final HotEntry hotEntry = hot.remove(key);
+    final Bytes warmEntry = warm.remove(key);
+    if (warmEntry != null) {
+      warmBytes -= warmEntry.size();
+    }
+    demoting.remove(key);
+    if (hotEntry == null) {
+      return List.of();
+    }
+    markRemovedWhileLocked(hotEntry);
+    return findDependentsWhileLocked();
+  }
+
+  @Override
+  public void removeIf(final Predicate<Bytes32> removalCondition) {
+    final List<HotEntry> dependents;
+    synchronized (this) {
+      removeIfWhileLocked(removalCondition);
+      dependents = findDependentsWhileLocked();
+    }
+    dependents.forEach(this::charge);
+  }
+
+  private void removeIfWhileLocked(final Predicate<Bytes32> removalCondition) {
+    hot.entrySet()
+        .removeIf(
+            entry -> {
+              if (removalCondition.test(entry.getKey())) {
+                markRemovedWhileLocked(entry.getValue());
+                return true;
+              }
+              return false;
+            });
+    warm.entrySet()
+        .removeIf(
+            entry -> {
+              if (removalCondition.test(entry.getKey())) {
+                warmBytes -= entry.getValue().size();
+                return true;
+              }
+              return false;
+            });
+    demoting.removeIf(removalCondition);
+  }
+
+  @Override
+  public synchronized void clear() {
+    hot.values().forEach(entry -> entry.removed = true);
+    hot.clear();
+    warm.clear();
+    demoting.clear();
+    hotBytes = 0;
+    warmBytes = 0;
+  }
+
+  @Override
+  public synchronized int size() {
+    return hot.size() + warm.size();
+  }
+
+  synchronized long getHotBytes() {
+    return hotBytes;
+  }
+
+  synchronized long getWarmBytes() {
+    return warmBytes;
+  }
+
+  synchronized boolean isHot(final Bytes32 key) {
+    return hot.containsKey(key);
+  }
+
+  synchronized boolean isWarm(final Bytes32 key) {
+    return warm.containsKey(key);
+  }
+
+  /** Size, baseline and removal flag are only accessed while holding the cache lock. */
+  private static class HotEntry {
+    private final StateAndBlockSummary value;
+    // Whether the state was deserialized and so shares no tree nodes with other states
+    private final boolean standalone;
+    private HotEntry baseline;
+    private long size = 0;
+    private boolean removed = false;
+
+    private HotEntry(final StateAndBlockSummary value, final boolean standalone) {
+      this.value = value;
+      this.standalone = standalone;
+    }
+  }
+}
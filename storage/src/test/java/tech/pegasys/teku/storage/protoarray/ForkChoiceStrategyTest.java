@@ -395,6 +395,24 @@ public class ForkChoiceStrategyTest extends AbstractBlockMetadataStoreTest {
     assertThat(bestHead).isEqualTo(block4.getRoot());
   }
 
+  @Test
+  void findHead_shouldNotReturnPreviousHeadAfterBlocksAdded() {
+    final StorageSystem storageSystem = initStorageSystem();
+    final RecentChainData recentChainData = storageSystem.recentChainData();
+    final ForkChoiceStrategy strategy = getProtoArray(storageSystem);
+    final UInt64 currentEpoch = recentChainData.getCurrentEpoch().orElseThrow();
+    final Checkpoint justified = recentChainData.getJustifiedCheckpoint().orElseThrow();
+    final Checkpoint finalized = recentChainData.getFinalizedCheckpoint().orElseThrow();
+
+    assertThat(strategy.findHead(currentEpoch, justified, finalized).getBlockRoot())
+        .isEqualTo(finalized.getRoot());
+
+    final SignedBlockAndState block1 = storageSystem.chainUpdater().addNewBestBlock();
+
+    assertThat(strategy.findHead(currentEpoch, justified, finalized))
+        .isEqualTo(new SlotAndBlockRoot(block1.getSlot(), block1.getRoot()));
+  }
+
   @Test
   void executionBlockNumber_shouldBeEmptyForUnknownBlock() {
     final StorageSystem storageSystem = initStorageSystem(TestSpecFactory.createMinimalBellatrix());
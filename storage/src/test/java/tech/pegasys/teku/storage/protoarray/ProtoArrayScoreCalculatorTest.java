@@ -42,8 +42,8 @@ public class ProtoArrayScoreCalculatorTest {
   private UInt64 newProposerBoostAmount = ZERO;
   private final VoteUpdater store = createStoreToManipulateVotes();
 
-  private Optional<Integer> getIndex(final Bytes32 root) {
-    return Optional.ofNullable(indices.get(root));
+  private int getIndex(final Bytes32 root) {
+    return indices.getOrDefault(root, ProtoNode.NO_INDEX);
   }
 
   @Test
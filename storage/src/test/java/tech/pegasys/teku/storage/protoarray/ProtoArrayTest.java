@@ -609,7 +609,7 @@ class ProtoArrayTest {
     return ProtoArrayScoreCalculator.computeDeltas(
         voteUpdater,
         protoArray.getTotalTrackedNodeCount(),
-        protoArray::getIndexByRoot,
+        protoArray::getIndexByRootUnboxed,
         balances,
         balances,
         Optional.empty(),
@@ -0,0 +1,71 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateHashCacheTest {
+
+  private final Spec spec = TestSpecFactory.createDefault();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState state = dataStructureUtil.randomBeaconState(UInt64.valueOf(100));
+
+  @Test
+  void shouldRestoreHashesCapturedFromSameState() {
+    final Bytes32 expectedRoot = state.hashTreeRoot();
+    final Bytes cache = StateHashCache.capture(state);
+
+    final BeaconState loadedState = reload(state);
+
+    assertThat(StateHashCache.restore(loadedState, cache)).isPositive();
+    assertThat(loadedState.hashTreeRoot()).isEqualTo(expectedRoot);
+  }
+
+  @Test
+  void shouldRejectCacheCapturedFromDifferentState() {
+    state.hashTreeRoot();
+    final Bytes cache = StateHashCache.capture(state);
+    final BeaconState otherState = state.updated(mutableState -> mutableState.setSlot(UInt64.ONE));
+    final Bytes32 expectedRoot = otherState.hashTreeRoot();
+
+    final BeaconState loadedState = reload(otherState);
+
+    assertThat(StateHashCache.restore(loadedState, cache)).isZero();
+    assertThat(loadedState.hashTreeRoot()).isEqualTo(expectedRoot);
+  }
+
+  @Test
+  void shouldRejectTruncatedCache() {
+    state.hashTreeRoot();
+    final Bytes cache = StateHashCache.capture(state);
+
+    final BeaconState loadedState = reload(state);
+
+    assertThat(StateHashCache.restore(loadedState, cache.slice(0, 10))).isZero();
+    assertThat(loadedState.hashTreeRoot()).isEqualTo(state.hashTreeRoot());
+  }
+
+  private BeaconState reload(final BeaconState state) {
+    return spec.deserializeBeaconState(state.sszSerialize());
+  }
+}
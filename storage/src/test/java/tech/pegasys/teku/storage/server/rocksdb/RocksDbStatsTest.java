@@ -16,10 +16,12 @@ package tech.pegasys.teku.storage.server.rocksdb;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
@@ -27,10 +29,14 @@ import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
+import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 class RocksDbStatsTest {
 
@@ -57,4 +63,32 @@ class RocksDbStatsTest {
       assertThat(metrics).isNotEmpty();
     }
   }
+
+  @Test
+  void shouldReportColumnFamilyPropertiesLabelledByColumnAndProfile() throws Exception {
+    final ObservableMetricsSystem metricsSystem =
+        new PrometheusMetricsSystem(Set.of(TekuMetricCategory.STORAGE_HOT_DB), true);
+    final KvStoreColumn<?, ?> column =
+        KvStoreColumn.create(
+            0x12,
+            KvStoreSerializer.UINT64_SERIALIZER,
+            KvStoreSerializer.BYTES_SERIALIZER,
+            KvStoreColumnProfile.WRITE_ONCE_BLOB);
+    final ColumnFamilyHandle handle = mock(ColumnFamilyHandle.class);
+    when(database.getLongProperty(eq(handle), any())).thenReturn(42L);
+
+    try (RocksDbStats stats = new RocksDbStats(metricsSystem, TekuMetricCategory.STORAGE_HOT_DB)) {
+      stats.registerColumnFamilyMetrics(database, Map.of(column, handle));
+
+      final List<Observation> metrics =
+          metricsSystem
+              .streamObservations(TekuMetricCategory.STORAGE_HOT_DB)
+              .filter(
+                  observation -> observation.metricName().equals("column_family_estimated_keys"))
+              .toList();
+      assertThat(metrics).hasSize(1);
+      assertThat(metrics.getFirst().labels()).containsExactly("0x12", "write_once_blob");
+      assertThat(metrics.getFirst().value()).isEqualTo(42.0);
+    }
+  }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class DataColumnSidecarSegmentStoreTest {
+  private static final int SLOTS_PER_SEGMENT = 8;
+
+  private final Spec spec = TestSpecFactory.createMinimalFulu();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @TempDir Path directory;
+
+  private DataColumnSidecarSegmentStore store;
+
+  @AfterEach
+  void tearDown() {
+    if (store != null) {
+      store.close();
+    }
+  }
+
+  @Test
+  void shouldReadBackAddedSidecars() {
+    store = open();
+    final DataColumnSidecar sidecar1 = createSidecar(1, 0);
+    final DataColumnSidecar sidecar2 = createSidecar(9, 3);
+    store.addSidecar(sidecar1);
+    store.addSidecar(sidecar2);
+
+    assertThat(store.getSidecar(identifier(sidecar1))).contains(sidecar1.sszSerialize());
+    assertThat(store.getSidecar(identifier(sidecar2))).contains(sidecar2.sszSerialize());
+    assertThat(store.getDataColumnIdentifiers(UInt64.ZERO, UInt64.valueOf(8)))
+        .containsExactly(identifier(sidecar1));
+    assertThat(store.getEarliestSlot()).contains(UInt64.ONE);
+    assertThat(store.getSegmentCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReturnNoIdentifiersForInvertedSlotRange() {
+    store = open();
+    store.addSidecar(createSidecar(1, 0));
+    store.addSidecar(createSidecar(9, 3));
+
+    assertThat(store.getDataColumnIdentifiers(UInt64.valueOf(9), UInt64.ONE)).isEmpty();
+  }
+
+  @Test
+  void shouldRebuildIndexWhenReopened() {
+    store = open();
+    final DataColumnSidecar sidecar1 = createSidecar(2, 0);
+    final DataColumnSidecar sidecar2 = createSidecar(2, 1);
+    store.addSidecar(sidecar1);
+    store.addSidecar(sidecar2);
+    store.removeSidecar(identifier(sidecar1));
+    store.close();
+
+    store = open();
+    assertThat(store.getSidecar(identifier(sidecar1))).isEmpty();
+    assertThat(store.getSidecar(identifier(sidecar2))).contains(sidecar2.sszSerialize());
+  }
+
+  @Test
+  void shouldDropIncompleteTrailingRecordWhenReopened() throws IOException {
+    store = open();
+    final DataColumnSidecar sidecar = createSidecar(3, 0);
+    store.addSidecar(sidecar);
+    store.close();
+    Files.write(
+        directory.resolve("0" + DataColumnSidecarSegmentStore.SEGMENT_FILE_SUFFIX),
+        new byte[] {1, 2, 3},
+        StandardOpenOption.APPEND);
+
+    store = open();
+    final DataColumnSidecar sidecar2 = createSidecar(4, 0);
+    store.addSidecar(sidecar2);
+    store.close();
+
+    store = open();
+    assertThat(store.getSidecar(identifier(sidecar))).contains(sidecar.sszSerialize());
+    assertThat(store.getSidecar(identifier(sidecar2))).contains(sidecar2.sszSerialize());
+  }
+
+  @Test
+  void shouldReindexRecordsMissingFromIndexFile() throws IOException {
+    store = open();
+    final DataColumnSidecar sidecar1 = createSidecar(3, 0);
+    final DataColumnSidecar sidecar2 = createSidecar(3, 1);
+    store.addSidecar(sidecar1);
+    store.addSidecar(sidecar2);
+    store.close();
+    // Simulate a crash between writing the data record and its index entry
+    final Path indexFile = directory.resolve("0" + DataColumnSidecarSegmentStore.INDEX_FILE_SUFFIX);
+    Files.write(indexFile, Arrays.copyOf(Files.readAllBytes(indexFile), 10));
+
+    store = open();
+    assertThat(store.getSidecar(identifier(sidecar1))).contains(sidecar1.sszSerialize());
+    assertThat(store.getSidecar(identifier(sidecar2))).contains(sidecar2.sszSerialize());
+  }
+
+  @Test
+  void shouldOnlyLoadAccessedSegments() {
+    store = open();
+    final int segmentCount = DataColumnSidecarSegmentStore.MAX_LOADED_SEGMENTS + 2;
+    final List<DataColumnSidecar> sidecars = new ArrayList<>();
+    for (int i = 0; i < segmentCount; i++) {
+      final DataColumnSidecar sidecar = createSidecar((long) i * SLOTS_PER_SEGMENT, 0);
+      sidecars.add(sidecar);
+      store.addSidecar(sidecar);
+    }
+    assertThat(store.getLoadedSegmentCount())
+        .isEqualTo(DataColumnSidecarSegmentStore.MAX_LOADED_SEGMENTS);
+    store.close();
+
+    store = open();
+    assertThat(store.getSegmentCount()).isEqualTo(segmentCount);
+    assertThat(store.getLoadedSegmentCount()).isZero();
+
+    assertThat(store.getSidecar(identifier(sidecars.get(1))))
+        .contains(sidecars.get(1).sszSerialize());
+    assertThat(store.getLoadedSegmentCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReturnEmptyForSidecarInDeletedSegment() {
+    store = open();
+    final DataColumnSidecar sidecar = createSidecar(1, 0);
+    store.addSidecar(sidecar);
+    assertThat(store.getSidecar(identifier(sidecar))).isPresent();
+
+    store.pruneAllSidecars(UInt64.valueOf(SLOTS_PER_SEGMENT - 1));
+
+    assertThat(store.getSidecar(identifier(sidecar))).isEmpty();
+    assertThat(store.getSegmentCount()).isZero();
+    assertThat(directory.resolve("0" + DataColumnSidecarSegmentStore.INDEX_FILE_SUFFIX))
+        .doesNotExist();
+  }
+
+  @Test
+  void pruneShouldDeleteCompleteSegmentsAndTombstoneTheRest() {
+    store = open();
+    final DataColumnSidecar sidecar1 = createSidecar(1, 0);
+    final DataColumnSidecar sidecar2 = createSidecar(9, 0);
+    final DataColumnSidecar sidecar3 = createSidecar(12, 0);
+    store.addSidecar(sidecar1);
+    store.addSidecar(sidecar2);
+    store.addSidecar(sidecar3);
+
+    store.pruneAllSidecars(UInt64.valueOf(10));
+
+    assertThat(store.getSegmentCount()).isEqualTo(1);
+    assertThat(store.getSidecar(identifier(sidecar1))).isEmpty();
+    assertThat(store.getSidecar(identifier(sidecar2))).isEmpty();
+    assertThat(store.getEarliestSlot()).contains(UInt64.valueOf(12));
+
+    store.close();
+    store = open();
+    assertThat(store.getSidecar(identifier(sidecar2))).isEmpty();
+    assertThat(store.getSidecar(identifier(sidecar3))).contains(sidecar3.sszSerialize());
+  }
+
+  private DataColumnSidecarSegmentStore open() {
+    return DataColumnSidecarSegmentStore.open(directory, SLOTS_PER_SEGMENT);
+  }
+
+  private DataColumnSidecar createSidecar(final long slot, final long index) {
+    return dataStructureUtil.randomDataColumnSidecar(
+        dataStructureUtil.randomSignedBeaconBlockHeader(UInt64.valueOf(slot)),
+        UInt64.valueOf(index));
+  }
+
+  private static DataColumnSlotAndIdentifier identifier(final DataColumnSidecar sidecar) {
+    return new DataColumnSlotAndIdentifier(
+        sidecar.getSlot(), sidecar.getBlockRoot(), sidecar.getIndex());
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+
+class TieredStateCacheTest {
+  private static final String METRICS_PREFIX = "stub";
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+
+  private final SignedBlockAndState genesis = chainBuilder.generateGenesis();
+  private final List<SignedBlockAndState> blocks = chainBuilder.generateBlocksUpToSlot(3);
+  private final long fullStateSize =
+      StateSizeEstimator.estimateSize(genesis.getState().getBackingNode());
+
+  @Test
+  void shouldReturnCachedStateFromHotTier() {
+    final TieredStateCache cache = createCache(fullStateSize * 4, 0);
+    final StateAndBlockSummary value = StateAndBlockSummary.create(genesis);
+    cache.put(genesis.getRoot(), value);
+
+    assertThat(cache.lookup(genesis.getRoot())).isSameAs(value);
+    assertThat(cache.isHot(genesis.getRoot())).isTrue();
+    assertRequestCount("hot_hit", 1);
+  }
+
+  @Test
+  void shouldNotCountProbesAsHits() {
+    final TieredStateCache cache = createCache(fullStateSize * 4, 0);
+    final StateAndBlockSummary value = StateAndBlockSummary.create(genesis);
+    cache.put(genesis.getRoot(), value);
+
+    assertThat(cache.get(genesis.getRoot())).isSameAs(value);
+    assertRequestCount("hot_hit", 0);
+  }
+
+  @Test
+  void shouldRechargeChildStateWhenParentIsRemoved() {
+    final TieredStateCache cache = createCache(fullStateSize * 4, 0);
+    cache.put(genesis.getRoot(), StateAndBlockSummary.create(genesis));
+    asyncRunner.executeUntilDone();
+    final SignedBlockAndState child = blocks.get(0);
+    cache.put(child.getRoot(), StateAndBlockSummary.create(child));
+    asyncRunner.executeUntilDone();
+    assertThat(cache.getHotBytes()).isLessThan(fullStateSize * 2);
+
+    cache.remove(genesis.getRoot());
+    asyncRunner.executeUntilDone();
+
+    // The child no longer has anything to share with, so it is charged in full
+    assertThat(cache.getHotBytes())
+        .isEqualTo(StateSizeEstimator.estimateSize(child.getState().getBackingNode()));
+  }
+
+  @Test
+  void shouldOnlyChargeChildStateForNodesNotSharedWithParent() {
+    final TieredStateCache cache = createCache(fullStateSize * 4, 0);
+    cache.put(genesis.getRoot(), StateAndBlockSummary.create(genesis));
+    asyncRunner.executeUntilDone();
+    final long genesisBytes = cache.getHotBytes();
+
+    final SignedBlockAndState child = blocks.get(0);
+    cache.put(child.getRoot(), StateAndBlockSummary.create(child));
+    asyncRunner.executeUntilDone();
+
+    assertThat(genesisBytes).isEqualTo(fullStateSize);
+    assertThat(cache.getHotBytes() - genesisBytes).isPositive().isLessThan(fullStateSize);
+  }
+
+  @Test
+  void shouldDemoteLeastRecentlyUsedStateToWarmTierWhenOverBudget() {
+    final TieredStateCache cache = createCache(fullStateSize, fullStateSize * 4);
+    cache.put(genesis.getRoot(), StateAndBlockSummary.create(genesis));
+    asyncRunner.executeUntilDone();
+    for (final SignedBlockAndState block : blocks) {
+      cache.put(block.getRoot(), StateAndBlockSummary.create(block));
+      asyncRunner.executeUntilDone();
+    }
+
+    assertThat(cache.isHot(genesis.getRoot())).isFalse();
+    assertThat(cache.isWarm(genesis.getRoot())).isTrue();
+    assertThat(cache.getWarmBytes()).isPositive();
+
+    assertThat(cache.get(genesis.getRoot())).isNull();
+    final Optional<SafeFuture<Optional<StateAndBlockSummary>>> loading =
+        cache.load(genesis.getRoot());
+    assertThat(loading).isPresent();
+    asyncRunner.executeUntilDone();
+
+    final StateAndBlockSummary result = safeJoin(loading.get()).orElseThrow();
+    assertThat(result.getState()).isEqualTo(genesis.getState());
+    assertThat(result.getRoot()).isEqualTo(genesis.getRoot());
+    assertThat(cache.isHot(genesis.getRoot())).isTrue();
+    assertThat(cache.isWarm(genesis.getRoot())).isFalse();
+    assertRequestCount("warm_hit", 1);
+  }
+
+  @Test
+  void shouldNotKeepParentHotByMeasuringChildAgainstIt() {
+    final TieredStateCache cache = createCache(fullStateSize, fullStateSize * 4);
+    cache.put(genesis.getRoot(), StateAndBlockSummary.create(genesis));
+    asyncRunner.executeUntilDone();
+    final SignedBlockAndState child = blocks.get(0);
+    cache.put(child.getRoot(), StateAndBlockSummary.create(child));
+    asyncRunner.executeUntilDone();
+
+    // The parent is only used as a baseline, so it is still the least recently used state
+    assertThat(cache.isHot(genesis.getRoot())).isFalse();
+    assertThat(cache.isWarm(genesis.getRoot())).isTrue();
+    assertThat(cache.isHot(child.getRoot())).isTrue();
+  }
+
+  @Test
+  void shouldDropDemotedStatesWhenWarmTierIsDisabled() {
+    final TieredStateCache cache = createCache(fullStateSize, 0);
+    cache.put(genesis.getRoot(), StateAndBlockSummary.create(genesis));
+    asyncRunner.executeUntilDone();
+    for (final SignedBlockAndState block : blocks) {
+      cache.put(block.getRoot(), StateAndBlockSummary.create(block));
+      asyncRunner.executeUntilDone();
+    }
+
+    assertThat(cache.get(genesis.getRoot())).isNull();
+    assertThat(cache.load(genesis.getRoot())).isEmpty();
+    assertThat(cache.getWarmBytes()).isZero();
+    assertRequestCount("miss", 1);
+  }
+
+  @Test
+  void shouldRemoveMatchingEntriesFromAllTiers() {
+    final TieredStateCache cache = createCache(fullStateSize, fullStateSize * 4);
+    cache.put(genesis.getRoot(), StateAndBlockSummary.create(genesis));
+    asyncRunner.executeUntilDone();
+    for (final SignedBlockAndState block : blocks) {
+      cache.put(block.getRoot(), StateAndBlockSummary.create(block));
+      asyncRunner.executeUntilDone();
+    }
+
+    cache.removeIf(root -> true);
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getHotBytes()).isZero();
+    assertThat(cache.getWarmBytes()).isZero();
+  }
+
+  private TieredStateCache createCache(final long hotMaxBytes, final long warmMaxBytes) {
+    return new TieredStateCache(
+        spec, asyncRunner, metricsSystem, METRICS_PREFIX, hotMaxBytes, warmMaxBytes);
+  }
+
+  private void assertRequestCount(final String result, final long expected) {
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.STORAGE, METRICS_PREFIX + "_cache_requests_total", result))
+        .isEqualTo(expected);
+  }
+}
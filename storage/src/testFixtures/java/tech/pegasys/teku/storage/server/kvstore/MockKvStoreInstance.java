@@ -202,6 +202,19 @@ public class MockKvStoreInstance implements KvStoreAccessor {
         .map(e -> columnKey(column, e));
   }
 
+  @Override
+  public <K extends Comparable<K>, V> Stream<ColumnEntry<K, Bytes>> streamValuesRaw(
+      final KvStoreColumn<K, V> column, final K from, final K to) {
+    assertOpen();
+    return columnData
+        .get(column)
+        .subMap(keyToBytes(column, from), true, keyToBytes(column, to), true)
+        .entrySet()
+        .stream()
+        .peek(value -> assertOpen())
+        .map(e -> ColumnEntry.create(columnKey(column, e.getKey()), e.getValue()));
+  }
+
   @Override
   public KvStoreTransaction startTransaction() {
     assertOpen();
@@ -104,6 +104,18 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
   private boolean storeNonCanonicalBlocksEnabled =
       StorageConfiguration.DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED;
 
+  @CommandLine.Option(
+      names = {"--Xdata-storage-data-column-sidecar-segments-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Store data column sidecars in append-only per-epoch segment files instead of the database",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean dataColumnSidecarSegmentStorageEnabled =
+      StorageConfiguration.DEFAULT_DATA_COLUMN_SIDECAR_SEGMENT_STORAGE_ENABLED;
+
   /**
    * Default value selected based on experimentation to minimise memory usage without affecting sync
    * time. Not that states later in the chain with more validators have more branches so need a
@@ -226,7 +238,8 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .blobsArchivePath(blobsArchivePath)
                 .retainedSlots(dataStorageRetainedSlots)
                 .statePruningInterval(Duration.ofSeconds(statePruningIntervalSeconds))
-                .statePruningLimit(statePruningLimit));
+                .statePruningLimit(statePruningLimit)
+                .dataColumnSidecarSegmentStorageEnabled(dataColumnSidecarSegmentStorageEnabled));
     builder.sync(
         b ->
             b.fetchAllHistoricBlocks(dataStorageMode.storesAllBlocks())
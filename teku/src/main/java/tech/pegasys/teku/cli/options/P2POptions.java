@@ -266,6 +266,17 @@ public class P2POptions {
       arity = "1")
   private Integer historicalSyncBatchSize = SyncConfig.DEFAULT_HISTORICAL_SYNC_BATCH_SIZE;
 
+  @Option(
+      names = {"--Xp2p-historical-sync-max-concurrent-batches"},
+      paramLabel = "<NUMBER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum number of historical block batches requested concurrently from different peers, while syncing historical data.",
+      hidden = true,
+      arity = "1")
+  private Integer historicalSyncMaxConcurrentBatches =
+      SyncConfig.DEFAULT_HISTORICAL_SYNC_MAX_CONCURRENT_BATCHES;
+
   @Option(
       names = {"--Xp2p-sync-batch-size"},
       paramLabel = "<NUMBER>",
@@ -431,6 +442,60 @@ public class P2POptions {
   private boolean batchVerifyStrictThreadLimitEnabled =
       P2PConfig.DEFAULT_BATCH_VERIFY_STRICT_THREAD_LIMIT_ENABLED;
 
+  @Option(
+      names = {"--Xp2p-batch-verify-signatures-stale-attestation-deadline"},
+      paramLabel = "<MILLISECONDS>",
+      description =
+          "Drop attestation signature verifications that have been queued for longer than this many milliseconds (0 to disable)",
+      arity = "1",
+      hidden = true)
+  private int batchVerifyStaleAttestationDeadlineMillis =
+      P2PConfig.DEFAULT_BATCH_VERIFY_STALE_ATTESTATION_DEADLINE_MILLIS;
+
+  @Option(
+      names = {"--Xp2p-gossip-topic-workers-enabled"},
+      paramLabel = "<BOOLEAN>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Process gossip messages on a dedicated worker pool per topic, ignoring messages when too many are queued or being validated",
+      arity = "0..1",
+      hidden = true,
+      fallbackValue = "true")
+  private boolean gossipTopicWorkersEnabled = P2PConfig.DEFAULT_GOSSIP_TOPIC_WORKERS_ENABLED;
+
+  @Option(
+      names = {"--Xp2p-gossip-topic-worker-threads"},
+      paramLabel = "<NUMBER>",
+      description = "Number of threads processing the gossip messages of each topic",
+      arity = "1",
+      hidden = true)
+  private int gossipTopicWorkerThreads = P2PConfig.DEFAULT_GOSSIP_TOPIC_WORKER_THREADS;
+
+  @Option(
+      names = {"--Xp2p-gossip-topic-worker-queue-size"},
+      paramLabel = "<NUMBER>",
+      description = "Maximum number of gossip messages queued or being validated per topic",
+      arity = "1",
+      hidden = true)
+  private int gossipTopicWorkerQueueSize = P2PConfig.DEFAULT_GOSSIP_TOPIC_WORKER_QUEUE_SIZE;
+
+  @Option(
+      names = {"--Xp2p-gossip-block-worker-threads"},
+      paramLabel = "<NUMBER>",
+      description = "Number of threads processing gossip blocks",
+      arity = "1",
+      hidden = true)
+  private int gossipBlockWorkerThreads = P2PConfig.DEFAULT_GOSSIP_BLOCK_WORKER_THREADS;
+
+  @Option(
+      names = {"--Xp2p-gossip-block-worker-thread-priority"},
+      paramLabel = "<NUMBER>",
+      description = "Thread priority (1-10) of the threads processing gossip blocks",
+      arity = "1",
+      hidden = true)
+  private int gossipBlockWorkerThreadPriority =
+      P2PConfig.DEFAULT_GOSSIP_BLOCK_WORKER_THREAD_PRIORITY;
+
   @Option(
       names = {"--p2p-discovery-site-local-addresses-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -530,6 +595,13 @@ public class P2POptions {
                   .batchVerifyMaxThreads(batchVerifyMaxThreads)
                   .batchVerifyMaxBatchSize(batchVerifyMaxBatchSize)
                   .batchVerifyStrictThreadLimitEnabled(batchVerifyStrictThreadLimitEnabled)
+                  .batchVerifyStaleAttestationDeadlineMillis(
+                      batchVerifyStaleAttestationDeadlineMillis)
+                  .gossipTopicWorkersEnabled(gossipTopicWorkersEnabled)
+                  .gossipTopicWorkerThreads(gossipTopicWorkerThreads)
+                  .gossipTopicWorkerQueueSize(gossipTopicWorkerQueueSize)
+                  .gossipBlockWorkerThreads(gossipBlockWorkerThreads)
+                  .gossipBlockWorkerThreadPriority(gossipBlockWorkerThreadPriority)
                   .targetSubnetSubscriberCount(p2pTargetSubnetSubscriberCount)
                   .isGossipScoringEnabled(gossipScoringEnabled)
                   .peerBlocksRateLimit(peerBlocksRateLimit)
@@ -613,6 +685,7 @@ public class P2POptions {
             s ->
                 s.isMultiPeerSyncEnabled(multiPeerSyncEnabled)
                     .historicalSyncBatchSize(historicalSyncBatchSize)
+                    .historicalSyncMaxConcurrentBatches(historicalSyncMaxConcurrentBatches)
                     .forwardSyncMaxBlocksPerMinute(forwardSyncBlocksRateLimit)
                     .forwardSyncMaxBlobSidecarsPerMinute(forwardSyncBlobSidecarsRateLimit)
                     .forwardSyncBatchSize(forwardSyncBatchSize)
@@ -20,6 +20,8 @@ import tech.pegasys.teku.config.TekuConfiguration;
 import tech.pegasys.teku.storage.store.StoreConfig;
 
 public class StoreOptions {
+  private static final long BYTES_PER_MB = 1024 * 1024;
+
   @Option(
       hidden = true,
       names = {"--Xhot-state-persistence-frequency"},
@@ -54,6 +56,24 @@ public class StoreOptions {
       arity = "1")
   private int epochStateCacheSize = StoreConfig.DEFAULT_EPOCH_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-cache-max-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Estimated memory in MiB to use for cached states. When set, replaces the state count limit from --Xstore-state-cache-size",
+      arity = "1")
+  private long stateCacheMaxMb = StoreConfig.DEFAULT_STATE_CACHE_MAX_BYTES / BYTES_PER_MB;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-warm-state-cache-max-mb"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Memory in MiB to use for compressed copies of states evicted from the state cache. Requires --Xstore-state-cache-max-mb",
+      arity = "1")
+  private long warmStateCacheMaxMb = StoreConfig.DEFAULT_WARM_STATE_CACHE_MAX_BYTES / BYTES_PER_MB;
+
   @Option(
       hidden = true,
       names = {"--Xstore-checkpoint-state-cache-size"},
@@ -86,6 +106,8 @@ public class StoreOptions {
             b.hotStatePersistenceFrequencyInEpochs(hotStatePersistenceFrequencyInEpochs)
                 .blockCacheSize(blockCacheSize)
                 .stateCacheSize(stateCacheSize)
+                .stateCacheMaxBytes(stateCacheMaxMb * BYTES_PER_MB)
+                .warmStateCacheMaxBytes(warmStateCacheMaxMb * BYTES_PER_MB)
                 .epochStateCacheSize(epochStateCacheSize)
                 .earliestAvailableBlockSlotFrequency(earliestAvailableBlockSlotQueryFrequency)
                 .checkpointStateCacheSize(checkpointStateCacheSize)
@@ -105,6 +105,17 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-http2-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Prefer HTTP/2 for requests to the external signer so that concurrent signing requests share a single multiplexed connection. Falls back to HTTP/1.1 when the signer doesn't support HTTP/2.",
+      fallbackValue = "true",
+      hidden = true,
+      arity = "0..1")
+  private boolean validatorExternalSignerHttp2Enabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -114,6 +125,7 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerUrl(parseValidatorExternalSignerUrl())
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
+                .validatorExternalSignerHttp2Enabled(validatorExternalSignerHttp2Enabled)
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
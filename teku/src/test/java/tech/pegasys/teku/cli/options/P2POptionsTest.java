@@ -309,6 +309,13 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(tekuConfiguration.sync().getHistoricalSyncBatchSize()).isEqualTo(10);
   }
 
+  @Test
+  public void historicalSyncMaxConcurrentBatches_shouldBeSettable() {
+    TekuConfiguration tekuConfiguration =
+        getTekuConfigurationFromArguments("--Xp2p-historical-sync-max-concurrent-batches", "4");
+    assertThat(tekuConfiguration.sync().getHistoricalSyncMaxConcurrentBatches()).isEqualTo(4);
+  }
+
   @Test
   public void forwardSyncBatchSize_shouldBeSettable() {
     TekuConfiguration tekuConfiguration =
@@ -444,6 +451,47 @@ public class P2POptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(tekuConfiguration.p2p().getBatchVerifyQueueCapacity()).isEqualTo(15_220);
   }
 
+  @Test
+  public void batchVerifyStaleAttestationDeadline_shouldBeDisabledByDefault() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.p2p().getBatchVerifyStaleAttestationDeadlineMillis()).isZero();
+  }
+
+  @Test
+  public void batchVerifyStaleAttestationDeadline_shouldBeSettable() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-batch-verify-signatures-stale-attestation-deadline", "4000");
+    assertThat(config.p2p().getBatchVerifyStaleAttestationDeadlineMillis()).isEqualTo(4000);
+  }
+
+  @Test
+  public void gossipTopicWorkers_shouldBeDisabledByDefault() {
+    final TekuConfiguration config = getTekuConfigurationFromArguments();
+    assertThat(config.p2p().isGossipTopicWorkersEnabled()).isFalse();
+    assertThat(config.p2p().getGossipBlockWorkerThreadPriority()).isEqualTo(Thread.MAX_PRIORITY);
+  }
+
+  @Test
+  public void gossipTopicWorkers_shouldBeConfigurable() {
+    final TekuConfiguration config =
+        getTekuConfigurationFromArguments(
+            "--Xp2p-gossip-topic-workers-enabled",
+            "--Xp2p-gossip-topic-worker-threads",
+            "3",
+            "--Xp2p-gossip-topic-worker-queue-size",
+            "100",
+            "--Xp2p-gossip-block-worker-threads",
+            "4",
+            "--Xp2p-gossip-block-worker-thread-priority",
+            "7");
+    assertThat(config.p2p().isGossipTopicWorkersEnabled()).isTrue();
+    assertThat(config.p2p().getGossipTopicWorkerThreads()).isEqualTo(3);
+    assertThat(config.p2p().getGossipTopicWorkerQueueSize()).isEqualTo(100);
+    assertThat(config.p2p().getGossipBlockWorkerThreads()).isEqualTo(4);
+    assertThat(config.p2p().getGossipBlockWorkerThreadPriority()).isEqualTo(7);
+  }
+
   @Test
   public void floodPublishMaxMessageSizeThreshold_defaultIsSetCorrectly() {
     final TekuConfiguration config = getTekuConfigurationFromArguments();
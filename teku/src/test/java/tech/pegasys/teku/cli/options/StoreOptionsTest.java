@@ -62,4 +62,23 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(output).isNotEmpty();
     assertThat(output).contains("Invalid value");
   }
+
+  @Test
+  public void stateCacheMaxMb_shouldDefaultToDisabled() {
+    final StoreConfig storeConfig =
+        getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(storeConfig.getStateCacheMaxBytes()).isZero();
+    assertThat(storeConfig.getWarmStateCacheMaxBytes()).isZero();
+  }
+
+  @Test
+  public void stateCacheMaxMb_shouldRespectCLIArgs() {
+    final String[] args = {
+      "--Xstore-state-cache-max-mb", "512", "--Xstore-warm-state-cache-max-mb", "256"
+    };
+    final StoreConfig storeConfig =
+        getTekuConfigurationFromArguments(args).beaconChain().storeConfig();
+    assertThat(storeConfig.getStateCacheMaxBytes()).isEqualTo(512L * 1024 * 1024);
+    assertThat(storeConfig.getWarmStateCacheMaxBytes()).isEqualTo(256L * 1024 * 1024);
+  }
 }
@@ -63,6 +63,22 @@ public class ValidatorOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(config.getValidatorExternalSignerConcurrentRequestLimit()).isEqualTo(123);
   }
 
+  @Test
+  public void shouldReadValidatorExternalSignerHttp2Enabled() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments("--Xvalidators-external-signer-http2-enabled")
+            .validatorClient()
+            .getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isTrue();
+  }
+
+  @Test
+  public void validatorExternalSignerHttp2_shouldBeDisabledByDefault() {
+    final ValidatorConfig config =
+        getTekuConfigurationFromArguments().validatorClient().getValidatorConfig();
+    assertThat(config.isValidatorExternalSignerHttp2Enabled()).isFalse();
+  }
+
   @Test
   public void graffiti_shouldBeEmptyByDefault() {
     final ValidatorConfig config =
@@ -58,6 +58,7 @@ public class ValidatorConfig {
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE_ALL_SUBNETS = 60_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 32;
+  public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED = true;
   public static final boolean DEFAULT_GENERATE_EARLY_ATTESTATIONS = true;
@@ -88,6 +89,7 @@ public class ValidatorConfig {
   private final boolean validatorKeystoreLockingEnabled;
   private final Optional<List<URI>> beaconNodeApiEndpoints;
   private final int validatorExternalSignerConcurrentRequestLimit;
+  private final boolean validatorExternalSignerHttp2Enabled;
   private final boolean generateEarlyAttestations;
   private final Optional<Eth1Address> proposerDefaultFeeRecipient;
   private final Optional<String> proposerConfigSource;
@@ -131,6 +133,7 @@ public class ValidatorConfig {
       final boolean validatorKeystoreLockingEnabled,
       final boolean validatorExternalSignerSlashingProtectionEnabled,
       final int validatorExternalSignerConcurrentRequestLimit,
+      final boolean validatorExternalSignerHttp2Enabled,
       final boolean generateEarlyAttestations,
       final Optional<Eth1Address> proposerDefaultFeeRecipient,
       final Optional<String> proposerConfigSource,
@@ -173,6 +176,7 @@ public class ValidatorConfig {
         validatorExternalSignerSlashingProtectionEnabled;
     this.validatorExternalSignerConcurrentRequestLimit =
         validatorExternalSignerConcurrentRequestLimit;
+    this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
     this.generateEarlyAttestations = generateEarlyAttestations;
     this.proposerDefaultFeeRecipient = proposerDefaultFeeRecipient;
     this.proposerConfigSource = proposerConfigSource;
@@ -239,6 +243,10 @@ public class ValidatorConfig {
     return validatorExternalSignerConcurrentRequestLimit;
   }
 
+  public boolean isValidatorExternalSignerHttp2Enabled() {
+    return validatorExternalSignerHttp2Enabled;
+  }
+
   public Pair<Path, Path> getValidatorExternalSignerKeystorePasswordFilePair() {
     return Pair.of(validatorExternalSignerKeystore, validatorExternalSignerKeystorePasswordFile);
   }
@@ -378,6 +386,8 @@ public class ValidatorConfig {
     private Optional<String> validatorExternalSignerUserInfo = Optional.empty();
     private int validatorExternalSignerConcurrentRequestLimit =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+    private boolean validatorExternalSignerHttp2Enabled =
+        DEFAULT_VALIDATOR_EXTERNAL_SIGNER_HTTP2_ENABLED;
     private Duration validatorExternalSignerTimeout = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT;
     private Path validatorExternalSignerKeystore;
     private Path validatorExternalSignerKeystorePasswordFile;
@@ -478,6 +488,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorExternalSignerHttp2Enabled(
+        final boolean validatorExternalSignerHttp2Enabled) {
+      this.validatorExternalSignerHttp2Enabled = validatorExternalSignerHttp2Enabled;
+      return this;
+    }
+
     public Builder validatorExternalSignerKeystore(final Path validatorExternalSignerKeystore) {
       this.validatorExternalSignerKeystore = validatorExternalSignerKeystore;
       return this;
@@ -704,6 +720,7 @@ public class ValidatorConfig {
           validatorKeystoreLockingEnabled,
           validatorExternalSignerSlashingProtectionEnabled,
           validatorExternalSignerConcurrentRequestLimit,
+          validatorExternalSignerHttp2Enabled,
           generateEarlyAttestations,
           proposerDefaultFeeRecipient,
           proposerConfigSource,
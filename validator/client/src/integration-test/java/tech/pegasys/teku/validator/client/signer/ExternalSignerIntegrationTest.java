@@ -31,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.mockserver.model.Delay;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -180,6 +181,12 @@ public class ExternalSignerIntegrationTest extends AbstractExternalSignerIntegra
         getSpec().getGenesisSchemaDefinitions());
 
     validateMetrics(metricsSystem, 1, 0, 0);
+    assertThat(
+            metricsSystem
+                .getLabelledOperationTimer(
+                    TekuMetricCategory.VALIDATOR, "external_signer_request_time")
+                .getDurations(SignType.ATTESTATION.getName()))
+        .hasSize(1);
   }
 
   @Test
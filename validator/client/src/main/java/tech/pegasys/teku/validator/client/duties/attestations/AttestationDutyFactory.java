@@ -26,6 +26,9 @@ import tech.pegasys.teku.validator.client.duties.ValidatorDutyMetrics;
 public class AttestationDutyFactory
     implements DutyFactory<AttestationProductionDuty, AggregationDuty> {
 
+  // Publish signed attestations in chunks so large validator sets don't wait for the last key
+  static final int ATTESTATION_SEND_BATCH_SIZE = 256;
+
   private final Spec spec;
   private final ForkProvider forkProvider;
   private final ValidatorApiChannel validatorApiChannel;
@@ -53,7 +56,8 @@ public class AttestationDutyFactory
         slot,
         forkProvider,
         validatorApiChannel,
-        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
+        new BatchAttestationSendingStrategy<>(
+            validatorApiChannel::sendSignedAttestations, ATTESTATION_SEND_BATCH_SIZE),
         validatorDutyMetrics);
   }
 
@@ -13,6 +13,9 @@
 
 package tech.pegasys.teku.validator.client.duties.attestations;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -23,18 +26,86 @@ import tech.pegasys.teku.validator.client.duties.ProductionResult;
 
 public class BatchAttestationSendingStrategy<T> implements SendingStrategy<T> {
   private final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction;
+  private final int maxBatchSize;
 
   public BatchAttestationSendingStrategy(
       final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction) {
+    this(sendFunction, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a strategy which sends a batch as soon as {@code maxBatchSize} messages have been
+   * produced, rather than waiting for every message, so the first messages are published while
+   * later ones are still being signed.
+   */
+  public BatchAttestationSendingStrategy(
+      final Function<List<T>, SafeFuture<List<SubmitDataError>>> sendFunction,
+      final int maxBatchSize) {
+    checkArgument(maxBatchSize > 0, "Max batch size must be positive");
     this.sendFunction = sendFunction;
+    this.maxBatchSize = maxBatchSize;
   }
 
   @Override
   public SafeFuture<DutyResult> send(final Stream<SafeFuture<ProductionResult<T>>> attestations) {
-    return SafeFuture.collectAll(attestations).thenCompose(this::sendAttestationsAsBatch);
+    final List<SafeFuture<ProductionResult<T>>> productionResults = attestations.toList();
+    if (productionResults.size() <= maxBatchSize) {
+      return SafeFuture.collectAll(productionResults.stream())
+          .thenCompose(this::sendAttestationsAsBatch);
+    }
+    return new ChunkedSender().send(productionResults);
   }
 
   private SafeFuture<DutyResult> sendAttestationsAsBatch(final List<ProductionResult<T>> results) {
     return ProductionResult.send(results, sendFunction);
   }
+
+  private class ChunkedSender {
+    private final List<SafeFuture<DutyResult>> sentBatches = new ArrayList<>();
+    private List<ProductionResult<T>> pendingResults = new ArrayList<>(maxBatchSize);
+
+    SafeFuture<DutyResult> send(final List<SafeFuture<ProductionResult<T>>> productionResults) {
+      // Depend on the buffering stages, not the production results, so every result has been
+      // added to a batch before the final flush
+      final SafeFuture<Void> allBuffered =
+          SafeFuture.allOf(
+              productionResults.stream()
+                  .<SafeFuture<?>>map(result -> result.thenAccept(this::onProduced)));
+      return allBuffered.thenCompose(__ -> flushRemaining());
+    }
+
+    private void onProduced(final ProductionResult<T> result) {
+      final List<ProductionResult<T>> batch;
+      synchronized (this) {
+        pendingResults.add(result);
+        if (pendingResults.size() < maxBatchSize) {
+          return;
+        }
+        batch = pendingResults;
+        pendingResults = new ArrayList<>(maxBatchSize);
+      }
+      sendBatch(batch);
+    }
+
+    private SafeFuture<DutyResult> flushRemaining() {
+      final List<SafeFuture<DutyResult>> batches;
+      synchronized (this) {
+        if (!pendingResults.isEmpty()) {
+          sentBatches.add(sendAttestationsAsBatch(pendingResults));
+          pendingResults = new ArrayList<>();
+        }
+        batches = List.copyOf(sentBatches);
+      }
+      return SafeFuture.collectAll(batches.stream())
+          .thenApply(
+              results -> results.stream().reduce(DutyResult::combine).orElse(DutyResult.NO_OP));
+    }
+
+    private void sendBatch(final List<ProductionResult<T>> batch) {
+      final SafeFuture<DutyResult> sent = sendAttestationsAsBatch(batch);
+      synchronized (this) {
+        sentBatches.add(sent);
+      }
+    }
+  }
 }
@@ -52,7 +52,14 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
 
   @Override
   public HttpClient get() {
-    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+    // HTTP/2 multiplexes concurrent signing requests over one connection instead of opening a
+    // connection per in-flight request, the client falls back to HTTP/1.1 if the signer can't
+    // negotiate HTTP/2
+    final HttpClient.Version version =
+        validatorConfig.isValidatorExternalSignerHttp2Enabled()
+            ? HttpClient.Version.HTTP_2
+            : HttpClient.Version.HTTP_1_1;
+    final HttpClient.Builder builder = HttpClient.newBuilder().version(version);
     if (isTLSEnabled()) {
       validatorConfig
           .getValidatorExternalSignerUserInfo()
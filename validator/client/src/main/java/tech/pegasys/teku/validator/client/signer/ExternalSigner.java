@@ -37,6 +37,7 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -80,6 +81,7 @@ public class ExternalSigner implements Signer {
   private final Counter successCounter;
   private final Counter failedCounter;
   private final Counter timeoutCounter;
+  private final LabelledMetric<OperationTimer> requestTimer;
 
   public ExternalSigner(
       final Spec spec,
@@ -106,6 +108,12 @@ public class ExternalSigner implements Signer {
     successCounter = labelledCounter.labels("success");
     failedCounter = labelledCounter.labels("failed");
     timeoutCounter = labelledCounter.labels("timeout");
+    requestTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_request_time",
+            "Time taken for the external signer to respond to a signing request",
+            "type");
     this.schemaDefinitionCache = new SchemaDefinitionCache(spec);
   }
 
@@ -280,6 +288,8 @@ public class ExternalSigner implements Signer {
       final Map<String, Object> metadata,
       final Supplier<String> slashableMessage) {
     final String publicKey = blsPublicKey.toBytesCompressed().toString();
+    final OperationTimer.TimingContext timingContext =
+        requestTimer.labels(type.getName()).startTimer();
     return SafeFuture.of(
             () -> {
               final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
@@ -299,7 +309,8 @@ public class ExternalSigner implements Signer {
                           this.getBlsSignatureResponder(
                               uri, type, response, error, slashableMessage));
             })
-        .whenComplete(this::recordMetrics);
+        .whenComplete(this::recordMetrics)
+        .alwaysRun(timingContext::stopTimer);
   }
 
   private String createSigningRequestBody(
@@ -17,7 +17,9 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 
@@ -81,4 +83,56 @@ class BatchAttestationSendingStrategyTest {
     verify(validatorApiChannel)
         .sendSignedAttestations(List.of(attestation1, attestation2, attestation3));
   }
+
+  @Test
+  void shouldSendChunkAsSoonAsMaxBatchSizeIsProduced() {
+    final BatchAttestationSendingStrategy<Attestation> chunkedStrategy =
+        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations, 2);
+    final SafeFuture<ProductionResult<Attestation>> future1 = new SafeFuture<>();
+    final SafeFuture<ProductionResult<Attestation>> future2 = new SafeFuture<>();
+    final SafeFuture<ProductionResult<Attestation>> future3 = new SafeFuture<>();
+
+    final Attestation attestation1 = dataStructureUtil.randomAttestation();
+    final Attestation attestation2 = dataStructureUtil.randomAttestation();
+    final Attestation attestation3 = dataStructureUtil.randomAttestation();
+
+    final SafeFuture<DutyResult> result =
+        chunkedStrategy.send(Stream.of(future1, future2, future3));
+
+    future3.complete(success(attestation3));
+    verify(validatorApiChannel, never()).sendSignedAttestations(anyList());
+
+    future1.complete(success(attestation1));
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation3, attestation1));
+    assertThat(result).isNotDone();
+
+    future2.complete(success(attestation2));
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation2));
+    verifyNoMoreInteractions(validatorApiChannel);
+    assertThat(result).isCompleted();
+    assertThat(safeJoin(result).getSuccessCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldSendSingleBatchWhenWithinMaxBatchSize() {
+    final BatchAttestationSendingStrategy<Attestation> chunkedStrategy =
+        new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations, 2);
+    final Attestation attestation1 = dataStructureUtil.randomAttestation();
+    final Attestation attestation2 = dataStructureUtil.randomAttestation();
+
+    final SafeFuture<DutyResult> result =
+        chunkedStrategy.send(
+            Stream.of(
+                SafeFuture.completedFuture(success(attestation1)),
+                SafeFuture.completedFuture(success(attestation2))));
+
+    assertThat(safeJoin(result).getSuccessCount()).isEqualTo(2);
+    verify(validatorApiChannel).sendSignedAttestations(List.of(attestation1, attestation2));
+    verifyNoMoreInteractions(validatorApiChannel);
+  }
+
+  private ProductionResult<Attestation> success(final Attestation attestation) {
+    return ProductionResult.success(
+        dataStructureUtil.randomPublicKey(), dataStructureUtil.randomBytes32(), attestation);
+  }
 }